@@ -0,0 +1,25 @@
+package la4am12.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 12:03:11
+ * @description : runs the benchmarks with the GC profiler, so allocation rate (gc.alloc.rate.norm) is reported per operation
+ */
+public class BenchmarkRunner {
+	/**
+	 * @param args usual JMH command line, e.g. {@code OptimizerBenchmark.ga -p cloudletNum=3000 -p vmNum=9}
+	 */
+	public static void main(String[] args) throws Exception {
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
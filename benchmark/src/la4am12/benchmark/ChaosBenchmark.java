@@ -0,0 +1,53 @@
+package la4am12.benchmark;
+
+import la4am12.chaos.ChaosSequence;
+import la4am12.chaos.ChaoticMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-22 11:02:47
+ * @description : throughput of the chaotic maps, filling one individual's worth of values in bulk vs value by value;
+ * distribution quality is printed by {@link la4am12.chaos.ChaosReport}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChaosBenchmark {
+	@Param({"TENT", "CHEBYSHEV", "CIRCLE", "GAUSS_MOUSE", "ITERATIVE", "LOGISTIC", "PIECEWISE", "SINE", "SINGER", "SINUSOIDAL",
+			"SPM", "TENT_LOGISTIC_COSINE", "SINE_TENT_COSINE", "LOGISTIC_SINE_COSINE", "LOGISTIC_TENT", "CUBIC",
+			"BERNOULLI", "KENK"})
+	public ChaoticMap map;
+
+	@Param({"3000"})
+	public int length;
+
+	private ChaosSequence sequence;
+	private double[] out;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		sequence = new ChaosSequence(map, new Random(0));
+		out = new double[length];
+	}
+
+	@Benchmark
+	public double[] fill() {
+		sequence.fill(out);
+		return out;
+	}
+
+	@Benchmark
+	public double[] next() {
+		for (int i = 0; i < length; i++) {
+			out[i] = sequence.next();
+		}
+		return out;
+	}
+}
@@ -0,0 +1,49 @@
+package la4am12.benchmark;
+
+import la4am12.datacenter.Scheduler;
+import la4am12.random.RandomScheduler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 11:45:52
+ * @description : cost of one call of each Scheduler estimator on a random assignment
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EstimatorBenchmark extends WorkloadState {
+	private Scheduler scheduler;
+	private int[] cloudletToVm;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		createWorkload();
+		scheduler = new RandomScheduler(cloudletList, vmList, fleet);
+		cloudletToVm = scheduler.allocate();
+	}
+
+	@Benchmark
+	public double estimateMakespan() {
+		return scheduler.estimateMakespan(cloudletToVm);
+	}
+
+	@Benchmark
+	public double estimateLB() {
+		return scheduler.estimateLB(cloudletToVm);
+	}
+
+	@Benchmark
+	public double estimateCost() {
+		return scheduler.estimateCost(cloudletToVm);
+	}
+
+	@Benchmark
+	public double estimateFitness() {
+		return scheduler.estimateFitness(cloudletToVm);
+	}
+}
@@ -0,0 +1,31 @@
+package la4am12.benchmark;
+
+import la4am12.minmin.MinMinScheduler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 11:58:40
+ * @description : cost of a full MinMin allocation
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MinMinBenchmark extends WorkloadState {
+	private MinMinScheduler scheduler;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		createWorkload();
+		scheduler = new MinMinScheduler(cloudletList, vmList, fleet);
+	}
+
+	@Benchmark
+	public int[] allocate() {
+		return scheduler.allocate();
+	}
+}
@@ -0,0 +1,114 @@
+package la4am12.benchmark;
+
+import la4am12.datacenter.Scheduler;
+import la4am12.ga.GeneticAlgorithm;
+import la4am12.genome.CompactGeneticAlgorithm;
+import la4am12.genome.Genomes;
+import la4am12.hwga.HWGA;
+import la4am12.offheap.OffHeapGeneticAlgorithm;
+import la4am12.random.RandomScheduler;
+import la4am12.tentgaga.TentGeneticAlgorithm;
+import la4am12.woa.WhaleOptimizationAlgorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 11:52:17
+ * @description : cost of one generation (iteration) of each optimizer, using the same settings as its scheduler
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OptimizerBenchmark extends WorkloadState {
+	private static final int POPULATION = 100;
+	private static final int MAX_ITER = 100;
+	private static final double CROSSOVER_RATE = 0.6;
+	private static final double MUTATION_RATE = 0.005;
+	private static final double TOURNAMENT_RATIO = 0.15;
+	private static final double PHASE_OUT_RATIO = 0.15;
+
+	private GeneticAlgorithm ga;
+	private OffHeapGeneticAlgorithm offHeapGa;
+	private CompactGeneticAlgorithm compactGa;
+	private TentGeneticAlgorithm tentGa;
+	private WhaleOptimizationAlgorithm woa;
+	private HWGA hwga;
+	private int iter;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		createWorkload();
+		Scheduler scheduler = new RandomScheduler(cloudletList, vmList, fleet);
+		int tournamentSize = (int) (cloudletNum * TOURNAMENT_RATIO);
+
+		ga = new GeneticAlgorithm(scheduler::estimateFitness, POPULATION, CROSSOVER_RATE, MUTATION_RATE, vmNum, cloudletNum, tournamentSize, MAX_ITER);
+		ga.initializePopulation();
+		ga.evaluatePopulation();
+
+		offHeapGa = new OffHeapGeneticAlgorithm(scheduler::estimateFitness, POPULATION, CROSSOVER_RATE, MUTATION_RATE, vmNum, cloudletNum, tournamentSize, MAX_ITER);
+		offHeapGa.initializePopulation();
+		offHeapGa.evaluatePopulation();
+
+		compactGa = new CompactGeneticAlgorithm(Genomes.forFitness(scheduler, POPULATION, cloudletNum, vmNum), CROSSOVER_RATE, MUTATION_RATE, tournamentSize, MAX_ITER);
+		compactGa.initializePopulation();
+		compactGa.evaluatePopulation();
+
+		tentGa = new TentGeneticAlgorithm(scheduler::estimateFitness, POPULATION, CROSSOVER_RATE, MUTATION_RATE, vmNum, cloudletNum, tournamentSize, MAX_ITER);
+		tentGa.initializePopulation();
+		tentGa.evaluatePopulation();
+
+		woa = new WhaleOptimizationAlgorithm(scheduler::estimateFitness, POPULATION, 0, vmNum - 1, cloudletNum, MAX_ITER, true);
+
+		hwga = new HWGA(scheduler::estimateMakespan, POPULATION, vmNum - 1, cloudletNum, MAX_ITER, TOURNAMENT_RATIO, CROSSOVER_RATE, MUTATION_RATE, PHASE_OUT_RATIO);
+		hwga.initializePopulation();
+		hwga.evaluatePopulation();
+	}
+
+	private int nextIter() {
+		iter = (iter + 1) % MAX_ITER;
+		return iter;
+	}
+
+	@Benchmark
+	public void gaGeneration() {
+		ga.evolvePopulation();
+		ga.evaluatePopulation();
+	}
+
+	@Benchmark
+	public void offHeapGaGeneration() {
+		offHeapGa.evolvePopulation();
+		offHeapGa.evaluatePopulation();
+	}
+
+	@Benchmark
+	public void compactGaGeneration() {
+		compactGa.evolvePopulation();
+		compactGa.evaluatePopulation();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		offHeapGa.close();
+	}
+
+	@Benchmark
+	public void tentGaGeneration() {
+		tentGa.evolvePopulation();
+		tentGa.evaluatePopulation();
+	}
+
+	@Benchmark
+	public void woaIteration() {
+		woa.iterate(nextIter());
+	}
+
+	@Benchmark
+	public void hwgaIteration() {
+		hwga.iterate(nextIter());
+	}
+}
@@ -0,0 +1,41 @@
+package la4am12.benchmark;
+
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Workload;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 11:40:08
+ * @description : problem instance shared by the benchmarks, parameterized over cloudlet and vm counts
+ */
+@State(Scope.Benchmark)
+public class WorkloadState {
+	@Param({"300", "3000", "30000"})
+	public int cloudletNum;
+
+	@Param({"9", "90", "900"})
+	public int vmNum;
+
+	protected Fleet fleet;
+	protected List<Cloudlet> cloudletList;
+	protected List<Vm> vmList;
+
+	/**
+	 * builds a fixed-seed instance, so every fork sees the same workload
+	 */
+	protected void createWorkload() {
+		Log.setDisabled(true);
+		fleet = Fleet.generate(3, vmNum);
+		vmList = Workload.createVms(0, fleet);
+		cloudletList = Workload.createCloudlets(0, cloudletNum, new Random(0));
+	}
+}
@@ -0,0 +1,85 @@
+package la4am12.telemetry.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Workload;
+import la4am12.ga.GAScheduler;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-25 10:12:40
+ * @description : records a small GA run with conf/scheduling.jfc and checks the scheduling events read back from it
+ */
+class RecordingSummaryTest {
+	private static final int CLOUDLET_NUM = 200;
+	private static final int VM_NUM = 9;
+	private static final int GENERATIONS = 20;
+
+	@Test
+	void summarizesAllocateIterationAndBatchEvents(@TempDir Path dir) throws Exception {
+		Log.setDisabled(true);
+		Fleet fleet = Fleet.generate(3, VM_NUM);
+		List<Vm> vmList = Workload.createVms(0, fleet);
+		List<Cloudlet> cloudletList = Workload.createCloudlets(0, CLOUDLET_NUM, new Random(0));
+		GAScheduler scheduler = new GAScheduler(cloudletList, vmList, fleet, GAScheduler.DEFAULTS.withMaxGenerations(GENERATIONS));
+		scheduler.setSeed(0);
+
+		Path file = dir.resolve("scheduling.jfr");
+		// surefire runs in benchmark/, the settings live in the repository's conf/
+		Configuration settings = Configuration.create(Paths.get("..", "conf", "scheduling.jfc"));
+		try (Recording recording = new Recording(settings)) {
+			recording.start();
+			scheduler.allocateAndRecord();
+			recording.stop();
+			recording.dump(file);
+		}
+		long evaluations = scheduler.getEvaluations();
+		assertTrue(evaluations > 0);
+
+		Map<String, RecordingSummary.Row> rows = RecordingSummary.summarize(file);
+		RecordingSummary.Row allocate = rows.get("Allocate / GAScheduler");
+		assertNotNull(allocate, "no la4am12.Allocate event for GAScheduler in " + rows.keySet());
+		assertEquals(1, allocate.getCount());
+		assertEquals(evaluations, allocate.getEvaluations());
+
+		// generation 0 is the initial population
+		RecordingSummary.Row iterations = rows.get("OptimizerIteration / GA");
+		assertNotNull(iterations, "no la4am12.OptimizerIteration event for GA in " + rows.keySet());
+		assertEquals(GENERATIONS + 1, iterations.getCount());
+		assertEquals(evaluations, iterations.getEvaluations());
+
+		RecordingSummary.Row batches = rows.get("EvaluationBatch / GA");
+		assertNotNull(batches, "no la4am12.EvaluationBatch event for GA in " + rows.keySet());
+		assertEquals(GENERATIONS + 1, batches.getCount());
+		assertEquals(evaluations, batches.getEvaluations());
+
+		int scheduling = 0;
+		for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+			if (!event.getEventType().getName().startsWith("la4am12.")) {
+				continue;
+			}
+			scheduling++;
+			assertEquals(CLOUDLET_NUM, event.getInt("cloudletNum"), event.getEventType().getName());
+			assertEquals(VM_NUM, event.getInt("vmNum"), event.getEventType().getName());
+		}
+		assertEquals(1 + 2 * (GENERATIONS + 1), scheduling);
+	}
+}
@@ -1,8 +1,10 @@
 package la4am12;
 
 import la4am12.datacenter.Constants;
+import la4am12.datacenter.Fleet;
 import la4am12.datacenter.Scheduler;
-import la4am12.datacenter.Type;
+import la4am12.datacenter.VmClass;
+import la4am12.datacenter.Workload;
 import la4am12.ga.GAScheduler;
 import la4am12.hwga.HWGAScheduler;
 import la4am12.minmin.MinMinScheduler;
@@ -14,6 +16,7 @@ import org.cloudbus.cloudsim.provisioners.BwProvisionerSimple;
 import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
 import org.cloudbus.cloudsim.provisioners.RamProvisionerSimple;
 
+import java.nio.file.Paths;
 import java.text.DecimalFormat;
 import java.util.*;
 
@@ -37,7 +40,7 @@ public class Main {
      * 程序的主入口点
      * 初始化云模拟环境，并设置数据中心、虚拟机和云任务
      *
-     * @param args 命令行参数
+     * @param args 命令行参数，可选的第一个参数为机群配置文件路径（见 {@link Fleet#load}），缺省使用默认机群
      * @throws Exception 如果模拟过程中发生错误
      */
     public static void main(String[] args) throws Exception {
@@ -47,27 +50,34 @@ public class Main {
         // 初始化CloudSim库，设置用户数量、日历和是否启用日志记录
         CloudSim.init(NUM_USER, Calendar.getInstance(), false);
 
-        // 创建三个不同级别的数据中心
-        Datacenter datacenter0 = createDatacenter("Datacenter0", Type.LOW);
-        Datacenter datacenter1 = createDatacenter("Datacenter1", Type.MEDIUM);
-        Datacenter datacenter2 = createDatacenter("Datacenter2", Type.HIGH);
+        // 加载机群配置
+        Fleet fleet = args.length > 0 ? Fleet.load(Paths.get(args[0])) : Fleet.defaultFleet();
+        Log.printLine("Using " + fleet);
+
+        // 每个虚拟机等级创建一个数据中心
+        List<VmClass> vmClasses = fleet.getClasses();
+        for (int i = 0; i < vmClasses.size(); i++) {
+            if (vmClasses.get(i).getCount() > 0) {
+                createDatacenter("Datacenter" + i, vmClasses.get(i));
+            }
+        }
 
         // 创建一个数据中经纪人
         DatacenterBroker broker = new DatacenterBroker("Broker");
         int brokerId = broker.getId();
 
         // 创建虚拟机列表并提交给经纪人
-        List<Vm> vmList = createVms(brokerId);
+        List<Vm> vmList = Workload.createVms(brokerId, fleet);
         broker.submitVmList(vmList);
 
         // 创建云任务列表并提交给经纪人
-        List<Cloudlet> cloudletList = createCloudlets(brokerId);
+        List<Cloudlet> cloudletList = Workload.createCloudlets(brokerId, CLOUDLET_N, R);
         broker.submitCloudletList(cloudletList);
 
         // 选择并初始化调度器
         // 可以选择不同的调度算法，如随机调度、MinMin、MaxMin、鲸鱼优化算法、遗传算法等
         // 这里选择了一种假设的高性能遗传算法调度器
-        Scheduler scheduler = new TentGAScheduler(cloudletList, vmList);
+        Scheduler scheduler = new TentGAScheduler(cloudletList, vmList, fleet);
         // 执行调度
         scheduler.schedule();
 
@@ -78,49 +88,24 @@ public class Main {
 
         // 获取并打印完成的云任务列表
         List<Cloudlet> newList = broker.getCloudletReceivedList();
-        printCloudletList(newList);
+        printCloudletList(newList, fleet.size());
     }
 
     /**
-     * 根据指定的类型创建并配置数据中心。
+     * 为一个虚拟机等级创建并配置数据中心，容量足够容纳该等级的全部虚拟机。
      *
-     * @param name 数据中心的名称。
-     * @param type 数据中心的类型，决定了其配置。
+     * @param name    数据中心的名称。
+     * @param vmClass 数据中心承载的虚拟机等级。
      * @return 返回创建的数据中心对象。
-     * @throws Exception 如果提供了无效的数据中心类型，则抛出异常。
+     * @throws Exception 如果创建数据中心失败。
      */
-    private static Datacenter createDatacenter(String name, Type type) throws Exception {
-        int ram, bw, mips;
-        long storage;
-        double costPerSec;
-
-        // 根据数据中心的类型确定其配置。
-        switch (type) {
-            case LOW:
-                ram = Constants.RAM * Constants.L_VM_N;
-                bw = Constants.BW * Constants.L_VM_N;
-                mips = Constants.L_MIPS * Constants.L_VM_N;
-                storage = Constants.STORAGE * Constants.L_VM_N;
-                costPerSec = Constants.L_PRICE;
-                break;
-            case MEDIUM:
-                ram = Constants.RAM * Constants.M_VM_N;
-                bw = Constants.BW * Constants.M_VM_N;
-                mips = Constants.M_MIPS * Constants.M_VM_N;
-                storage = Constants.STORAGE * Constants.M_VM_N;
-                costPerSec = Constants.M_PRICE;
-                break;
-            case HIGH:
-                ram = Constants.RAM * Constants.H_VM_N;
-                bw = Constants.BW * Constants.H_VM_N;
-                mips = Constants.H_MIPS * Constants.H_VM_N;
-                storage = Constants.STORAGE * Constants.H_VM_N;
-                costPerSec = Constants.H_PRICE;
-                break;
-            default:
-                // 如果数据中心类型无效，抛出异常。
-                throw new Exception("无效的数据中心类型");
-        }
+    private static Datacenter createDatacenter(String name, VmClass vmClass) throws Exception {
+        int vmN = vmClass.getCount();
+        int ram = Constants.RAM * vmN;
+        int bw = Constants.BW * vmN;
+        int mips = vmClass.getMips() * vmN;
+        long storage = Constants.STORAGE * vmN;
+        double costPerSec = vmClass.getPrice();
 
         // 初始化主机列表和处理元素列表。
         List<Host> hostList = new ArrayList<>();
@@ -160,82 +145,15 @@ public class Main {
     }
 
 
-    /**
-     * 创建并返回一个包含多个虚拟机（Vm）的列表
-     * 该方法根据不同的虚拟机配置（如MIPS、RAM等），为用户创建指定数量的虚拟机
-     *
-     * @param userId 用户ID，用于标识虚拟机属于哪个用户
-     * @return 包含创建的虚拟机的列表
-     */
-    private static List<Vm> createVms(int userId) {
-        List<Vm> vmList = new ArrayList<>();
-
-        int vmId = 0;
-        int pesNumber = 1; // number of cpus
-        String vmm = "Xen"; // VMM name
-
-        // 创建低配置虚拟机
-        for (int i = 0; i < Constants.L_VM_N; i++) {
-            vmList.add(new Vm(vmId++, userId, Constants.L_MIPS, pesNumber, Constants.RAM, Constants.BW, Constants.IMAGE_SIZE, vmm, new CloudletSchedulerSpaceShared()));
-        }
-
-        // 创建中配置虚拟机
-        for (int i = 0; i < Constants.M_VM_N; i++) {
-            vmList.add(new Vm(vmId++, userId, Constants.M_MIPS, pesNumber, Constants.RAM, Constants.BW, Constants.IMAGE_SIZE, vmm, new CloudletSchedulerSpaceShared()));
-        }
-
-        // 创建高配置虚拟机
-        for (int i = 0; i < Constants.H_VM_N; i++) {
-            vmList.add(new Vm(vmId++, userId, Constants.H_MIPS, pesNumber, Constants.RAM, Constants.BW, Constants.IMAGE_SIZE, vmm, new CloudletSchedulerSpaceShared()));
-        }
-        return vmList;
-    }
-
-    /**
-     * 创建云任务列表
-     *
-     * @param userId 用户ID，用于设置每个云任务的用户ID
-     * @return 返回一个包含多个云任务的列表
-     */
-    private static List<Cloudlet> createCloudlets(int userId) {
-        // 初始化云任务列表
-        List<Cloudlet> cloudletList = new ArrayList<>();
-        // 初始化云任务ID为0
-        int id = 0;
-        // 设置每个云任务使用的PE（处理元素）数量为1
-        int pesNumber = 1;
-        // 创建一个完全利用率模型实例，表示云任务将一直占用全部资源
-        UtilizationModel utilizationModel = new UtilizationModelFull();
-
-        // 循环创建CLOUDLET_N个云任务
-        for (int i = 0; i < CLOUDLET_N; i++) {
-            // 随机生成云任务的长度（执行时间），范围在10000到50000之间
-            long length = R.nextInt(40000) + 10000;
-            // 随机生成云任务的输入文件大小，范围在10到200之间
-            long fileSize = R.nextInt(190) + 10;
-            // 随机生成云任务的输出文件大小，范围在10到200之间
-            long outputSize = R.nextInt(190) + 10;
-            // 创建一个云任务实例
-            Cloudlet cloudlet = new Cloudlet(id, length, pesNumber, fileSize, outputSize, utilizationModel, utilizationModel, utilizationModel);
-            // 设置云任务的用户ID
-            cloudlet.setUserId(userId);
-            // 将云任务添加到列表中
-            cloudletList.add(cloudlet);
-            // 增加云任务ID，确保每个云任务有一个唯一的ID
-            id++;
-        }
-        // 返回云任务列表
-        return cloudletList;
-    }
-
     /**
      * 打印云任务列表信息
      * 该方法遍历云任务列表，并以格式化的方式输出每个云任务的详细信息，包括云任务ID、状态、数据中心ID、VM ID、执行时间等
      * 同时，计算并输出所有任务的总耗时（makespan）、负载均衡度（LB）和总成本（cost）
      *
      * @param cloudletList 云任务列表，包含多个Cloudlet对象
+     * @param vmNum        虚拟机数量
      */
-    private static void printCloudletList(List<Cloudlet> cloudletList) {
+    private static void printCloudletList(List<Cloudlet> cloudletList, int vmNum) {
         // 定义缩进字符串，用于格式化输出
         String indent = "    ";
 
@@ -249,9 +167,8 @@ public class Main {
         // 创建DecimalFormat对象，用于格式化浮点数输出
         DecimalFormat dft = new DecimalFormat("###.##");
 
-        // 初始化总耗时（makespan）、虚拟机数量（vmNum）、每个虚拟机的执行时间（executeTimeOfVM）、总成本（cost）和负载均衡度（LB）
+        // 初始化总耗时（makespan）、每个虚拟机的执行时间（executeTimeOfVM）、总成本（cost）和负载均衡度（LB）
         double makespan = 0;
-        int vmNum = Constants.L_VM_N + Constants.M_VM_N + Constants.H_VM_N;
         double[] executeTimeOfVM = new double[vmNum];
         double cost = 0;
         double LB = 0;
@@ -0,0 +1,106 @@
+package la4am12.aco;
+
+import la4am12.datacenter.AllocationResult;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Scheduler;
+import la4am12.datacenter.SolutionExchange;
+import la4am12.telemetry.ProgressListener;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+
+import java.util.List;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-22 17:48:30
+ * @description : ACO schedule Algorithm, heuristic value of cloudlet i on vm j is 1 / ETC(i, j) = mips(j) / length(i)
+ */
+public class ACOScheduler extends Scheduler {
+	private static final int ANT_NUM = 32; // 蚂蚁数量
+	private static final int MAX_ITER = 300; // 最大迭代次数
+	private static final double ALPHA = 1; // 信息素指数
+	private static final double BETA = 2; // 启发信息指数
+	private static final double EVAPORATION = 0.1; // 信息素挥发率
+
+	private final AntColonyOptimization aco;
+
+	public ACOScheduler(List<Cloudlet> cloudletList, List<Vm> vmList) {
+		this(cloudletList, vmList, Fleet.of(vmList));
+	}
+
+	public ACOScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet) {
+		this(cloudletList, vmList, fleet, ANT_NUM, MAX_ITER, ALPHA, BETA, EVAPORATION);
+	}
+
+	public ACOScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet, int antNum, int maxIter, double alpha, double beta, double evaporation) {
+		super(cloudletList, vmList, fleet);
+		if ((long) cloudletNum * vmNum > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("pheromone matrix of " + cloudletNum + " x " + vmNum + " does not fit in an array");
+		}
+		// 启发信息 1 / ETC，即每秒能完成该云任务的比例
+		float[] heuristic = new float[cloudletNum * vmNum];
+		for (int i = 0, row = 0; i < cloudletNum; i++, row += vmNum) {
+			for (int j = 0; j < vmNum; j++) {
+				heuristic[row + j] = (float) (vmMips[j] / cloudletLength[i]);
+			}
+		}
+		this.aco = new AntColonyOptimization(this::onePassFitness, heuristic, vmNum, antNum, maxIter, alpha, beta, evaporation);
+		Log.printLine("Using ACO scheduler");
+	}
+
+	/**
+	 * same value as estimateFitness(int[]) up to rounding, in one pass and safe to call from the ant threads
+	 */
+	private double onePassFitness(int[] cloudletToVm) {
+		double[] load = new double[vmNum];
+		double cost = 0;
+		double totalTime = 0;
+		for (int i = 0; i < cloudletNum; i++) {
+			int vm = cloudletToVm[i];
+			double execTime = cloudletLength[i] / vmMips[vm];
+			load[vm] += execTime;
+			totalTime += execTime;
+			cost += execTime * vmPrice[vm];
+		}
+		double sumOfSquares = 0;
+		for (double l : load) {
+			sumOfSquares += l * l;
+		}
+		return estimateFitness(cost, totalTime, sumOfSquares);
+	}
+
+	@Override
+	public int[] allocate() {
+		return aco.run();
+	}
+
+	@Override
+	public AllocationResult allocate(Budget budget) {
+		long start = System.nanoTime();
+		int[] cloudletToVm = aco.run(budget);
+		return new AllocationResult(cloudletToVm, aco.getEvaluations(), System.nanoTime() - start,
+				aco.getIterations(), aco.isBudgetExhausted());
+	}
+
+	@Override
+	public void setProgressListener(ProgressListener listener) {
+		aco.setProgressListener(listener);
+	}
+
+	@Override
+	public long getEvaluations() {
+		return aco.getEvaluations();
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		aco.setSeed(seed);
+	}
+
+	@Override
+	public void setSolutionExchange(SolutionExchange exchange) {
+		aco.setSolutionExchange(exchange);
+	}
+}
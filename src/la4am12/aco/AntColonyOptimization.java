@@ -0,0 +1,240 @@
+package la4am12.aco;
+
+import la4am12.checkpoint.CheckpointRandom;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.OptFunction;
+import la4am12.datacenter.SolutionExchange;
+import la4am12.telemetry.ProgressListener;
+import la4am12.telemetry.ProgressTracker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-22 17:05:19
+ * @description : max-min ant system assigning each cloudlet to a vm
+ * <p>
+ * Pheromone and heuristic (eta = 1 / ETC) values are flat {@code float[cloudletNum * vmNum]} arrays, row i holding
+ * cloudlet i. The ants build their assignments in parallel, each cloudlet picking a vm by roulette over
+ * tau^alpha * (eta / (1 + load * eta))^beta, i.e. the heuristic of the vm's finish time given what the ant already put
+ * on it; with the static eta alone all ants pile onto the fastest vms. Every ant has its own generator seeded from the
+ * colony's, so a seeded run does not depend on thread scheduling.
+ * Evaporation is a single pass too, clamped to the max-min bounds, and the iteration-best ant deposits.
+ * With a solution exchange the best solution is offered every iteration, and a migrant better than the
+ * iteration-best ant takes its place, so it deposits instead.
+ */
+public class AntColonyOptimization {
+	private final OptFunction optFunction;
+	private final float[] heuristic;
+	private final int cloudletNum;
+	private final int vmNum;
+	private final int antNum;
+	private final int maxIter;
+	private final double alpha;
+	private final double beta;
+	private final double evaporation;
+	private final float[] pheromone;
+	private final float[] weight; // tau^alpha
+	private final CheckpointRandom random = new CheckpointRandom();
+	private final ProgressTracker tracker;
+	private int[] best;
+	private double bestFitness;
+	private SolutionExchange exchange;
+
+	/**
+	 * @param optFunction fitness of an assignment, called from several threads at once
+	 * @param heuristic   eta = 1 / ETC for every cloudlet and vm, row-major; kept, not copied
+	 * @param vmNum       vms per row
+	 * @param antNum      ants per iteration
+	 * @param maxIter     iterations
+	 * @param alpha       pheromone exponent
+	 * @param beta        heuristic exponent
+	 * @param evaporation fraction of pheromone evaporated per iteration
+	 */
+	public AntColonyOptimization(OptFunction optFunction, float[] heuristic, int vmNum, int antNum, int maxIter, double alpha, double beta, double evaporation) {
+		this.cloudletNum = heuristic.length / vmNum;
+		this.tracker = new ProgressTracker("ACO", cloudletNum, vmNum);
+		this.optFunction = optFunction;
+		this.heuristic = heuristic;
+		this.vmNum = vmNum;
+		this.antNum = antNum;
+		this.maxIter = maxIter;
+		this.alpha = alpha;
+		this.beta = beta;
+		this.evaporation = evaporation;
+		this.pheromone = new float[heuristic.length];
+		this.weight = new float[heuristic.length];
+	}
+
+	public int[] run() {
+		return run(Budget.unlimited());
+	}
+
+	public int[] run(Budget budget) {
+		tracker.start(budget);
+		Arrays.fill(pheromone, 1f);
+		best = null;
+		bestFitness = Double.MAX_VALUE;
+		int threads = Math.min(antNum, Runtime.getRuntime().availableProcessors());
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		int[][] solutions = new int[antNum][cloudletNum];
+		double[] fitness = new double[antNum];
+		try {
+			for (int iter = 0; iter < maxIter && !tracker.isExhausted(); iter++) {
+				updateWeights();
+				List<Callable<Void>> ants = new ArrayList<>(antNum);
+				for (int k = 0; k < antNum; k++) {
+					int ant = k;
+					long seed = random.nextLong();
+					ants.add(() -> {
+						construct(new CheckpointRandom(seed), solutions[ant]);
+						fitness[ant] = optFunction.calc(solutions[ant]);
+						return null;
+					});
+				}
+				for (Future<Void> f : executor.invokeAll(ants)) {
+					f.get();
+				}
+				tracker.beginBatch();
+				tracker.addEvaluations(antNum);
+				tracker.endBatch();
+
+				int iterationBest = 0;
+				double sum = 0;
+				for (int k = 0; k < antNum; k++) {
+					sum += fitness[k];
+					if (fitness[k] < fitness[iterationBest]) {
+						iterationBest = k;
+					}
+				}
+				if (fitness[iterationBest] < bestFitness) {
+					bestFitness = fitness[iterationBest];
+					best = solutions[iterationBest].clone();
+				}
+				exchangeSolutions(solutions[iterationBest], fitness, iterationBest);
+				evaporateAndDeposit(solutions[iterationBest], fitness[iterationBest]);
+				tracker.iterationDone(iter + 1, bestFitness, sum / antNum);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("interrupted while ants were building solutions", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("ant failed", e.getCause());
+		} finally {
+			executor.shutdown();
+		}
+		return best == null ? new int[cloudletNum] : best;
+	}
+
+	/**
+	 * offers the best solution, and lets a better migrant replace the iteration-best ant before it deposits
+	 */
+	private void exchangeSolutions(int[] iterationBest, double[] fitness, int ant) {
+		if (exchange == null) {
+			return;
+		}
+		exchange.offer(best, bestFitness);
+		int[] migrant = exchange.poll();
+		if (migrant == null) {
+			return;
+		}
+		double migrantFitness = optFunction.calc(migrant);
+		tracker.addEvaluations(1);
+		if (migrantFitness < fitness[ant]) {
+			System.arraycopy(migrant, 0, iterationBest, 0, cloudletNum);
+			fitness[ant] = migrantFitness;
+			if (migrantFitness < bestFitness) {
+				bestFitness = migrantFitness;
+				best = migrant.clone();
+			}
+		}
+	}
+
+	// tau^alpha，alpha 为 1 时直接复制，可被自动向量化
+	private void updateWeights() {
+		if (alpha == 1) {
+			System.arraycopy(pheromone, 0, weight, 0, weight.length);
+		} else {
+			for (int k = 0; k < weight.length; k++) {
+				weight[k] = (float) Math.pow(pheromone[k], alpha);
+			}
+		}
+	}
+
+	private void construct(CheckpointRandom rng, int[] solution) {
+		double[] load = new double[vmNum];
+		float[] row = new float[vmNum];
+		for (int i = 0, base = 0; i < cloudletNum; i++, base += vmNum) {
+			float total = 0;
+			for (int j = 0; j < vmNum; j++) {
+				float eta = heuristic[base + j];
+				float finish = (float) (eta / (1 + load[j] * eta));
+				float desirability = beta == 1 ? finish : beta == 2 ? finish * finish : (float) Math.pow(finish, beta);
+				row[j] = weight[base + j] * desirability;
+				total += row[j];
+			}
+			float r = rng.nextFloat() * total;
+			int vm = vmNum - 1;
+			for (int j = 0; j < vmNum - 1; j++) {
+				r -= row[j];
+				if (r < 0) {
+					vm = j;
+					break;
+				}
+			}
+			solution[i] = vm;
+			load[vm] += 1 / heuristic[base + vm];
+		}
+	}
+
+	/**
+	 * max-min bounds follow the best fitness found so far: tauMax = 1 / (evaporation * best), tauMin = tauMax / (2 vmNum)
+	 */
+	private void evaporateAndDeposit(int[] solution, double fitness) {
+		float tauMax = (float) (1 / (evaporation * Math.max(bestFitness, Double.MIN_NORMAL)));
+		float tauMin = tauMax / (2 * vmNum);
+		float keep = (float) (1 - evaporation);
+		for (int k = 0; k < pheromone.length; k++) {
+			pheromone[k] = Math.max(tauMin, pheromone[k] * keep);
+		}
+		float deposit = (float) (1 / Math.max(fitness, Double.MIN_NORMAL));
+		for (int i = 0, row = 0; i < cloudletNum; i++, row += vmNum) {
+			int k = row + solution[i];
+			pheromone[k] = Math.min(tauMax, pheromone[k] + deposit);
+		}
+	}
+
+	public void setSeed(long seed) {
+		random.setSeed(seed);
+	}
+
+	/**
+	 * sets the channel through which the best solution is shared every iteration, null for none
+	 */
+	public void setSolutionExchange(SolutionExchange exchange) {
+		this.exchange = exchange;
+	}
+
+	public void setProgressListener(ProgressListener listener) {
+		tracker.setListener(listener);
+	}
+
+	public long getEvaluations() {
+		return tracker.getEvaluations();
+	}
+
+	public int getIterations() {
+		return tracker.getIterations();
+	}
+
+	public boolean isBudgetExhausted() {
+		return tracker.wasExhausted();
+	}
+}
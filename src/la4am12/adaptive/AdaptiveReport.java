@@ -0,0 +1,91 @@
+package la4am12.adaptive;
+
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Scheduler;
+import la4am12.datacenter.Workload;
+import la4am12.ga.GAScheduler;
+import la4am12.hwga.HWGAScheduler;
+import la4am12.portfolio.SchedulerFactory;
+import la4am12.woa.WOAScheduler;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-23 17:02:36
+ * @description : time-to-target of the adaptive parameter control against the fixed settings
+ * <p>
+ * GA, HWGA and WOA each run twice per instance with the same seed and time budget, once with the fixed rates and
+ * once with {@code setAdaptive(true)}. The target is the worse of the two final fitness values, so both runs reach
+ * it; the report prints when each did, from the best fitness reported after every iteration.
+ */
+public class AdaptiveReport {
+	/**
+	 * usage: AdaptiveReport &lt;budget ms&gt; [cloudletNum x vmNum ...]
+	 * <p>
+	 * e.g. {@code AdaptiveReport 5000 300x9 3000x9 30000x90}
+	 */
+	public static void main(String[] args) {
+		Budget budget = Budget.timeout(Duration.ofMillis(args.length > 0 ? Long.parseLong(args[0]) : 5000));
+		String[] sizes = args.length > 1 ? Arrays.copyOfRange(args, 1, args.length) : new String[]{"300x9", "3000x9", "30000x90"};
+		Map<String, SchedulerFactory> algorithms = new LinkedHashMap<>();
+		algorithms.put("GA", GAScheduler::new);
+		algorithms.put("HWGA", HWGAScheduler::new);
+		algorithms.put("WOA", WOAScheduler::new);
+
+		Log.setDisabled(true);
+		for (String size : sizes) {
+			String[] parts = size.split("x");
+			int cloudletNum = Integer.parseInt(parts[0]);
+			int vmNum = Integer.parseInt(parts[1]);
+			Fleet fleet = Fleet.generate(Math.min(3, vmNum), vmNum);
+			List<Vm> vmList = Workload.createVms(0, fleet);
+			List<Cloudlet> cloudletList = Workload.createCloudlets(0, cloudletNum, new Random(0));
+			for (Map.Entry<String, SchedulerFactory> algorithm : algorithms.entrySet()) {
+				List<double[]> fixed = trace(algorithm.getValue(), cloudletList, vmList, fleet, false, budget);
+				List<double[]> adaptive = trace(algorithm.getValue(), cloudletList, vmList, fleet, true, budget);
+				double fixedFinal = fixed.get(fixed.size() - 1)[1];
+				double adaptiveFinal = adaptive.get(adaptive.size() - 1)[1];
+				double target = Math.max(fixedFinal, adaptiveFinal);
+				double fixedTime = timeToTarget(fixed, target);
+				double adaptiveTime = timeToTarget(adaptive, target);
+				System.out.printf("%s %-4s target=%.6f fixed: %.6f at %.0fms  adaptive: %.6f at %.0fms  speedup=%.2fx%n",
+						size, algorithm.getKey(), target, fixedFinal, fixedTime, adaptiveFinal, adaptiveTime,
+						fixedTime / Math.max(adaptiveTime, 1e-3));
+			}
+		}
+	}
+
+	/**
+	 * @return elapsed ms and best fitness after every iteration
+	 */
+	private static List<double[]> trace(SchedulerFactory factory, List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet,
+										boolean adaptive, Budget budget) {
+		Scheduler scheduler = factory.create(new ArrayList<>(cloudletList), new ArrayList<>(vmList), fleet);
+		scheduler.setSeed(0);
+		scheduler.setAdaptive(adaptive);
+		List<double[]> trace = new ArrayList<>();
+		scheduler.setProgressListener(event -> trace.add(new double[]{event.getElapsedNanos() / 1e6, event.getBestFitness()}));
+		scheduler.allocate(budget);
+		return trace;
+	}
+
+	private static double timeToTarget(List<double[]> trace, double target) {
+		for (double[] point : trace) {
+			if (point[1] <= target) {
+				return point[0];
+			}
+		}
+		return Double.NaN;
+	}
+}
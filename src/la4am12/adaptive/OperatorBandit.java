@@ -0,0 +1,79 @@
+package la4am12.adaptive;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-23 16:24:19
+ * @description : UCB1 bandit over a fixed set of operator settings, crediting each with its recent rewards
+ * <p>
+ * Rewards are averaged with an exponential recency weight so an arm that paid off early in the run does not keep
+ * being chosen once the search has moved on. Every arm is tried once before the confidence bounds are used;
+ * selection is deterministic and draws nothing from the optimizer's random generator.
+ */
+public class OperatorBandit {
+	// weight of the newest reward in an arm's average
+	private static final double RECENCY = 0.05;
+	private static final double EXPLORATION = 0.1;
+
+	private final double[] arms;
+	private final double[] reward;
+	private final long[] pulls;
+	private long total;
+
+	/**
+	 * @param arms operator settings to choose from, e.g. crossover rates
+	 */
+	public OperatorBandit(double... arms) {
+		if (arms.length == 0) {
+			throw new IllegalArgumentException("bandit needs at least one arm");
+		}
+		this.arms = arms.clone();
+		this.reward = new double[arms.length];
+		this.pulls = new long[arms.length];
+	}
+
+	/**
+	 * @return index of the arm to use next
+	 */
+	public int select() {
+		double bestScore = Double.NEGATIVE_INFINITY;
+		int best = 0;
+		double logTotal = Math.log(Math.max(1, total));
+		for (int k = 0; k < arms.length; k++) {
+			if (pulls[k] == 0) {
+				return k;
+			}
+			double score = reward[k] + EXPLORATION * Math.sqrt(2 * logTotal / pulls[k]);
+			if (score > bestScore) {
+				bestScore = score;
+				best = k;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * credits an arm with the reward of one use, e.g. the relative improvement of the offspring it produced
+	 */
+	public void reward(int arm, double value) {
+		reward[arm] = pulls[arm] == 0 ? value : reward[arm] + RECENCY * (value - reward[arm]);
+		pulls[arm]++;
+		total++;
+	}
+
+	public double getArm(int arm) {
+		return arms[arm];
+	}
+
+	/**
+	 * @return the arm with the highest average reward so far
+	 */
+	public double getBestArm() {
+		int best = 0;
+		for (int k = 1; k < arms.length; k++) {
+			if (reward[k] > reward[best]) {
+				best = k;
+			}
+		}
+		return arms[best];
+	}
+}
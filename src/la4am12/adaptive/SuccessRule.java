@@ -0,0 +1,64 @@
+package la4am12.adaptive;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-23 16:10:44
+ * @description : Rechenberg's 1/5 success rule for a step-size-like parameter
+ * <p>
+ * Trials are recorded as successful or not over one generation; at {@link #update()} the value grows by
+ * 1/{@value #FACTOR} if more than a fifth of them succeeded and shrinks by {@value #FACTOR} if fewer did,
+ * clamped to [min, max]. Used for mutation rates (a success is an offspring better than its better parent)
+ * and for the WOA coefficient a (a success is a whale that improved on its previous position).
+ */
+public class SuccessRule {
+	private static final double TARGET = 0.2;
+	private static final double FACTOR = 0.85;
+
+	private final double min;
+	private final double max;
+	private double value;
+	private int trials;
+	private int successes;
+
+	/**
+	 * @param initial starting value, clamped to [min, max]
+	 */
+	public SuccessRule(double initial, double min, double max) {
+		if (!(min > 0) || max < min) {
+			throw new IllegalArgumentException("need 0 < min <= max, got [" + min + ", " + max + "]");
+		}
+		this.min = min;
+		this.max = max;
+		this.value = Math.max(min, Math.min(max, initial));
+	}
+
+	public void record(boolean success) {
+		trials++;
+		if (success) {
+			successes++;
+		}
+	}
+
+	/**
+	 * adjusts the value from the trials recorded since the last update
+	 *
+	 * @return the new value
+	 */
+	public double update() {
+		if (trials > 0) {
+			double ratio = (double) successes / trials;
+			if (ratio > TARGET) {
+				value = Math.min(max, value / FACTOR);
+			} else if (ratio < TARGET) {
+				value = Math.max(min, value * FACTOR);
+			}
+		}
+		trials = 0;
+		successes = 0;
+		return value;
+	}
+
+	public double get() {
+		return value;
+	}
+}
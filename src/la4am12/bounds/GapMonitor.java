@@ -0,0 +1,52 @@
+package la4am12.bounds;
+
+import la4am12.datacenter.Scheduler;
+import la4am12.datacenter.SolutionExchange;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-21 16:52:40
+ * @description : receives an optimizer's best solution every iteration and signals once its makespan gap is small enough
+ * <p>
+ * Installed as the optimizer's {@link SolutionExchange}; it never hands solutions back.
+ * Used as a {@link la4am12.datacenter.Budget#stopWhen stop signal} by {@link Scheduler#allocate(la4am12.datacenter.Budget, double)}.
+ */
+public class GapMonitor implements SolutionExchange {
+	private final Scheduler scheduler;
+	private final double bound;
+	private final double threshold;
+	private volatile double bestGap = Double.POSITIVE_INFINITY;
+
+	/**
+	 * @param threshold makespan gap (fraction of the bound) at which to stop, e.g. 0.001
+	 */
+	public GapMonitor(Scheduler scheduler, double threshold) {
+		this.scheduler = scheduler;
+		this.bound = scheduler.getMakespanLowerBound();
+		this.threshold = threshold;
+	}
+
+	@Override
+	public void offer(int[] cloudletToVm, double fitness) {
+		double gap = (scheduler.estimateMakespan(cloudletToVm) - bound) / bound;
+		if (gap < bestGap) {
+			bestGap = gap;
+		}
+	}
+
+	@Override
+	public int[] poll() {
+		return null;
+	}
+
+	/**
+	 * @return smallest makespan gap offered so far
+	 */
+	public double getBestGap() {
+		return bestGap;
+	}
+
+	public boolean isReached() {
+		return bestGap <= threshold;
+	}
+}
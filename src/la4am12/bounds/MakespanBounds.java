@@ -0,0 +1,82 @@
+package la4am12.bounds;
+
+import java.util.Arrays;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-21 16:08:55
+ * @description : lower bounds on the makespan of independent cloudlets on vms of different speeds, O(n log n)
+ * <p>
+ * The bounds hold for every assignment, so a schedule whose makespan is within x% of {@link #getBound()} is
+ * within x% of the optimum.
+ */
+public class MakespanBounds {
+	private final double fluid;
+	private final double longest;
+	private final double prefix;
+
+	/**
+	 * @param cloudletLength length of each cloudlet (MI)
+	 * @param vmMips         mips of each vm
+	 */
+	public MakespanBounds(long[] cloudletLength, double[] vmMips) {
+		long[] lengths = cloudletLength.clone();
+		double[] mips = vmMips.clone();
+		Arrays.sort(lengths);
+		Arrays.sort(mips);
+		double totalLength = 0;
+		for (long length : lengths) {
+			totalLength += length;
+		}
+		double totalMips = 0;
+		for (double m : mips) {
+			totalMips += m;
+		}
+		fluid = totalLength / totalMips;
+		longest = lengths.length == 0 ? 0 : lengths[lengths.length - 1] / mips[mips.length - 1];
+		// k 个最长的云任务至少占用 k 台虚拟机的时间，最好的情况是 k 台最快的虚拟机同时完成
+		double best = 0;
+		double lengthSum = 0;
+		double mipsSum = 0;
+		for (int k = 1; k <= Math.min(lengths.length, mips.length); k++) {
+			lengthSum += lengths[lengths.length - k];
+			mipsSum += mips[mips.length - k];
+			best = Math.max(best, lengthSum / mipsSum);
+		}
+		prefix = best;
+	}
+
+	/**
+	 * @return total length over total mips, every vm busy until the same moment
+	 */
+	public double getFluid() {
+		return fluid;
+	}
+
+	/**
+	 * @return the longest cloudlet on the fastest vm
+	 */
+	public double getLongest() {
+		return longest;
+	}
+
+	/**
+	 * @return best over k of the k longest cloudlets spread over the k fastest vms, the relaxation LPT schedules against;
+	 * never below {@link #getLongest()}
+	 */
+	public double getPrefix() {
+		return prefix;
+	}
+
+	/**
+	 * @return the tightest of the bounds
+	 */
+	public double getBound() {
+		return Math.max(fluid, prefix);
+	}
+
+	@Override
+	public String toString() {
+		return "MakespanBounds{fluid=" + fluid + ", longest=" + longest + ", prefix=" + prefix + "}";
+	}
+}
@@ -0,0 +1,73 @@
+package la4am12.bounds;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-21 16:31:14
+ * @description : how far an assignment is above the lower bound of each objective, as a fraction of the bound
+ * <p>
+ * Cost and total time have tight bounds (everything on the cheapest, resp. fastest, vm) that conflict with the
+ * makespan, so only the makespan gap says how much any schedule could still gain.
+ */
+public class OptimalityGap {
+	private final double makespan;
+	private final double makespanBound;
+	private final double cost;
+	private final double costBound;
+	private final double totalTime;
+	private final double totalTimeBound;
+
+	public OptimalityGap(double makespan, double makespanBound, double cost, double costBound, double totalTime, double totalTimeBound) {
+		this.makespan = makespan;
+		this.makespanBound = makespanBound;
+		this.cost = cost;
+		this.costBound = costBound;
+		this.totalTime = totalTime;
+		this.totalTimeBound = totalTimeBound;
+	}
+
+	private static double gap(double value, double bound) {
+		return bound > 0 ? (value - bound) / bound : 0;
+	}
+
+	public double getMakespanGap() {
+		return gap(makespan, makespanBound);
+	}
+
+	public double getCostGap() {
+		return gap(cost, costBound);
+	}
+
+	public double getTotalTimeGap() {
+		return gap(totalTime, totalTimeBound);
+	}
+
+	public double getMakespan() {
+		return makespan;
+	}
+
+	public double getMakespanBound() {
+		return makespanBound;
+	}
+
+	public double getCost() {
+		return cost;
+	}
+
+	public double getCostBound() {
+		return costBound;
+	}
+
+	public double getTotalTime() {
+		return totalTime;
+	}
+
+	public double getTotalTimeBound() {
+		return totalTimeBound;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("gap{makespan=%.3f%%, cost=%.3f%%, totalTime=%.3f%%}",
+				100 * getMakespanGap(), 100 * getCostGap(), 100 * getTotalTimeGap());
+	}
+}
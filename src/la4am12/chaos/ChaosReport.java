@@ -0,0 +1,68 @@
+package la4am12.chaos;
+
+import java.util.Random;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-22 11:20:09
+ * @description : distribution quality and throughput of every chaotic map
+ * <p>
+ * For each map: chi-square of the scaled values over 100 equal bins (99 degrees of freedom, about 99 for a uniform
+ * source), lag-1 autocorrelation (0 for independent values), restarts per million values and nanoseconds per value.
+ * A uniform {@link Random} is printed first for reference.
+ */
+public class ChaosReport {
+	private static final int BINS = 100;
+
+	/**
+	 * usage: ChaosReport [values per map]
+	 */
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+		double[] values = new double[n];
+
+		Random uniform = new Random(0);
+		long start = System.nanoTime();
+		for (int i = 0; i < n; i++) {
+			values[i] = uniform.nextDouble();
+		}
+		print("UNIFORM", values, 0, System.nanoTime() - start);
+
+		for (ChaoticMap map : ChaoticMap.values()) {
+			ChaosSequence sequence = new ChaosSequence(map, new Random(0));
+			// warm up the loop before timing it
+			sequence.fill(values);
+			long restarts = sequence.getRestarts();
+			start = System.nanoTime();
+			sequence.fill(values);
+			print(map.name(), values, sequence.getRestarts() - restarts, System.nanoTime() - start);
+		}
+	}
+
+	private static void print(String name, double[] values, long restarts, long nanos) {
+		int n = values.length;
+		int[] counts = new int[BINS];
+		double mean = 0;
+		for (double v : values) {
+			counts[(int) (v * BINS)]++;
+			mean += v;
+		}
+		mean /= n;
+		double expected = (double) n / BINS;
+		double chiSquare = 0;
+		for (int c : counts) {
+			chiSquare += (c - expected) * (c - expected) / expected;
+		}
+		double covariance = 0;
+		double variance = 0;
+		for (int i = 0; i < n; i++) {
+			double d = values[i] - mean;
+			variance += d * d;
+			if (i > 0) {
+				covariance += d * (values[i - 1] - mean);
+			}
+		}
+		System.out.printf("%-21s chi2=%14.1f lag1=%+.4f restarts/M=%9.1f ns/value=%.2f%n", name, chiSquare,
+				variance == 0 ? 0 : covariance / variance, restarts * 1e6 / n, (double) nanos / n);
+	}
+}
@@ -0,0 +1,137 @@
+package la4am12.chaos;
+
+import java.util.Random;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-22 09:58:14
+ * @description : iterates one chaotic map and fills primitive arrays with its states scaled to [0, 1)
+ * <p>
+ * The state belongs to the instance and the stochastic maps draw from the generator passed in, normally the
+ * optimizer's own, so a sequence is reproducible under {@code setSeed} and needs no locking. In floating point
+ * several maps fall into a fixed point (the tent map reaches 0 within about 50 steps), so the sequence restarts
+ * from a random state whenever a step repeats its input, leaves the map's range or is undefined. An attracting fixed
+ * point is approached geometrically without ever being repeated exactly, so it also restarts once
+ * {@value #STALL_STEPS} steps in a row move by less than {@value #STALL_WINDOW} of the range.
+ * Not thread safe; use one per optimizer.
+ */
+public class ChaosSequence {
+	private static final double TOLERANCE = 1e-9;
+	// a step moving by less than this fraction of the range counts as stalled
+	private static final double STALL_WINDOW = 1e-4;
+	private static final int STALL_STEPS = 3;
+	private static final double BELOW_ONE = Math.nextDown(1.0);
+
+	private final ChaoticMap map;
+	private final Random random;
+	private final double low;
+	private final double high;
+	private final double scale;
+	private final double window;
+	private double x;
+	// consecutive stalled steps
+	private int stalled;
+	private long restarts;
+
+	/**
+	 * the first step starts from a random state
+	 *
+	 * @param map    the map to iterate
+	 * @param random source of the starting states and of the random parameter of the stochastic maps
+	 */
+	public ChaosSequence(ChaoticMap map, Random random) {
+		this.map = map;
+		this.random = random;
+		this.low = map.getLow();
+		this.high = map.getHigh();
+		this.scale = 1 / (high - low);
+		this.window = STALL_WINDOW * (high - low);
+		clear();
+	}
+
+	/**
+	 * makes the next step start from a state drawn uniformly from [0, 1), which is inside the domain of every map;
+	 * nothing is drawn until then
+	 */
+	public void reseed() {
+		clear();
+	}
+
+	private void clear() {
+		x = Double.NaN;
+	}
+
+	/**
+	 * @return the next state scaled to [0, 1)
+	 */
+	public double next() {
+		x = step(x);
+		return scaled(x);
+	}
+
+	/**
+	 * fills the whole array with the next states scaled to [0, 1)
+	 */
+	public void fill(double[] out) {
+		fill(out, 0, out.length);
+	}
+
+	/**
+	 * fills out[from .. to) with the next states scaled to [0, 1)
+	 */
+	public void fill(double[] out, int from, int to) {
+		double state = x;
+		for (int i = from; i < to; i++) {
+			state = step(state);
+			out[i] = scaled(state);
+		}
+		x = state;
+	}
+
+	private double step(double state) {
+		if (Double.isNaN(state)) {
+			return start();
+		}
+		double next = map.next(state, random);
+		if (next == state || !inRange(next)) {
+			restarts++;
+			return start();
+		}
+		if (Math.abs(next - state) < window) {
+			if (++stalled >= STALL_STEPS) {
+				restarts++;
+				return start();
+			}
+		} else {
+			stalled = 0;
+		}
+		return next;
+	}
+
+	private double start() {
+		stalled = 0;
+		double seed = random.nextDouble();
+		double next = map.next(seed, random);
+		return inRange(next) ? next : seed;
+	}
+
+	private boolean inRange(double state) {
+		return state >= low - TOLERANCE && state <= high + TOLERANCE;
+	}
+
+	private double scaled(double state) {
+		double u = (state - low) * scale;
+		return u < 0 ? 0 : u > BELOW_ONE ? BELOW_ONE : u;
+	}
+
+	public ChaoticMap getMap() {
+		return map;
+	}
+
+	/**
+	 * @return how often the sequence restarted from a random state because the map got stuck or left its range
+	 */
+	public long getRestarts() {
+		return restarts;
+	}
+}
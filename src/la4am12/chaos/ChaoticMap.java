@@ -0,0 +1,171 @@
+package la4am12.chaos;
+
+import la4am12.datacenter.chaosMap;
+
+import java.util.Random;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-22 09:20:36
+ * @description : the one-dimensional maps of {@link chaosMap} that a {@link ChaosSequence} can iterate, with their ranges
+ * <p>
+ * The maps that draw a random parameter every step take it from the caller's generator instead of the shared
+ * {@code chaosMap.random}. {@code fuchMap} (undefined for the negative values it produces), {@code henonMap}
+ * (not implemented) and {@code ICMICmap} (with a = 4 it falls into an attracting 6-cycle near ±1 within a few
+ * steps) are left out.
+ */
+public enum ChaoticMap {
+	TENT(0, 1) {
+		@Override
+		double next(double x, Random random) {
+			return chaosMap.tentMap(x);
+		}
+	},
+	CHEBYSHEV(-1, 1) {
+		@Override
+		double next(double x, Random random) {
+			return chaosMap.chebyshevMap(x);
+		}
+	},
+	CIRCLE(0, 1) {
+		@Override
+		double next(double x, Random random) {
+			return chaosMap.circleMap(x);
+		}
+	},
+	GAUSS_MOUSE(0, 1) {
+		@Override
+		double next(double x, Random random) {
+			// chaosMap.gaussMouseMap throws near 0, let the sequence restart instead
+			return Math.abs(x) < 1e-10 ? Double.NaN : chaosMap.gaussMouseMap(x);
+		}
+	},
+	ITERATIVE(-1, 1) {
+		@Override
+		double next(double x, Random random) {
+			return chaosMap.iterativeMap(x);
+		}
+	},
+	LOGISTIC(0, 1) {
+		@Override
+		double next(double x, Random random) {
+			return chaosMap.logisticMap(x);
+		}
+	},
+	PIECEWISE(0, 1) {
+		@Override
+		double next(double x, Random random) {
+			return chaosMap.percentMap(x);
+		}
+	},
+	SINE(0, 1) {
+		@Override
+		double next(double x, Random random) {
+			return chaosMap.sineMap(x);
+		}
+	},
+	SINGER(0, 1) {
+		@Override
+		double next(double x, Random random) {
+			// chaosMap.singerlMap has sqrt(x) where the Singer map has x^2, which drives it below 0 at once
+			final double U = 1.07;
+			return U * (7.86 * x - 23.31 * x * x + 28.75 * x * x * x - 13.302875 * x * x * x * x);
+		}
+	},
+	SINUSOIDAL(0, 1) {
+		@Override
+		double next(double x, Random random) {
+			return chaosMap.sinusoidalMap(x);
+		}
+	},
+	SPM(0, 1) {
+		@Override
+		double next(double x, Random random) {
+			final double ETA = 0.4;
+			final double U = 0.3;
+			if (x >= 0 && x < ETA) {
+				return (x / ETA + U * Math.sin(Math.PI * x) + random.nextDouble()) % 1;
+			} else if (x >= ETA && x < 0.5) {
+				return ((x - ETA) / (0.5 - ETA) + U * Math.sin(Math.PI * x) + random.nextDouble()) % 1;
+			} else if (x >= 0.5 && x <= 1 - ETA) {
+				return (((1 - x) / ETA) / (0.5 - ETA) + U * Math.sin(Math.PI * (1 - x)) + random.nextDouble()) % 1;
+			} else if (x > 1 - ETA && x < 1) {
+				return ((1 - x) / ETA + U * Math.sin(Math.PI * (1 - x)) + random.nextDouble()) % 1;
+			}
+			return 0;
+		}
+	},
+	TENT_LOGISTIC_COSINE(-1, 1) {
+		@Override
+		double next(double x, Random random) {
+			double r = random.nextDouble();
+			double t = x < 0.5 ? 2 * r * x : 2 * r * (1 - x);
+			return Math.cos(Math.PI * (t + 4 * (1 - r) * x * (1 - x) - 0.5));
+		}
+	},
+	SINE_TENT_COSINE(-1, 1) {
+		@Override
+		double next(double x, Random random) {
+			double r = random.nextDouble();
+			double t = x < 0.5 ? 2 * (1 - r) * x : 2 * (1 - r) * (1 - x);
+			// chaosMap.sineTentCosineMap closes the bracket after the sine term, which keeps it near cos(0) = 1
+			return Math.cos(Math.PI * (r * Math.sin(Math.PI * x) + t - 0.5));
+		}
+	},
+	LOGISTIC_SINE_COSINE(-1, 1) {
+		@Override
+		double next(double x, Random random) {
+			double r = random.nextDouble();
+			return Math.cos(Math.PI * (4 * r * x * (1 - x) + (1 - r) * Math.sin(Math.PI * x) - 0.5));
+		}
+	},
+	LOGISTIC_TENT(0, 1) {
+		@Override
+		double next(double x, Random random) {
+			return chaosMap.logisticTentMap(x);
+		}
+	},
+	// 2.595 x (1 - x^2) 在 x = 1/sqrt(3) 处取最大值 0.9988...
+	CUBIC(0, 2.595 * 2 / (3 * Math.sqrt(3))) {
+		@Override
+		double next(double x, Random random) {
+			// chaosMap.cubicMap has sqrt(x) where the cubic map has x^2, which gives it an attracting fixed point
+			return 2.595 * x * (1 - x * x);
+		}
+	},
+	BERNOULLI(0, 1) {
+		@Override
+		double next(double x, Random random) {
+			return chaosMap.bernoulliMap(x);
+		}
+	},
+	KENK(0, 1) {
+		@Override
+		double next(double x, Random random) {
+			return chaosMap.kenkMap(x);
+		}
+	};
+
+	private final double low;
+	private final double high;
+
+	ChaoticMap(double low, double high) {
+		this.low = low;
+		this.high = high;
+	}
+
+	/**
+	 * @param x      current state
+	 * @param random source of the random parameter of the stochastic maps, unused by the others
+	 * @return next state, NaN or out of [low, high] if the map is undefined at x
+	 */
+	abstract double next(double x, Random random);
+
+	public double getLow() {
+		return low;
+	}
+
+	public double getHigh() {
+		return high;
+	}
+}
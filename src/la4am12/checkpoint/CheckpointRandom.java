@@ -0,0 +1,56 @@
+package la4am12.checkpoint;
+
+import java.util.Random;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 14:02:31
+ * @description : java.util.Random whose generator state can be read and restored
+ * <p>
+ * Uses the same 48-bit linear congruential generator as java.util.Random, so a seeded instance produces exactly
+ * the same sequence. Only {@link #next(int)} is stateful here; the cached second value of nextGaussian is not
+ * part of the state, the optimizers do not use it.
+ */
+public class CheckpointRandom extends Random {
+	private static final long serialVersionUID = 1L;
+	private static final long MULTIPLIER = 0x5DEECE66DL;
+	private static final long ADDEND = 0xBL;
+	private static final long MASK = (1L << 48) - 1;
+
+	// assigned by setSeed, which the super constructor calls, so it must not have an initializer
+	private long state;
+
+	public CheckpointRandom() {
+		super();
+	}
+
+	public CheckpointRandom(long seed) {
+		super(seed);
+	}
+
+	@Override
+	public synchronized void setSeed(long seed) {
+		super.setSeed(seed);
+		state = (seed ^ MULTIPLIER) & MASK;
+	}
+
+	@Override
+	protected int next(int bits) {
+		state = (state * MULTIPLIER + ADDEND) & MASK;
+		return (int) (state >>> (48 - bits));
+	}
+
+	/**
+	 * @return the generator state, which is not the seed it was created with
+	 */
+	public long getState() {
+		return state;
+	}
+
+	/**
+	 * continues the sequence of the generator whose {@link #getState()} was taken
+	 */
+	public void setState(long state) {
+		this.state = state & MASK;
+	}
+}
@@ -0,0 +1,121 @@
+package la4am12.checkpoint;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 14:31:48
+ * @description : writes optimizer snapshots to one file on a background thread
+ * <p>
+ * The optimizer only copies its state into a {@link Snapshot} and hands it over, the encoding and the disk I/O
+ * happen on the writer thread. If a snapshot is still waiting when the next one arrives, the older one is dropped,
+ * so a slow disk costs checkpoints, never optimizer time. Each write goes to a temporary file that is then moved
+ * over the checkpoint, so a crash mid-write leaves the previous checkpoint intact.
+ */
+public class CheckpointWriter implements AutoCloseable {
+	private final Path path;
+	private final Path tmp;
+	private final int interval;
+	private final AtomicReference<Snapshot> pending = new AtomicReference<>();
+	private final ExecutorService executor;
+	private volatile IOException failure;
+	private volatile long written;
+	private volatile long superseded;
+
+	/**
+	 * @param path     checkpoint file, replaced by every write
+	 * @param interval iterations between two snapshots
+	 */
+	public CheckpointWriter(Path path, int interval) {
+		if (interval <= 0) {
+			throw new IllegalArgumentException("checkpoint interval must be positive");
+		}
+		this.path = path;
+		this.tmp = path.resolveSibling(path.getFileName() + ".tmp");
+		this.interval = interval;
+		this.executor = Executors.newSingleThreadExecutor(r -> {
+			Thread t = new Thread(r, "checkpoint-writer");
+			t.setDaemon(true);
+			return t;
+		});
+	}
+
+	public Path getPath() {
+		return path;
+	}
+
+	/**
+	 * @param iteration iterations completed so far
+	 * @return whether the optimizer should take a snapshot now
+	 */
+	public boolean isDue(int iteration) {
+		return iteration > 0 && iteration % interval == 0;
+	}
+
+	/**
+	 * queues a snapshot for writing and returns at once
+	 */
+	public void submit(Snapshot snapshot) {
+		if (pending.getAndSet(snapshot) == null) {
+			executor.execute(this::drain);
+		} else {
+			superseded++;
+		}
+	}
+
+	private void drain() {
+		Snapshot snapshot = pending.getAndSet(null);
+		if (snapshot == null) {
+			return;
+		}
+		try {
+			try (OutputStream out = Files.newOutputStream(tmp)) {
+				snapshot.write(out);
+			}
+			Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			written++;
+		} catch (IOException e) {
+			failure = e;
+		}
+	}
+
+	/**
+	 * @return snapshots written to disk
+	 */
+	public long getWritten() {
+		return written;
+	}
+
+	/**
+	 * @return snapshots dropped because a newer one arrived before they were written
+	 */
+	public long getSuperseded() {
+		return superseded;
+	}
+
+	/**
+	 * waits for the last queued snapshot to be written
+	 *
+	 * @throws IOException the last write failure, if any
+	 */
+	@Override
+	public void close() throws IOException {
+		executor.shutdown();
+		try {
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+}
@@ -0,0 +1,248 @@
+package la4am12.checkpoint;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 14:10:05
+ * @description : state of an optimizer between two iterations, enough to continue the run bit for bit
+ * <p>
+ * The population is stored as rows of doubles. On disk a matrix whose values are all non-negative integers, such
+ * as a population of vm indices, is packed into 1, 2 or 4 bytes per value; other matrices keep 8 bytes per value.
+ * Snapshots are immutable once built, the arrays passed in must not be modified afterwards.
+ */
+public class Snapshot {
+	private static final int MAGIC = 0x4C414350; // "LACP"
+	private static final byte VERSION = 1;
+	private static final long NEGATIVE_ZERO = Double.doubleToRawLongBits(-0.0);
+
+	private final String algorithm;
+	private final int iteration;
+	private final long evaluations;
+	private final long rngState;
+	private final double[][] population;
+	private final double[] fitness;
+	private final double[] incumbent;
+	private final double incumbentFitness;
+	private final double meanFitness;
+	private final double[] curve;
+
+	/**
+	 * @param algorithm        optimizer that took the snapshot, checked on resume
+	 * @param iteration        iterations completed, the resumed run starts with the next one
+	 * @param evaluations      fitness evaluations done so far
+	 * @param rngState         {@link CheckpointRandom#getState()}
+	 * @param population       one row per individual, in population order
+	 * @param fitness          fitness per individual, empty if the optimizer re-evaluates on resume
+	 * @param incumbent        best solution found so far
+	 * @param incumbentFitness its fitness
+	 * @param meanFitness      mean fitness of the last evaluated population
+	 * @param curve            per-iteration history kept by the optimizer, may be empty
+	 */
+	public Snapshot(String algorithm, int iteration, long evaluations, long rngState,
+					double[][] population, double[] fitness,
+					double[] incumbent, double incumbentFitness, double meanFitness, double[] curve) {
+		this.algorithm = algorithm;
+		this.iteration = iteration;
+		this.evaluations = evaluations;
+		this.rngState = rngState;
+		this.population = population;
+		this.fitness = fitness;
+		this.incumbent = incumbent;
+		this.incumbentFitness = incumbentFitness;
+		this.meanFitness = meanFitness;
+		this.curve = curve;
+	}
+
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	public int getIteration() {
+		return iteration;
+	}
+
+	public long getEvaluations() {
+		return evaluations;
+	}
+
+	public long getRngState() {
+		return rngState;
+	}
+
+	public double[][] getPopulation() {
+		return population;
+	}
+
+	public double[] getFitness() {
+		return fitness;
+	}
+
+	public double[] getIncumbent() {
+		return incumbent;
+	}
+
+	public double getIncumbentFitness() {
+		return incumbentFitness;
+	}
+
+	public double getMeanFitness() {
+		return meanFitness;
+	}
+
+	public double[] getCurve() {
+		return curve;
+	}
+
+	/**
+	 * checks that this snapshot was taken by the given optimizer on a problem of the same shape
+	 */
+	public void checkCompatible(String algorithm, int populationSize, int dim) {
+		if (!this.algorithm.equals(algorithm)) {
+			throw new IllegalArgumentException("snapshot of " + this.algorithm + " cannot resume " + algorithm);
+		}
+		if (population.length != populationSize || incumbent.length != dim
+				|| population.length > 0 && population[0].length != dim) {
+			throw new IllegalArgumentException("snapshot has " + population.length + " individuals of " + incumbent.length
+					+ " genes, expected " + populationSize + " of " + dim);
+		}
+	}
+
+	public void write(OutputStream out) throws IOException {
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+		data.writeInt(MAGIC);
+		data.writeByte(VERSION);
+		data.writeUTF(algorithm);
+		data.writeInt(iteration);
+		data.writeLong(evaluations);
+		data.writeLong(rngState);
+		data.writeDouble(incumbentFitness);
+		data.writeDouble(meanFitness);
+		writeMatrix(data, new double[][]{incumbent});
+		writeMatrix(data, population);
+		writeArray(data, fitness);
+		writeArray(data, curve);
+		data.flush();
+	}
+
+	public static Snapshot read(Path path) throws IOException {
+		try (InputStream in = Files.newInputStream(path)) {
+			return read(in);
+		}
+	}
+
+	public static Snapshot read(InputStream in) throws IOException {
+		DataInputStream data = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+		if (data.readInt() != MAGIC) {
+			throw new IOException("not a checkpoint file");
+		}
+		byte version = data.readByte();
+		if (version != VERSION) {
+			throw new IOException("unsupported checkpoint version " + version);
+		}
+		String algorithm = data.readUTF();
+		int iteration = data.readInt();
+		long evaluations = data.readLong();
+		long rngState = data.readLong();
+		double incumbentFitness = data.readDouble();
+		double meanFitness = data.readDouble();
+		double[] incumbent = readMatrix(data)[0];
+		double[][] population = readMatrix(data);
+		double[] fitness = readArray(data);
+		double[] curve = readArray(data);
+		return new Snapshot(algorithm, iteration, evaluations, rngState, population, fitness,
+				incumbent, incumbentFitness, meanFitness, curve);
+	}
+
+	/**
+	 * @return bytes per value needed to store the matrix exactly, 8 if it is not all non-negative integers
+	 */
+	private static int width(double[][] matrix) {
+		double max = 0;
+		for (double[] row : matrix) {
+			for (double v : row) {
+				if (v < 0 || v != Math.rint(v) || v > Integer.MAX_VALUE || Double.doubleToRawLongBits(v) == NEGATIVE_ZERO) {
+					return 8;
+				}
+				max = Math.max(max, v);
+			}
+		}
+		return max <= 0xFF ? 1 : max <= 0xFFFF ? 2 : 4;
+	}
+
+	private static void writeMatrix(DataOutputStream data, double[][] matrix) throws IOException {
+		int cols = matrix.length == 0 ? 0 : matrix[0].length;
+		int width = width(matrix);
+		data.writeInt(matrix.length);
+		data.writeInt(cols);
+		data.writeByte(width);
+		for (double[] row : matrix) {
+			for (double v : row) {
+				switch (width) {
+					case 1:
+						data.writeByte((int) v);
+						break;
+					case 2:
+						data.writeShort((int) v);
+						break;
+					case 4:
+						data.writeInt((int) v);
+						break;
+					default:
+						data.writeDouble(v);
+				}
+			}
+		}
+	}
+
+	private static double[][] readMatrix(DataInputStream data) throws IOException {
+		int rows = data.readInt();
+		int cols = data.readInt();
+		int width = data.readByte();
+		double[][] matrix = new double[rows][cols];
+		for (double[] row : matrix) {
+			for (int j = 0; j < cols; j++) {
+				switch (width) {
+					case 1:
+						row[j] = data.readUnsignedByte();
+						break;
+					case 2:
+						row[j] = data.readUnsignedShort();
+						break;
+					case 4:
+						row[j] = data.readInt();
+						break;
+					case 8:
+						row[j] = data.readDouble();
+						break;
+					default:
+						throw new IOException("bad value width " + width);
+				}
+			}
+		}
+		return matrix;
+	}
+
+	private static void writeArray(DataOutputStream data, double[] array) throws IOException {
+		data.writeInt(array.length);
+		for (double v : array) {
+			data.writeDouble(v);
+		}
+	}
+
+	private static double[] readArray(DataInputStream data) throws IOException {
+		double[] array = new double[data.readInt()];
+		for (int i = 0; i < array.length; i++) {
+			array[i] = data.readDouble();
+		}
+		return array;
+	}
+}
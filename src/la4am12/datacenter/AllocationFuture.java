@@ -0,0 +1,36 @@
+package la4am12.datacenter;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 16:02:48
+ * @description : pending result of Scheduler.allocateAsync
+ * <p>
+ * The optimizer polls this future between iterations. {@link #stop()} makes it finish early and complete
+ * normally with the best assignment found so far. Completing the future any other way, e.g. {@link #cancel}
+ * or {@link #orTimeout}, also stops the optimizer, so an abandoned request does not keep burning a core.
+ */
+public class AllocationFuture extends CompletableFuture<int[]> {
+	private volatile boolean stopRequested;
+
+	/**
+	 * asks the optimizer to stop after its current iteration and complete with its best-so-far assignment
+	 */
+	public void stop() {
+		stopRequested = true;
+	}
+
+	public boolean isStopRequested() {
+		return stopRequested;
+	}
+
+	boolean shouldStop() {
+		return stopRequested || isDone();
+	}
+
+	@Override
+	public <U> CompletableFuture<U> newIncompleteFuture() {
+		return new CompletableFuture<>();
+	}
+}
@@ -0,0 +1,55 @@
+package la4am12.datacenter;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 15:18:04
+ * @description : assignment returned by a budgeted allocation, with the resources it actually used
+ */
+public class AllocationResult {
+	private final int[] cloudletToVm;
+	private final long evaluations;
+	private final long elapsedNanos;
+	private final int iterations;
+	private final boolean budgetExhausted;
+
+	/**
+	 * @param cloudletToVm    best assignment found, cloudletToVm[i] is the vm id of cloudlet i
+	 * @param evaluations     fitness evaluations used
+	 * @param elapsedNanos    wall time used
+	 * @param iterations      optimizer iterations completed, 0 for one-shot heuristics
+	 * @param budgetExhausted whether the run stopped on the budget before its iteration limit
+	 */
+	public AllocationResult(int[] cloudletToVm, long evaluations, long elapsedNanos, int iterations, boolean budgetExhausted) {
+		this.cloudletToVm = cloudletToVm;
+		this.evaluations = evaluations;
+		this.elapsedNanos = elapsedNanos;
+		this.iterations = iterations;
+		this.budgetExhausted = budgetExhausted;
+	}
+
+	public int[] getCloudletToVm() {
+		return cloudletToVm;
+	}
+
+	public long getEvaluations() {
+		return evaluations;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	public int getIterations() {
+		return iterations;
+	}
+
+	public boolean isBudgetExhausted() {
+		return budgetExhausted;
+	}
+
+	@Override
+	public String toString() {
+		return "AllocationResult{evaluations=" + evaluations + ", elapsed=" + elapsedNanos / 1_000_000 + "ms"
+				+ ", iterations=" + iterations + ", budgetExhausted=" + budgetExhausted + "}";
+	}
+}
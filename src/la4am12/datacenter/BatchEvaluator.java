@@ -0,0 +1,15 @@
+package la4am12.datacenter;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 16:05:12
+ * @description : evaluates a whole population at once, e.g. on remote workers
+ */
+@FunctionalInterface
+public interface BatchEvaluator {
+	/**
+	 * @param assignments one cloudlet-to-vm assignment per individual, must not be modified
+	 * @param fitness     receives the fitness of assignments[i] at index i
+	 */
+	void evaluate(int[][] assignments, double[] fitness);
+}
@@ -0,0 +1,93 @@
+package la4am12.datacenter;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 15:10:37
+ * @description : wall-clock and fitness-evaluation limits of one allocation
+ * <p>
+ * Optimizers check the budget between iterations, so a run overshoots it by at most one iteration.
+ * A budget may also carry a stop signal, which is how asynchronous allocations are cancelled cooperatively.
+ */
+public class Budget {
+	private static final long NONE = Long.MAX_VALUE;
+	private static final Budget UNLIMITED = new Budget(NONE, NONE, null);
+
+	private final long timeoutNanos;
+	private final long maxEvaluations;
+	private final BooleanSupplier stopSignal;
+
+	private Budget(long timeoutNanos, long maxEvaluations) {
+		this(timeoutNanos, maxEvaluations, null);
+	}
+
+	private Budget(long timeoutNanos, long maxEvaluations, BooleanSupplier stopSignal) {
+		if (timeoutNanos < 0 || maxEvaluations < 0) {
+			throw new IllegalArgumentException("budget must not be negative");
+		}
+		this.timeoutNanos = timeoutNanos;
+		this.maxEvaluations = maxEvaluations;
+		this.stopSignal = stopSignal;
+	}
+
+	public static Budget unlimited() {
+		return UNLIMITED;
+	}
+
+	public static Budget timeout(Duration timeout) {
+		return new Budget(timeout.toNanos(), NONE);
+	}
+
+	public static Budget evaluations(long maxEvaluations) {
+		return new Budget(NONE, maxEvaluations);
+	}
+
+	/**
+	 * @param timeout        wall time allowed from the start of the run
+	 * @param maxEvaluations fitness evaluations allowed
+	 */
+	public static Budget of(Duration timeout, long maxEvaluations) {
+		return new Budget(timeout.toNanos(), maxEvaluations);
+	}
+
+	/**
+	 * @param signal polled between iterations, the run stops once it returns true
+	 * @return this budget additionally limited by the signal
+	 */
+	public Budget stopWhen(BooleanSupplier signal) {
+		BooleanSupplier combined = stopSignal == null ? signal : () -> stopSignal.getAsBoolean() || signal.getAsBoolean();
+		return new Budget(timeoutNanos, maxEvaluations, combined);
+	}
+
+	/**
+	 * @param startNanos  {@link System#nanoTime()} at the start of the run
+	 * @param evaluations evaluations spent so far
+	 * @return whether the run must stop
+	 */
+	public boolean isExhausted(long startNanos, long evaluations) {
+		if (evaluations >= maxEvaluations || stopSignal != null && stopSignal.getAsBoolean()) {
+			return true;
+		}
+		return timeoutNanos != NONE && System.nanoTime() - startNanos >= timeoutNanos;
+	}
+
+	public boolean isUnlimited() {
+		return timeoutNanos == NONE && maxEvaluations == NONE && stopSignal == null;
+	}
+
+	public long getTimeoutNanos() {
+		return timeoutNanos;
+	}
+
+	public long getMaxEvaluations() {
+		return maxEvaluations;
+	}
+
+	@Override
+	public String toString() {
+		return "Budget{timeout=" + (timeoutNanos == NONE ? "none" : timeoutNanos / 1_000_000 + "ms")
+				+ ", evaluations=" + (maxEvaluations == NONE ? "none" : maxEvaluations) + "}";
+	}
+}
@@ -0,0 +1,209 @@
+package la4am12.datacenter;
+
+import org.cloudbus.cloudsim.Vm;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 10:20:15
+ * @description : vm fleet model, the vms are laid out class by class and vm i has mips[i] and price[i]
+ */
+public class Fleet {
+	private final List<VmClass> classes;
+	private final double[] mips;
+	private final double[] price;
+	private final int[] classOf;
+
+	public Fleet(List<VmClass> classes) {
+		if (classes.isEmpty()) {
+			throw new IllegalArgumentException("fleet must contain at least one vm class");
+		}
+		this.classes = Collections.unmodifiableList(new ArrayList<>(classes));
+		int size = 0;
+		for (VmClass c : classes) {
+			size += c.getCount();
+		}
+		if (size == 0) {
+			throw new IllegalArgumentException("fleet must contain at least one vm");
+		}
+		mips = new double[size];
+		price = new double[size];
+		classOf = new int[size];
+		int vm = 0;
+		for (int k = 0; k < classes.size(); k++) {
+			VmClass c = classes.get(k);
+			for (int i = 0; i < c.getCount(); i++, vm++) {
+				mips[vm] = c.getMips();
+				price[vm] = c.getPrice();
+				classOf[vm] = k;
+			}
+		}
+	}
+
+	/**
+	 * 默认机群：与 Constants 中的 4/3/2 台低/中/高性能虚拟机一致
+	 */
+	public static Fleet defaultFleet() {
+		List<VmClass> classes = new ArrayList<>();
+		classes.add(new VmClass("L", Constants.L_MIPS, Constants.L_PRICE, Constants.L_VM_N));
+		classes.add(new VmClass("M", Constants.M_MIPS, Constants.M_PRICE, Constants.M_VM_N));
+		classes.add(new VmClass("H", Constants.H_MIPS, Constants.H_PRICE, Constants.H_VM_N));
+		return new Fleet(classes);
+	}
+
+	/**
+	 * 生成 classNum 个性能等级、共 vmNum 台虚拟机的机群
+	 * 第 k 级的 mips 为 L_MIPS * 2^k，价格按 1.8 倍递增（与默认机群一样，越快的机器单位计算量越便宜），
+	 * 台数按 classNum+1, classNum, ..., 2 的权重分配，classNum = 3, vmNum = 9 时即为默认机群
+	 *
+	 * @param classNum 虚拟机等级数
+	 * @param vmNum    虚拟机总数
+	 * @return 生成的机群
+	 */
+	public static Fleet generate(int classNum, int vmNum) {
+		if (classNum <= 0 || vmNum < classNum) {
+			throw new IllegalArgumentException("need 0 < classNum <= vmNum, got " + classNum + " classes for " + vmNum + " vms");
+		}
+		int weightSum = 0;
+		for (int k = 0; k < classNum; k++) {
+			weightSum += classNum + 1 - k;
+		}
+		List<VmClass> classes = new ArrayList<>();
+		int assigned = 0;
+		for (int k = 0; k < classNum; k++) {
+			int count = k == classNum - 1
+					? vmNum - assigned
+					: Math.max(1, (int) ((long) vmNum * (classNum + 1 - k) / weightSum));
+			assigned += count;
+			int mips = Constants.L_MIPS << k;
+			double price = Constants.L_PRICE * Math.pow(1.8, k);
+			classes.add(new VmClass("C" + k, mips, price, count));
+		}
+		return new Fleet(classes);
+	}
+
+	/**
+	 * 从 properties 文件加载机群，格式见 conf/fleet-large.properties：
+	 * <pre>
+	 * fleet.classes=L,M,H
+	 * fleet.L.mips=1000
+	 * fleet.L.price=0.3
+	 * fleet.L.count=4
+	 * </pre>
+	 * 也可以只给出 fleet.generate.classes 和 fleet.generate.vms，交给 {@link #generate(int, int)} 生成
+	 *
+	 * @param path 配置文件路径
+	 * @return 加载的机群
+	 * @throws IOException 读取文件失败
+	 */
+	public static Fleet load(Path path) throws IOException {
+		Properties props = new Properties();
+		try (Reader reader = Files.newBufferedReader(path)) {
+			props.load(reader);
+		}
+		return fromProperties(props);
+	}
+
+	public static Fleet fromProperties(Properties props) {
+		String generateClasses = props.getProperty("fleet.generate.classes");
+		if (generateClasses != null) {
+			return generate(Integer.parseInt(generateClasses.trim()), Integer.parseInt(required(props, "fleet.generate.vms")));
+		}
+		List<VmClass> classes = new ArrayList<>();
+		for (String name : required(props, "fleet.classes").split(",")) {
+			name = name.trim();
+			if (name.isEmpty()) {
+				continue;
+			}
+			String prefix = "fleet." + name + ".";
+			classes.add(new VmClass(
+					name,
+					Integer.parseInt(required(props, prefix + "mips")),
+					Double.parseDouble(required(props, prefix + "price")),
+					Integer.parseInt(required(props, prefix + "count"))));
+		}
+		return new Fleet(classes);
+	}
+
+	private static String required(Properties props, String key) {
+		String value = props.getProperty(key);
+		if (value == null) {
+			throw new IllegalArgumentException("missing fleet property: " + key);
+		}
+		return value.trim();
+	}
+
+	/**
+	 * 为已有虚拟机列表推断机群，价格按默认机群中相同 mips 的等级确定，未知 mips 的虚拟机价格为 0
+	 * 第 i 个元素对应 id 为 i 的虚拟机
+	 */
+	public static Fleet of(List<Vm> vmList) {
+		Fleet defaults = defaultFleet();
+		List<VmClass> classes = new ArrayList<>();
+		Vm[] byId = new Vm[vmList.size()];
+		for (Vm vm : vmList) {
+			byId[vm.getId()] = vm;
+		}
+		for (Vm vm : byId) {
+			int mips = (int) vm.getMips();
+			double price = 0;
+			for (VmClass c : defaults.classes) {
+				if (c.getMips() == mips) {
+					price = c.getPrice();
+				}
+			}
+			classes.add(new VmClass("VM" + vm.getId(), mips, price, 1));
+		}
+		return new Fleet(classes);
+	}
+
+	/**
+	 * @return 虚拟机总数
+	 */
+	public int size() {
+		return mips.length;
+	}
+
+	public List<VmClass> getClasses() {
+		return classes;
+	}
+
+	public double getMips(int vm) {
+		return mips[vm];
+	}
+
+	public double getPrice(int vm) {
+		return price[vm];
+	}
+
+	public int getClassOf(int vm) {
+		return classOf[vm];
+	}
+
+	/**
+	 * @return 每台虚拟机的 mips，调用方不应修改
+	 */
+	public double[] getMipsArray() {
+		return mips;
+	}
+
+	/**
+	 * @return 每台虚拟机的价格，调用方不应修改
+	 */
+	public double[] getPriceArray() {
+		return price;
+	}
+
+	@Override
+	public String toString() {
+		return "Fleet" + classes;
+	}
+}
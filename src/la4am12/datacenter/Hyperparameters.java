@@ -0,0 +1,70 @@
+package la4am12.datacenter;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 11:20:44
+ * @description : settings of a population-based metaheuristic, each scheduler has its own DEFAULTS
+ */
+public class Hyperparameters {
+	private final int populationSize;
+	private final int maxGenerations;
+	private final double crossoverRate;
+	private final double mutationRate;
+	private final double tournamentRatio;
+	private final double phaseOutRatio;
+
+	/**
+	 * @param populationSize  种群大小
+	 * @param maxGenerations  最大迭代次数
+	 * @param crossoverRate   交叉概率
+	 * @param mutationRate    变异概率
+	 * @param tournamentRatio 锦标赛选择中的竞争个数占比
+	 * @param phaseOutRatio   每次迭代淘汰重生的个体占比（HWGA）
+	 */
+	public Hyperparameters(int populationSize, int maxGenerations, double crossoverRate, double mutationRate,
+						   double tournamentRatio, double phaseOutRatio) {
+		if (populationSize <= 0 || maxGenerations < 0) {
+			throw new IllegalArgumentException("population size must be positive and generations non-negative");
+		}
+		this.populationSize = populationSize;
+		this.maxGenerations = maxGenerations;
+		this.crossoverRate = crossoverRate;
+		this.mutationRate = mutationRate;
+		this.tournamentRatio = tournamentRatio;
+		this.phaseOutRatio = phaseOutRatio;
+	}
+
+	public int getPopulationSize() {
+		return populationSize;
+	}
+
+	public int getMaxGenerations() {
+		return maxGenerations;
+	}
+
+	public double getCrossoverRate() {
+		return crossoverRate;
+	}
+
+	public double getMutationRate() {
+		return mutationRate;
+	}
+
+	public double getTournamentRatio() {
+		return tournamentRatio;
+	}
+
+	public double getPhaseOutRatio() {
+		return phaseOutRatio;
+	}
+
+	public Hyperparameters withMaxGenerations(int maxGenerations) {
+		return new Hyperparameters(populationSize, maxGenerations, crossoverRate, mutationRate, tournamentRatio, phaseOutRatio);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("population=%d, generations=%d, crossover=%.3f, mutation=%.4f, tournament=%.3f, phaseOut=%.3f",
+				populationSize, maxGenerations, crossoverRate, mutationRate, tournamentRatio, phaseOutRatio);
+	}
+}
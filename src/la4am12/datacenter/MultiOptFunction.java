@@ -0,0 +1,14 @@
+package la4am12.datacenter;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 09:12:30
+ * @description : multi-objective optimization function, all objectives are minimized
+ */
+public interface MultiOptFunction {
+	/**
+	 * writes the objective values of params to objectives[offset], objectives[offset + 1], ...
+	 * implementations must be safe to call from several threads
+	 */
+	void calc(int[] params, double[] objectives, int offset);
+}
@@ -1,12 +1,29 @@
 package la4am12.datacenter;
 
+import la4am12.bounds.GapMonitor;
+import la4am12.bounds.MakespanBounds;
+import la4am12.bounds.OptimalityGap;
+import la4am12.chaos.ChaoticMap;
+import la4am12.checkpoint.CheckpointWriter;
+import la4am12.checkpoint.Snapshot;
+import la4am12.repair.RepairResult;
+import la4am12.repair.ScheduleRepair;
+import la4am12.telemetry.ProgressListener;
+import la4am12.telemetry.jfr.AllocateEvent;
 import org.cloudbus.cloudsim.Cloudlet;
 import org.cloudbus.cloudsim.Log;
 import org.cloudbus.cloudsim.Vm;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * @author : LA4AM12
@@ -20,27 +37,245 @@ public abstract class Scheduler {
 	private static final double BETA = 1.0/3;
 	// LB
 	private static final double GAMMA = 1.0/3;
+	// 异步分配使用的虚拟线程执行器，每个请求一个虚拟线程
+	private static final ExecutorService ASYNC_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+	// 把 ByteBuffer 当作本机字节序的 int 数组读取，供堆外种群的估算使用
+	private static final VarHandle GENE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
 	protected List<Cloudlet> cloudletList;
 	protected List<Vm> vmList;
 	protected int cloudletNum;
 	protected int vmNum;
+	protected Fleet fleet;
+	// 第 i 个云任务的长度
+	protected long[] cloudletLength;
+	// 第 j 台虚拟机的 mips
+	protected double[] vmMips;
+	// 第 j 台虚拟机每秒的费用
+	protected double[] vmPrice;
+	// 随机分配方案，其负载均衡度作为 LB 的归一化上界
 	private int[] randomCloudletToVm;
+	// 适应度归一化的上下界：最小/最大成本、最小/最大总时间、最小/最大LB，由一次遍历的估算函数首次调用时计算
+	private volatile double[] fitnessBounds;
+	// makespan 的下界，第一次调用 getMakespanLowerBound() 时计算
+	private volatile MakespanBounds makespanBounds;
+	// 生成随机分配方案的固定种子，使同一工作负载的适应度函数在不同进程中相同，检查点才能在别的进程中恢复
+	private static final long LB_REFERENCE_SEED = 0x4C42L;
 
 
 	public Scheduler(List<Cloudlet> cloudletList, List<Vm> vmList) {
+		this(cloudletList, vmList, Fleet.of(vmList));
+	}
+
+	public Scheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet) {
+		if (fleet.size() != vmList.size()) {
+			throw new IllegalArgumentException("fleet has " + fleet.size() + " vms but vm list has " + vmList.size());
+		}
 		this.cloudletList = cloudletList;
 		this.vmList = vmList;
+		this.fleet = fleet;
 		cloudletNum = cloudletList.size();
 		vmNum = vmList.size();
 		randomCloudletToVm = new int[cloudletNum];
-		Random random = new Random();
+		Random random = new Random(LB_REFERENCE_SEED);
 		for (int i = 0; i < cloudletNum; i++) {
 			randomCloudletToVm[i] = random.nextInt(vmNum);
 		}
+		indexWorkload();
+	}
+
+	/**
+	 * 把云任务长度和虚拟机的 mips、价格缓存到数组中，供估算函数使用
+	 * 子类如果在构造后重排了 cloudletList 或 vmList，需要重新调用
+	 */
+	protected final void indexWorkload() {
+		fitnessBounds = null;
+		makespanBounds = null;
+		cloudletLength = new long[cloudletNum];
+		for (int i = 0; i < cloudletNum; i++) {
+			cloudletLength[i] = cloudletList.get(i).getCloudletLength();
+		}
+		// 按虚拟机ID下标，与 allocate() 返回的分配方案一致
+		vmMips = new double[vmNum];
+		vmPrice = new double[vmNum];
+		for (Vm vm : vmList) {
+			vmMips[vm.getId()] = vm.getMips();
+			vmPrice[vm.getId()] = fleet.getPrice(vm.getId());
+		}
 	}
 
 	public abstract int[] allocate();
 
+	/**
+	 * 在预算内分配云任务，预算耗尽时返回目前为止的最佳方案
+	 * 默认实现直接调用 allocate()，适用于一次完成、不迭代的启发式调度器
+	 *
+	 * @param budget 时间和适应度评估次数的预算
+	 * @return 分配方案以及实际使用的评估次数和时间
+	 */
+	public AllocationResult allocate(Budget budget) {
+		long start = System.nanoTime();
+		int[] cloudletToVm = allocate();
+		return new AllocationResult(cloudletToVm, getEvaluations(), System.nanoTime() - start, 0, false);
+	}
+
+	/**
+	 * 在预算内分配云任务，最佳方案的 makespan 与下界的差距不超过 gapThreshold 时提前结束
+	 * 只有每次迭代提交最佳解的优化器（GA、TentGA、WOA、HWGA 等）能提前结束，其余调度器等同于 allocate(budget)
+	 * 本次分配期间占用调度器的解交换通道，结束后清空，不能与 {@link #setSolutionExchange} 同时使用
+	 *
+	 * @param budget       时间和适应度评估次数的预算
+	 * @param gapThreshold makespan 差距阈值，为下界的比例，如 0.001
+	 * @return 分配方案以及实际使用的评估次数和时间
+	 */
+	public AllocationResult allocate(Budget budget, double gapThreshold) {
+		GapMonitor monitor = new GapMonitor(this, gapThreshold);
+		setSolutionExchange(monitor);
+		try {
+			return allocate(budget.stopWhen(monitor::isReached));
+		} finally {
+			setSolutionExchange(null);
+		}
+	}
+
+	/**
+	 * 在虚拟线程上异步分配云任务，优化器在每次迭代前检查返回的 future 是否被停止或取消
+	 * 同一个调度器实例不能同时执行多个分配，并发请求应各自创建调度器
+	 *
+	 * @param budget 时间和适应度评估次数的预算
+	 * @return 分配方案的 future，调用 {@link AllocationFuture#stop()} 可提前得到目前为止的最佳方案
+	 */
+	public AllocationFuture allocateAsync(Budget budget) {
+		return allocateAsync(budget, ASYNC_EXECUTOR);
+	}
+
+	/**
+	 * 同 {@link #allocateAsync(Budget)}，在指定的执行器上运行
+	 */
+	public AllocationFuture allocateAsync(Budget budget, Executor executor) {
+		AllocationFuture future = new AllocationFuture();
+		Budget stoppable = budget.stopWhen(future::shouldStop);
+		executor.execute(() -> {
+			if (future.isDone()) {
+				return;
+			}
+			try {
+				future.complete(allocate(stoppable).getCloudletToVm());
+			} catch (Throwable t) {
+				future.completeExceptionally(t);
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * 调用 allocate() 并把本次分配记录为 JFR 事件，未开启记录时没有额外开销
+	 *
+	 * @return allocate() 返回的分配方案
+	 */
+	public int[] allocateAndRecord() {
+		AllocateEvent event = new AllocateEvent();
+		event.begin();
+		int[] cloudletToVm = allocate();
+		event.end();
+		if (event.shouldCommit()) {
+			event.algorithm = getClass().getSimpleName();
+			event.cloudletNum = cloudletNum;
+			event.vmNum = vmNum;
+			event.evaluations = getEvaluations();
+			event.commit();
+		}
+		return cloudletToVm;
+	}
+
+	/**
+	 * @return 最近一次 allocate() 使用的适应度评估次数，非迭代优化的调度器为 0
+	 */
+	public long getEvaluations() {
+		return 0;
+	}
+
+	public List<Cloudlet> getCloudletList() {
+		return cloudletList;
+	}
+
+	/**
+	 * 设置与其他调度器交换最佳解的通道，仅对基于迭代优化的调度器有效，其余调度器忽略
+	 *
+	 * @param exchange 每次迭代提交最佳解并取回更优解
+	 */
+	public void setSolutionExchange(SolutionExchange exchange) {
+	}
+
+	/**
+	 * 设置迭代进度监听器，仅对基于迭代优化的调度器有效，其余调度器忽略
+	 *
+	 * @param listener 每次迭代结束后收到进度事件
+	 */
+	public void setProgressListener(ProgressListener listener) {
+	}
+
+	/**
+	 * 设置检查点写入器，按其间隔在后台保存优化器状态，仅对基于迭代优化的调度器有效，其余调度器忽略
+	 *
+	 * @param writer 检查点写入器
+	 */
+	public void setCheckpointWriter(CheckpointWriter writer) {
+	}
+
+	/**
+	 * 设置整代评估适应度的评估器（如远程工作进程），它必须给出与 estimateFitness 相同的值，
+	 * 仅对按代评估的调度器（GA、TentGA）有效，其余调度器忽略
+	 *
+	 * @param evaluator 整代评估器
+	 */
+	public void setBatchEvaluator(BatchEvaluator evaluator) {
+	}
+
+	/**
+	 * 设置优化器的随机数种子，相同种子的两次运行结果相同，仅对基于迭代优化的调度器有效，其余调度器忽略
+	 *
+	 * @param seed 随机数种子
+	 */
+	public void setSeed(long seed) {
+	}
+
+	/**
+	 * 设置初始化种群用的混沌映射，null 表示均匀随机，仅对 GA、TentGA、WOA、HWGA 有效，其余调度器忽略
+	 *
+	 * @param map 混沌映射
+	 */
+	public void setChaoticMap(ChaoticMap map) {
+	}
+
+	/**
+	 * 开启或关闭自适应参数控制（GA、HWGA 的变异率和交叉率，WOA 的控制参数 a），仅对这些调度器有效，其余调度器忽略
+	 *
+	 * @param adaptive 是否在运行中自适应调整参数
+	 */
+	public void setAdaptive(boolean adaptive) {
+	}
+
+	/**
+	 * 设置部分重新开始的多样性阈值（GA、HWGA），种群的归一化基因熵低于该值时保留精英、其余重新随机生成，
+	 * 仅对这些调度器有效，其余调度器忽略
+	 *
+	 * @param threshold 归一化熵的阈值，取值 [0, 1]，0 表示不跟踪多样性
+	 */
+	public void setRestartThreshold(double threshold) {
+	}
+
+	/**
+	 * 从检查点继续一次被中断的分配，未设置解交换通道时结果与未中断的运行逐位相同
+	 *
+	 * @param snapshot 同一调度器在相同云任务和虚拟机上保存的检查点
+	 * @param budget   恢复后的预算，评估次数从检查点处接着计算，时间重新计算
+	 * @return 分配方案和本次运行的统计
+	 * @throws UnsupportedOperationException 调度器不支持检查点
+	 */
+	public AllocationResult resume(Snapshot snapshot, Budget budget) {
+		throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support checkpoints");
+	}
+
 	/**
 	 * 调度云任务到虚拟机
 	 * 此方法首先分配云任务到合适的虚拟机，然后更新每个云任务的虚拟机ID，
@@ -48,7 +283,7 @@ public abstract class Scheduler {
 	 */
 	public void schedule() {
 	    // 分配云任务到虚拟机
-	    int[] cloudletToVm = allocate();
+	    int[] cloudletToVm = allocateAndRecord();
 
 	    // 更新每个云任务的虚拟机ID
 	    for (int i = 0; i < cloudletNum; i++) {
@@ -86,12 +321,10 @@ public abstract class Scheduler {
 
 	    // 遍历所有云任务，计算每个任务的执行时间，并累加到相应虚拟机的执行时间中
 	    for (int i = 0; i < cloudletNum; i++) {
-	        // 获取当前云任务的长度
-	        long length = cloudletList.get(i).getCloudletLength();
 	        // 获取当前云任务分配的虚拟机ID
 	        int vmId = cloudletToVm[i];
 	        // 计算当前云任务在分配的虚拟机上的执行时间
-	        double execTime = length / vmList.get(vmId).getMips();
+	        double execTime = cloudletLength[i] / vmMips[vmId];
 	        // 累加执行时间到对应虚拟机
 	        executeTimeOfVM[vmId] += execTime;
 	        // 累加执行时间到总执行时间，用于后续计算平均执行时间
@@ -126,12 +359,10 @@ public abstract class Scheduler {
 
 	    // 遍历所有云任务，计算每个虚拟机的总执行时间
 	    for (int i = 0; i < cloudletNum; i++) {
-	        // 获取当前云任务的执行长度
-	        long length = cloudletList.get(i).getCloudletLength();
 	        // 获取当前云任务分配的虚拟机ID
 	        int vmId = cloudletToVm[i];
 	        // 累加该虚拟机的执行时间，执行时间 = 任务长度 / 虚拟机的MIPS
-	        executeTimeOfVM[vmId] += length / vmList.get(vmId).getMips();
+	        executeTimeOfVM[vmId] += cloudletLength[i] / vmMips[vmId];
 	    }
 
 	    // 返回所有虚拟机中执行时间最长的时间，即为最大完成时间
@@ -140,8 +371,7 @@ public abstract class Scheduler {
 
 	/**
 	 * 估算运行所有云任务的总成本
-	 * 此方法根据云任务分配到的虚拟机的性能来计算成本每个云任务在特定虚拟机上的执行时间，
-	 * 再乘以该虚拟机每秒的费用，得到总成本
+	 * 每个云任务在特定虚拟机上的执行时间乘以该虚拟机每秒的费用（由机群给出），得到总成本
 	 *
 	 * @param cloudletToVm 一个数组，指示每个云任务分配给哪个虚拟机
 	 * @return 返回运行所有云任务的总成本
@@ -149,67 +379,162 @@ public abstract class Scheduler {
 	public double estimateCost(int[] cloudletToVm) {
 	    // 初始化总成本为0
 	    double cost = 0;
-	    // 初始化每秒成本，根据虚拟机性能不同而变化
-	    double costPerSec = 0;
 
 	    // 遍历所有云任务
 	    for (int i = 0; i < cloudletNum; i++) {
-	        // 获取当前云任务的长度（执行时间）
-	        long length = cloudletList.get(i).getCloudletLength();
-	        // 获取分配给当前云任务的虚拟机的MIPS性能
-	        double mips = vmList.get(cloudletToVm[i]).getMips();
-
-	        // 根据虚拟机的MIPS性能确定每秒的费用
-	        if (mips == Constants.L_MIPS) {
-	            costPerSec = Constants.L_PRICE;
-	        } else if (mips == Constants.M_MIPS) {
-	            costPerSec = Constants.M_PRICE;
-	        } else if (mips == Constants.H_MIPS) {
-	            costPerSec = Constants.H_PRICE;
-	        }
-
 	        // 获取当前云任务分配的虚拟机ID
 	        int vmId = cloudletToVm[i];
 	        // 计算当前云任务在分配的虚拟机上的执行成本，并累加到总成本中
-	        cost += length / vmList.get(vmId).getMips() * costPerSec;
+	        cost += cloudletLength[i] / vmMips[vmId] * vmPrice[vmId];
 	    }
 
 	    // 返回总成本
 	    return cost;
 	}
 
+	/**
+	 * 一次遍历同时估算成本、总时间和负载均衡度，供多目标优化使用，可在多个线程中并发调用
+	 * objectives[offset] 为成本，objectives[offset + 1] 为总时间，objectives[offset + 2] 为LB
+	 *
+	 * @param cloudletToVm 一个数组，指示每个云任务分配给哪个虚拟机
+	 * @param objectives   写入目标值的数组
+	 * @param offset       写入的起始下标
+	 */
+	public void estimateObjectives(int[] cloudletToVm, double[] objectives, int offset) {
+		double[] executeTimeOfVM = new double[vmNum];
+		double cost = 0;
+		double totalTime = 0;
+		for (int i = 0; i < cloudletNum; i++) {
+			int vmId = cloudletToVm[i];
+			double execTime = cloudletLength[i] / vmMips[vmId];
+			executeTimeOfVM[vmId] += execTime;
+			totalTime += execTime;
+			cost += execTime * vmPrice[vmId];
+		}
+		double avgExecuteTime = totalTime / vmNum;
+		double LB = 0;
+		for (int j = 0; j < vmNum; j++) {
+			LB += (executeTimeOfVM[j] - avgExecuteTime) * (executeTimeOfVM[j] - avgExecuteTime);
+		}
+		objectives[offset] = cost;
+		objectives[offset + 1] = totalTime;
+		objectives[offset + 2] = Math.sqrt(LB / vmNum);
+	}
+
 	public double estimateTotalTime(int[] cloudletToVm) {
 		double totalTime = 0;
 		for (int i = 0; i < cloudletNum; i++) {
-			long length = cloudletList.get(i).getCloudletLength();
 			int vmId = cloudletToVm[i];
-			totalTime += length / vmList.get(vmId).getMips();
+			totalTime += cloudletLength[i] / vmMips[vmId];
 		}
 		return totalTime;
 	}
 
+	/**
+	 * @return 任何分配方案的 makespan 都不低于的下界，见 {@link MakespanBounds}
+	 */
+	public double getMakespanLowerBound() {
+		MakespanBounds bounds = makespanBounds;
+		if (bounds == null) {
+			bounds = new MakespanBounds(cloudletLength, vmMips);
+			makespanBounds = bounds;
+		}
+		return bounds.getBound();
+	}
+
+	/**
+	 * 虚拟机故障或新增后修复一个分配方案，只重新放置故障虚拟机上的云任务（新增虚拟机时还有负载超过均衡水平的云任务），不必重新调度，见 {@link ScheduleRepair}
+	 *
+	 * @param cloudletToVm allocate() 给出的分配方案，不会被修改
+	 * @param failedVms    故障虚拟机的ID
+	 * @param addedMips    新增虚拟机的 mips，排在剩余虚拟机之后
+	 * @param polish       修复后局部搜索的预算，Budget.evaluations(0) 表示不搜索
+	 * @return 剩余虚拟机（按原顺序）和新增虚拟机上的分配方案
+	 */
+	public RepairResult repair(int[] cloudletToVm, int[] failedVms, double[] addedMips, Budget polish) {
+		return new ScheduleRepair(cloudletLength, vmMips).repair(cloudletToVm, failedVms, addedMips, polish);
+	}
+
+	/**
+	 * 分配方案的 makespan、成本和总时间与各自下界的差距，任何调度器的结果都可以用它比较
+	 * 成本和总时间的下界与 estimateFitness 归一化用的最小值相同
+	 *
+	 * @param cloudletToVm 一个数组，指示每个云任务分配给哪个虚拟机
+	 * @return 各目标的差距
+	 */
+	public OptimalityGap estimateGap(int[] cloudletToVm) {
+		double[] bounds = fitnessBounds();
+		return new OptimalityGap(estimateMakespan(cloudletToVm), getMakespanLowerBound(), estimateCost(cloudletToVm), bounds[0],
+				estimateTotalTime(cloudletToVm), bounds[2]);
+	}
+
+	/**
+	 * 单位计算量费用最高的虚拟机下标
+	 */
+	private int mostExpensiveVm() {
+		int idx = 0;
+		for (int j = 1; j < vmNum; j++) {
+			if (vmPrice[j] / vmMips[j] > vmPrice[idx] / vmMips[idx]) {
+				idx = j;
+			}
+		}
+		return idx;
+	}
+
+	/**
+	 * 单位计算量费用最低的虚拟机下标
+	 */
+	private int cheapestVm() {
+		int idx = 0;
+		for (int j = 1; j < vmNum; j++) {
+			if (vmPrice[j] / vmMips[j] < vmPrice[idx] / vmMips[idx]) {
+				idx = j;
+			}
+		}
+		return idx;
+	}
+
+	private int slowestVm() {
+		int idx = 0;
+		for (int j = 1; j < vmNum; j++) {
+			if (vmMips[j] < vmMips[idx]) {
+				idx = j;
+			}
+		}
+		return idx;
+	}
+
+	private int fastestVm() {
+		int idx = 0;
+		for (int j = 1; j < vmNum; j++) {
+			if (vmMips[j] > vmMips[idx]) {
+				idx = j;
+			}
+		}
+		return idx;
+	}
+
 	private double estimateMaxCost() {
 		int[] cloudletToVm = new int[cloudletNum];
-		Arrays.fill(cloudletToVm, 0);
-
+		Arrays.fill(cloudletToVm, mostExpensiveVm());
 		return estimateCost(cloudletToVm);
 	}
 
 	private double estimateMinCost() {
 		int[] cloudletToVm = new int[cloudletNum];
-		Arrays.fill(cloudletToVm, vmNum-1);
+		Arrays.fill(cloudletToVm, cheapestVm());
 		return estimateCost(cloudletToVm);
 	}
 
 	private double estimateMaxTotalTime() {
 		int[] cloudletToVm = new int[cloudletNum];
-		Arrays.fill(cloudletToVm, 0);
+		Arrays.fill(cloudletToVm, slowestVm());
 		return estimateTotalTime(cloudletToVm);
 	}
 
 	private double estimateMinTotalTime() {
 		int[] cloudletToVm = new int[cloudletNum];
-		Arrays.fill(cloudletToVm, vmNum-1);
+		Arrays.fill(cloudletToVm, fastestVm());
 		return estimateTotalTime(cloudletToVm);
 	}
 
@@ -242,4 +567,115 @@ public abstract class Scheduler {
 	    // 计算并返回适应度值，是成本、时间和负载均衡的加权和
 	    return ALPHA * costRatio + BETA * timeRatio + GAMMA * lbRatio;
 	}
+
+	/**
+	 * 直接从堆外缓冲区估算适应度，一次遍历算出成本、总时间和负载均衡度，结果与 estimateFitness(int[]) 逐位相同
+	 * 归一化用的上下界只在第一次调用时计算，可在多个线程中并发调用
+	 *
+	 * @param cloudletToVm 本机字节序的 int 分配方案，第 i 个 int 为第 i 个云任务的虚拟机ID，不使用其 position
+	 * @return 适应度值
+	 */
+	public double estimateFitness(ByteBuffer cloudletToVm) {
+		double[] executeTimeOfVM = new double[vmNum];
+		double cost = 0;
+		double totalTime = 0;
+		for (int i = 0; i < cloudletNum; i++) {
+			int vmId = (int) GENE.get(cloudletToVm, i << 2);
+			double execTime = cloudletLength[i] / vmMips[vmId];
+			executeTimeOfVM[vmId] += execTime;
+			totalTime += execTime;
+			cost += execTime * vmPrice[vmId];
+		}
+		return combineFitness(cost, totalTime, executeTimeOfVM);
+	}
+
+	/**
+	 * 估算以 byte 存储的分配方案的适应度，虚拟机ID按无符号数读取，适用于不超过 256 台虚拟机，结果与 estimateFitness(int[]) 逐位相同
+	 *
+	 * @param cloudletToVm 第 i 个元素为第 i 个云任务的虚拟机ID
+	 * @return 适应度值
+	 */
+	public double estimateFitness(byte[] cloudletToVm) {
+		double[] executeTimeOfVM = new double[vmNum];
+		double cost = 0;
+		double totalTime = 0;
+		for (int i = 0; i < cloudletNum; i++) {
+			int vmId = cloudletToVm[i] & 0xFF;
+			double execTime = cloudletLength[i] / vmMips[vmId];
+			executeTimeOfVM[vmId] += execTime;
+			totalTime += execTime;
+			cost += execTime * vmPrice[vmId];
+		}
+		return combineFitness(cost, totalTime, executeTimeOfVM);
+	}
+
+	/**
+	 * 估算以 short 存储的分配方案的适应度，虚拟机ID按无符号数读取，适用于不超过 65536 台虚拟机，结果与 estimateFitness(int[]) 逐位相同
+	 *
+	 * @param cloudletToVm 第 i 个元素为第 i 个云任务的虚拟机ID
+	 * @return 适应度值
+	 */
+	public double estimateFitness(short[] cloudletToVm) {
+		double[] executeTimeOfVM = new double[vmNum];
+		double cost = 0;
+		double totalTime = 0;
+		for (int i = 0; i < cloudletNum; i++) {
+			int vmId = cloudletToVm[i] & 0xFFFF;
+			double execTime = cloudletLength[i] / vmMips[vmId];
+			executeTimeOfVM[vmId] += execTime;
+			totalTime += execTime;
+			cost += execTime * vmPrice[vmId];
+		}
+		return combineFitness(cost, totalTime, executeTimeOfVM);
+	}
+
+	/**
+	 * 由一次遍历得到的成本、总时间和每台虚拟机的执行时间计算适应度，与 estimateFitness(int[]) 的运算顺序相同
+	 */
+	private double combineFitness(double cost, double totalTime, double[] executeTimeOfVM) {
+		double[] bounds = fitnessBounds();
+		double avgExecuteTime = totalTime / vmNum;
+		double LB = 0;
+		for (int j = 0; j < vmNum; j++) {
+			LB += Math.pow(executeTimeOfVM[j] - avgExecuteTime, 2);
+		}
+		LB = Math.sqrt(LB / vmNum);
+
+		double costRatio = (cost - bounds[0]) / (bounds[1] - bounds[0]);
+		double timeRatio = (totalTime - bounds[2]) / (bounds[3] - bounds[2]);
+		double lbRatio = (LB - bounds[4]) / (bounds[5] - bounds[4]);
+		return ALPHA * costRatio + BETA * timeRatio + GAMMA * lbRatio;
+	}
+
+	/**
+	 * 由成本、总时间和各虚拟机执行时间的平方和估算适应度，供增量估算使用（如试探把一个云任务移到另一台虚拟机）
+	 * 与 estimateFitness(int[]) 只差舍入误差
+	 *
+	 * @param cost         总成本
+	 * @param totalTime    总执行时间，即各虚拟机执行时间之和
+	 * @param sumOfSquares 各虚拟机执行时间的平方和
+	 * @return 适应度值
+	 */
+	protected double estimateFitness(double cost, double totalTime, double sumOfSquares) {
+		double[] bounds = fitnessBounds();
+		double avgExecuteTime = totalTime / vmNum;
+		double LB = Math.sqrt(Math.max(0, sumOfSquares / vmNum - avgExecuteTime * avgExecuteTime));
+		double costRatio = (cost - bounds[0]) / (bounds[1] - bounds[0]);
+		double timeRatio = (totalTime - bounds[2]) / (bounds[3] - bounds[2]);
+		double lbRatio = (LB - bounds[4]) / (bounds[5] - bounds[4]);
+		return ALPHA * costRatio + BETA * timeRatio + GAMMA * lbRatio;
+	}
+
+	/**
+	 * 适应度归一化的上下界，第一次调用时计算
+	 */
+	private double[] fitnessBounds() {
+		double[] bounds = fitnessBounds;
+		if (bounds == null) {
+			bounds = new double[]{estimateMinCost(), estimateMaxCost(), estimateMinTotalTime(), estimateMaxTotalTime(),
+					estimateMinLB(), estimateMaxLB()};
+			fitnessBounds = bounds;
+		}
+		return bounds;
+	}
 }
@@ -0,0 +1,21 @@
+package la4am12.datacenter;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 16:40:12
+ * @description : channel through which an optimizer shares its best solution and receives better ones found elsewhere
+ */
+public interface SolutionExchange {
+	/**
+	 * offers the optimizer's best solution, called once per iteration; implementations copy what they keep
+	 *
+	 * @param cloudletToVm best assignment of the optimizer
+	 * @param fitness      its value under the optimizer's own objective (smaller is better)
+	 */
+	void offer(int[] cloudletToVm, double fitness);
+
+	/**
+	 * @return a solution found by someone else that the optimizer has not seen yet, or null
+	 */
+	int[] poll();
+}
@@ -0,0 +1,56 @@
+package la4am12.datacenter;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 10:12:40
+ * @description : a class of identical vms (same mips and price)
+ */
+public class VmClass {
+	private final String name;
+	private final int mips;
+	private final double price;
+	private final int count;
+
+	/**
+	 * @param name  class name, e.g. "L"
+	 * @param mips  mips of each vm in this class
+	 * @param price price of each vm in this class ($ per sec)
+	 * @param count number of vms in this class
+	 */
+	public VmClass(String name, int mips, double price, int count) {
+		if (mips <= 0) {
+			throw new IllegalArgumentException("mips of vm class " + name + " must be positive");
+		}
+		if (price < 0) {
+			throw new IllegalArgumentException("price of vm class " + name + " must not be negative");
+		}
+		if (count < 0) {
+			throw new IllegalArgumentException("count of vm class " + name + " must not be negative");
+		}
+		this.name = name;
+		this.mips = mips;
+		this.price = price;
+		this.count = count;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getMips() {
+		return mips;
+	}
+
+	public double getPrice() {
+		return price;
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	@Override
+	public String toString() {
+		return name + "{mips=" + mips + ", price=" + price + ", count=" + count + "}";
+	}
+}
@@ -0,0 +1,96 @@
+package la4am12.datacenter;
+
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.CloudletSchedulerSpaceShared;
+import org.cloudbus.cloudsim.UtilizationModel;
+import org.cloudbus.cloudsim.UtilizationModelFull;
+import org.cloudbus.cloudsim.Vm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 11:02:31
+ * @description : creates the cloudlets and vms of a simulation run
+ */
+public class Workload {
+	/**
+	 * 创建并返回一个包含多个虚拟机（Vm）的列表
+	 * 该方法按机群中各虚拟机等级的配置（MIPS、台数），为用户创建虚拟机，第 i 台虚拟机的ID为 i
+	 *
+	 * @param userId 用户ID，用于标识虚拟机属于哪个用户
+	 * @param fleet  机群
+	 * @return 包含创建的虚拟机的列表
+	 */
+	public static List<Vm> createVms(int userId, Fleet fleet) {
+		List<Vm> vmList = new ArrayList<>();
+
+		int pesNumber = 1; // number of cpus
+		String vmm = "Xen"; // VMM name
+
+		for (int vmId = 0; vmId < fleet.size(); vmId++) {
+			vmList.add(new Vm(vmId, userId, fleet.getMips(vmId), pesNumber, Constants.RAM, Constants.BW, Constants.IMAGE_SIZE, vmm, new CloudletSchedulerSpaceShared()));
+		}
+		return vmList;
+	}
+
+	/**
+	 * 创建云任务列表
+	 *
+	 * @param userId      用户ID，用于设置每个云任务的用户ID
+	 * @param cloudletNum 云任务数量
+	 * @param random      随机数生成器，固定种子可得到相同的任务集
+	 * @return 返回一个包含多个云任务的列表
+	 */
+	public static List<Cloudlet> createCloudlets(int userId, int cloudletNum, Random random) {
+		// 初始化云任务列表
+		List<Cloudlet> cloudletList = new ArrayList<>();
+		// 初始化云任务ID为0
+		int id = 0;
+		// 设置每个云任务使用的PE（处理元素）数量为1
+		int pesNumber = 1;
+		// 创建一个完全利用率模型实例，表示云任务将一直占用全部资源
+		UtilizationModel utilizationModel = new UtilizationModelFull();
+
+		// 循环创建cloudletNum个云任务
+		for (int i = 0; i < cloudletNum; i++) {
+			// 随机生成云任务的长度（执行时间），范围在10000到50000之间
+			long length = random.nextInt(40000) + 10000;
+			// 随机生成云任务的输入文件大小，范围在10到200之间
+			long fileSize = random.nextInt(190) + 10;
+			// 随机生成云任务的输出文件大小，范围在10到200之间
+			long outputSize = random.nextInt(190) + 10;
+			// 创建一个云任务实例
+			Cloudlet cloudlet = new Cloudlet(id, length, pesNumber, fileSize, outputSize, utilizationModel, utilizationModel, utilizationModel);
+			// 设置云任务的用户ID
+			cloudlet.setUserId(userId);
+			// 将云任务添加到列表中
+			cloudletList.add(cloudlet);
+			// 增加云任务ID，确保每个云任务有一个唯一的ID
+			id++;
+		}
+		// 返回云任务列表
+		return cloudletList;
+	}
+
+	/**
+	 * 按给定长度创建云任务，第 i 个云任务的ID为 i，用于在其他进程中重建同一工作负载
+	 * 输入输出文件大小不影响调度估算，统一取 100
+	 *
+	 * @param userId  用户ID
+	 * @param lengths 每个云任务的长度
+	 * @return 云任务列表
+	 */
+	public static List<Cloudlet> createCloudlets(int userId, long[] lengths) {
+		List<Cloudlet> cloudletList = new ArrayList<>();
+		UtilizationModel utilizationModel = new UtilizationModelFull();
+		for (int id = 0; id < lengths.length; id++) {
+			Cloudlet cloudlet = new Cloudlet(id, lengths[id], 1, 100, 100, utilizationModel, utilizationModel, utilizationModel);
+			cloudlet.setUserId(userId);
+			cloudletList.add(cloudlet);
+		}
+		return cloudletList;
+	}
+}
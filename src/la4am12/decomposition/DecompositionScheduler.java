@@ -0,0 +1,298 @@
+package la4am12.decomposition;
+
+import la4am12.datacenter.AllocationResult;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Scheduler;
+import la4am12.datacenter.VmClass;
+import la4am12.datacenter.Workload;
+import la4am12.ga.GAScheduler;
+import la4am12.portfolio.SchedulerFactory;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-21 09:12:48
+ * @description : splits a large instance into balanced subproblems, solves them in parallel and merges the results
+ * <p>
+ * Every subproblem keeps all vms, each with the share of its mips that matches the subproblem's share of the
+ * total cloudlet length, so its estimates are on the scale of a proportional slice of the fleet. The merged
+ * assignment stacks the subproblem loads on the real vms; one greedy repair pass then moves single cloudlets
+ * wherever that improves this scheduler's fitness, evening out the rounding left between subproblems.
+ */
+public class DecompositionScheduler extends Scheduler {
+	/**
+	 * how cloudlets are dealt to subproblems
+	 */
+	public enum Split {
+		/**
+		 * longest first, dealt back and forth over the subproblems, so each gets the same mix of lengths
+		 */
+		LENGTH_BUCKETS,
+		/**
+		 * cloudlet i goes to subproblem i mod parts
+		 */
+		ROUND_ROBIN
+	}
+
+	// 默认每个子问题的云任务数
+	private static final int SUBPROBLEM_SIZE = 5000;
+
+	private final SchedulerFactory factory;
+	private final int parts;
+	private final Split split;
+	private long seed = System.nanoTime();
+	private long evaluations;
+	private int repairMoves;
+
+	public DecompositionScheduler(List<Cloudlet> cloudletList, List<Vm> vmList) {
+		this(cloudletList, vmList, Fleet.of(vmList));
+	}
+
+	public DecompositionScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet) {
+		this(cloudletList, vmList, fleet, GAScheduler::new, (cloudletList.size() + SUBPROBLEM_SIZE - 1) / SUBPROBLEM_SIZE, Split.LENGTH_BUCKETS);
+	}
+
+	/**
+	 * @param factory solver of the subproblems, any scheduler
+	 * @param parts   number of subproblems
+	 * @param split   how cloudlets are dealt to subproblems
+	 */
+	public DecompositionScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet, SchedulerFactory factory, int parts, Split split) {
+		super(cloudletList, vmList, fleet);
+		if (parts <= 0) {
+			throw new IllegalArgumentException("need at least one subproblem");
+		}
+		this.factory = factory;
+		this.parts = Math.min(parts, Math.max(1, cloudletNum));
+		this.split = split;
+		Log.printLine("Using Decomposition scheduler with " + this.parts + " subproblems");
+	}
+
+	@Override
+	public int[] allocate() {
+		return allocate(Budget.unlimited()).getCloudletToVm();
+	}
+
+	@Override
+	public AllocationResult allocate(Budget budget) {
+		long start = System.nanoTime();
+		int[][] members = partition();
+		int threads = Math.min(parts, Runtime.getRuntime().availableProcessors());
+		Budget partBudget = partBudget(budget, start, threads);
+
+		Map<Cloudlet, Integer> indexOf = new IdentityHashMap<>();
+		for (int i = 0; i < cloudletNum; i++) {
+			indexOf.put(cloudletList.get(i), i);
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Future<Scheduler>> futures = new ArrayList<>();
+		int[] cloudletToVm = new int[cloudletNum];
+		long totalEvaluations = 0;
+		try {
+			for (int k = 0; k < members.length; k++) {
+				int[] part = members[k];
+				long partSeed = seed + k;
+				futures.add(executor.submit(() -> {
+					Scheduler sub = subproblem(part);
+					sub.setSeed(partSeed);
+					int[] result = sub.allocate(partBudget).getCloudletToVm();
+					// the solver may have reordered its list, map back by cloudlet identity
+					List<Cloudlet> subCloudlets = sub.getCloudletList();
+					for (int i = 0; i < result.length; i++) {
+						cloudletToVm[indexOf.get(subCloudlets.get(i))] = result[i];
+					}
+					return sub;
+				}));
+			}
+			for (Future<Scheduler> f : futures) {
+				totalEvaluations += f.get().getEvaluations();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("interrupted while solving subproblems", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("subproblem failed", e.getCause());
+		} finally {
+			executor.shutdown();
+		}
+		repairMoves = repair(cloudletToVm);
+		evaluations = totalEvaluations;
+		boolean exhausted = !budget.isUnlimited() && budget.isExhausted(start, totalEvaluations);
+		return new AllocationResult(cloudletToVm, totalEvaluations, System.nanoTime() - start, 0, exhausted);
+	}
+
+	/**
+	 * @return global cloudlet indices of each subproblem
+	 */
+	int[][] partition() {
+		int[] partOf = new int[cloudletNum];
+		if (split == Split.ROUND_ROBIN) {
+			for (int i = 0; i < cloudletNum; i++) {
+				partOf[i] = i % parts;
+			}
+		} else {
+			// sort by length, index in the low bits keeps equal lengths in index order
+			long[] keys = new long[cloudletNum];
+			for (int i = 0; i < cloudletNum; i++) {
+				keys[i] = cloudletLength[i] << 32 | i;
+			}
+			Arrays.sort(keys);
+			for (int p = 0; p < cloudletNum; p++) {
+				int i = (int) keys[cloudletNum - 1 - p];
+				int round = p / parts;
+				int offset = p % parts;
+				partOf[i] = round % 2 == 0 ? offset : parts - 1 - offset;
+			}
+		}
+		int[] sizes = new int[parts];
+		for (int part : partOf) {
+			sizes[part]++;
+		}
+		int[][] members = new int[parts][];
+		for (int k = 0; k < parts; k++) {
+			members[k] = new int[sizes[k]];
+		}
+		int[] filled = new int[parts];
+		for (int i = 0; i < cloudletNum; i++) {
+			members[partOf[i]][filled[partOf[i]]++] = i;
+		}
+		return members;
+	}
+
+	/**
+	 * builds the scheduler of one subproblem on the vms scaled to its share of the total length
+	 */
+	private Scheduler subproblem(int[] part) {
+		List<Cloudlet> subCloudlets = new ArrayList<>(part.length);
+		long partLength = 0;
+		for (int i : part) {
+			subCloudlets.add(cloudletList.get(i));
+			partLength += cloudletLength[i];
+		}
+		long totalLength = 0;
+		for (long length : cloudletLength) {
+			totalLength += length;
+		}
+		double share = (double) partLength / totalLength;
+		List<VmClass> classes = new ArrayList<>();
+		for (VmClass c : fleet.getClasses()) {
+			classes.add(new VmClass(c.getName(), Math.max(1, (int) Math.round(c.getMips() * share)), c.getPrice(), c.getCount()));
+		}
+		Fleet subFleet = new Fleet(classes);
+		return factory.create(subCloudlets, Workload.createVms(0, subFleet), subFleet);
+	}
+
+	/**
+	 * subproblems beyond the thread count wait for a thread, so each gets the time of its wave;
+	 * the evaluation budget is split evenly and the outer deadline still stops every subproblem
+	 */
+	private Budget partBudget(Budget budget, long start, int threads) {
+		if (budget.isUnlimited()) {
+			return budget;
+		}
+		int waves = (parts + threads - 1) / threads;
+		long timeout = budget.getTimeoutNanos() == Long.MAX_VALUE ? Long.MAX_VALUE : budget.getTimeoutNanos() / waves;
+		long maxEvaluations = budget.getMaxEvaluations() == Long.MAX_VALUE ? Long.MAX_VALUE : Math.max(1, budget.getMaxEvaluations() / parts);
+		return Budget.of(Duration.ofNanos(timeout), maxEvaluations).stopWhen(() -> budget.isExhausted(start, 0));
+	}
+
+	/**
+	 * one pass over the cloudlets, moving each to the vm that improves the fitness most, if any
+	 *
+	 * @return number of cloudlets moved
+	 */
+	private int repair(int[] cloudletToVm) {
+		double[] load = new double[vmNum];
+		double cost = 0;
+		double totalTime = 0;
+		for (int i = 0; i < cloudletNum; i++) {
+			int vm = cloudletToVm[i];
+			double execTime = cloudletLength[i] / vmMips[vm];
+			load[vm] += execTime;
+			totalTime += execTime;
+			cost += execTime * vmPrice[vm];
+		}
+		double sumOfSquares = 0;
+		for (double l : load) {
+			sumOfSquares += l * l;
+		}
+		double fitness = estimateFitness(cost, totalTime, sumOfSquares);
+		int moves = 0;
+		for (int i = 0; i < cloudletNum; i++) {
+			int from = cloudletToVm[i];
+			double fromTime = cloudletLength[i] / vmMips[from];
+			double fromLoad = load[from] - fromTime;
+			int best = from;
+			double bestFitness = fitness;
+			double bestCost = cost, bestTotalTime = totalTime, bestSquares = sumOfSquares;
+			for (int to = 0; to < vmNum; to++) {
+				if (to == from) {
+					continue;
+				}
+				double toTime = cloudletLength[i] / vmMips[to];
+				double toLoad = load[to] + toTime;
+				double newCost = cost - fromTime * vmPrice[from] + toTime * vmPrice[to];
+				double newTotalTime = totalTime - fromTime + toTime;
+				double newSquares = sumOfSquares - load[from] * load[from] - load[to] * load[to] + fromLoad * fromLoad + toLoad * toLoad;
+				double f = estimateFitness(newCost, newTotalTime, newSquares);
+				// ignore gains within rounding of the incremental sums
+				if (f < bestFitness - 1e-12) {
+					best = to;
+					bestFitness = f;
+					bestCost = newCost;
+					bestTotalTime = newTotalTime;
+					bestSquares = newSquares;
+				}
+			}
+			if (best != from) {
+				load[from] = fromLoad;
+				load[best] += cloudletLength[i] / vmMips[best];
+				cloudletToVm[i] = best;
+				fitness = bestFitness;
+				cost = bestCost;
+				totalTime = bestTotalTime;
+				sumOfSquares = bestSquares;
+				moves++;
+			}
+		}
+		return moves;
+	}
+
+	/**
+	 * subproblem k is seeded with seed + k
+	 */
+	@Override
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	@Override
+	public long getEvaluations() {
+		return evaluations;
+	}
+
+	/**
+	 * @return cloudlets moved by the repair pass of the last allocation
+	 */
+	public int getRepairMoves() {
+		return repairMoves;
+	}
+
+	public int getParts() {
+		return parts;
+	}
+}
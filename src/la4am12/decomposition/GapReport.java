@@ -0,0 +1,63 @@
+package la4am12.decomposition;
+
+import la4am12.datacenter.AllocationResult;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Workload;
+import la4am12.ga.GAScheduler;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-21 10:05:31
+ * @description : compares the decomposed GA with a monolithic GA under the same time budget
+ * <p>
+ * Both runs are scored by the monolithic scheduler's fitness; the gap is how much worse (positive) or better
+ * (negative) the decomposed assignment is, in percent.
+ */
+public class GapReport {
+	/**
+	 * usage: GapReport &lt;budget ms&gt; [cloudletNum x vmNum ...]
+	 * <p>
+	 * e.g. {@code GapReport 5000 3000x9 30000x9}
+	 */
+	public static void main(String[] args) {
+		Budget budget = Budget.timeout(Duration.ofMillis(args.length > 0 ? Long.parseLong(args[0]) : 5000));
+		String[] sizes = args.length > 1 ? Arrays.copyOfRange(args, 1, args.length) : new String[]{"3000x9", "30000x9"};
+
+		Log.setDisabled(true);
+		for (String size : sizes) {
+			String[] parts = size.split("x");
+			int cloudletNum = Integer.parseInt(parts[0]);
+			int vmNum = Integer.parseInt(parts[1]);
+			Fleet fleet = Fleet.generate(Math.min(3, vmNum), vmNum);
+			List<Vm> vmList = Workload.createVms(0, fleet);
+			List<Cloudlet> cloudletList = Workload.createCloudlets(0, cloudletNum, new Random(0));
+
+			GAScheduler monolithic = new GAScheduler(new ArrayList<>(cloudletList), new ArrayList<>(vmList), fleet);
+			monolithic.setSeed(0);
+			AllocationResult whole = monolithic.allocate(budget);
+			double wholeFitness = monolithic.estimateFitness(whole.getCloudletToVm());
+
+			// at least two subproblems, so the mid-size instances are decomposed too
+			int subproblems = Math.max(2, (cloudletNum + 4999) / 5000);
+			DecompositionScheduler decomposed = new DecompositionScheduler(new ArrayList<>(cloudletList), new ArrayList<>(vmList), fleet,
+					GAScheduler::new, subproblems, DecompositionScheduler.Split.LENGTH_BUCKETS);
+			AllocationResult split = decomposed.allocate(budget);
+			double splitFitness = monolithic.estimateFitness(split.getCloudletToVm());
+
+			System.out.printf("%s monolithic fitness=%.6f time=%dms%n", size, wholeFitness, whole.getElapsedNanos() / 1_000_000);
+			System.out.printf("%s decomposed fitness=%.6f time=%dms parts=%d repairMoves=%d gap=%+.2f%%%n", size, splitFitness,
+					split.getElapsedNanos() / 1_000_000, decomposed.getParts(), decomposed.getRepairMoves(),
+					100 * (splitFitness - wholeFitness) / wholeFitness);
+		}
+	}
+}
@@ -0,0 +1,255 @@
+package la4am12.distributed;
+
+import la4am12.datacenter.BatchEvaluator;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.SolutionExchange;
+import la4am12.portfolio.Contribution;
+import la4am12.portfolio.Incumbent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 17:02:50
+ * @description : coordinator side of the worker protocol, one connection per worker
+ * <p>
+ * After {@link #setup} the workers hold the problem and can either evaluate slices of a population
+ * ({@link #evaluator()}) or each run an island ({@link #runIslands}). Islands migrate through an {@link Incumbent}
+ * on the coordinator: every exchange hands the island's improvement to the incumbent and sends back a better
+ * solution found by another island, so the islands stay independent except for the best solution.
+ */
+public class Coordinator implements AutoCloseable {
+	private final List<Connection> workers;
+	private final ExecutorService executor;
+
+	private Coordinator(List<Connection> workers) {
+		this.workers = workers;
+		this.executor = Executors.newFixedThreadPool(workers.size());
+	}
+
+	public static Coordinator connect(List<InetSocketAddress> addresses) throws IOException {
+		if (addresses.isEmpty()) {
+			throw new IllegalArgumentException("need at least one worker");
+		}
+		List<Connection> workers = new ArrayList<>();
+		try {
+			for (InetSocketAddress address : addresses) {
+				workers.add(new Connection(address));
+			}
+		} catch (IOException e) {
+			for (Connection c : workers) {
+				c.socket.close();
+			}
+			throw e;
+		}
+		return new Coordinator(workers);
+	}
+
+	public int getWorkerNum() {
+		return workers.size();
+	}
+
+	/**
+	 * ships the workload and fleet to every worker, must come before evaluations and islands
+	 */
+	public void setup(long[] cloudletLength, Fleet fleet) throws IOException {
+		for (Connection c : workers) {
+			c.out.writeByte(WireFormat.SETUP);
+			WireFormat.writeProblem(c.out, cloudletLength, fleet);
+			c.out.flush();
+		}
+	}
+
+	/**
+	 * @return an evaluator that splits each population evenly between the workers
+	 */
+	public BatchEvaluator evaluator() {
+		return this::evaluate;
+	}
+
+	public void evaluate(int[][] assignments, double[] fitness) {
+		int n = workers.size();
+		List<Callable<Void>> slices = new ArrayList<>();
+		for (int k = 0; k < n; k++) {
+			Connection c = workers.get(k);
+			int from = (int) ((long) assignments.length * k / n);
+			int to = (int) ((long) assignments.length * (k + 1) / n);
+			slices.add(() -> {
+				c.evaluate(assignments, from, to, fitness);
+				return null;
+			});
+		}
+		invokeAll(slices);
+	}
+
+	/**
+	 * runs one island per worker until every island has returned its result
+	 *
+	 * @param algorithm         optimizer of the islands, see {@link Islands}
+	 * @param seed              island k is seeded with seed + k
+	 * @param budget            time is a deadline shared by the islands, evaluations are split evenly
+	 * @param migrationInterval iterations between two exchanges of an island
+	 * @param incumbent         receives every improvement and every final result
+	 * @return per island statistics, in worker order
+	 */
+	public List<Contribution> runIslands(String algorithm, long seed, Budget budget, int migrationInterval, Incumbent incumbent) {
+		long start = System.nanoTime();
+		long evaluations = budget.getMaxEvaluations() == Long.MAX_VALUE ? 0 : Math.max(1, budget.getMaxEvaluations() / workers.size());
+		List<Callable<Contribution>> islands = new ArrayList<>();
+		for (int k = 0; k < workers.size(); k++) {
+			Connection c = workers.get(k);
+			long islandSeed = seed + k;
+			islands.add(() -> c.island(algorithm, islandSeed, budget, start, evaluations, migrationInterval, incumbent));
+		}
+		return invokeAll(islands);
+	}
+
+	private <T> List<T> invokeAll(List<Callable<T>> tasks) {
+		try {
+			List<T> results = new ArrayList<>();
+			for (Future<T> f : executor.invokeAll(tasks)) {
+				results.add(f.get());
+			}
+			return results;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("interrupted while waiting for workers", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw new UncheckedIOException((IOException) e.getCause());
+			}
+			throw new IllegalStateException("worker failed", e.getCause());
+		}
+	}
+
+	/**
+	 * says BYE to every worker and closes the connections, the worker processes keep running
+	 */
+	@Override
+	public void close() throws IOException {
+		executor.shutdown();
+		IOException failure = null;
+		for (Connection c : workers) {
+			try {
+				c.out.writeByte(WireFormat.BYE);
+				c.out.flush();
+			} catch (IOException e) {
+				failure = e;
+			} finally {
+				try {
+					c.socket.close();
+				} catch (IOException e) {
+					failure = e;
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private static class Connection {
+		private final String name;
+		private final Socket socket;
+		private final DataInputStream in;
+		private final DataOutputStream out;
+
+		Connection(InetSocketAddress address) throws IOException {
+			this.name = address.getHostString() + ":" + address.getPort();
+			this.socket = new Socket(address.getAddress(), address.getPort());
+			socket.setTcpNoDelay(true);
+			this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+		}
+
+		void evaluate(int[][] assignments, int from, int to, double[] fitness) throws IOException {
+			if (from == to) {
+				return;
+			}
+			out.writeByte(WireFormat.EVALUATE);
+			WireFormat.writeVarInt(out, to - from);
+			for (int i = from; i < to; i++) {
+				WireFormat.writeAssignment(out, assignments[i]);
+			}
+			out.flush();
+			expect(WireFormat.FITNESS);
+			int count = WireFormat.readVarInt(in);
+			if (count != to - from) {
+				throw new IOException(name + " returned " + count + " fitness values for " + (to - from) + " assignments");
+			}
+			for (int i = from; i < to; i++) {
+				fitness[i] = in.readDouble();
+			}
+		}
+
+		Contribution island(String algorithm, long seed, Budget budget, long start, long evaluations,
+							int migrationInterval, Incumbent incumbent) throws IOException {
+			long islandStart = System.nanoTime();
+			long timeoutMillis = 0;
+			if (budget.getTimeoutNanos() != Long.MAX_VALUE) {
+				timeoutMillis = Math.max(1, (budget.getTimeoutNanos() - (islandStart - start)) / 1_000_000);
+			}
+			String source = algorithm + "@" + name;
+			SolutionExchange port = incumbent.port(source);
+			out.writeByte(WireFormat.ISLAND);
+			out.writeUTF(algorithm);
+			out.writeLong(seed);
+			WireFormat.writeVarLong(out, timeoutMillis);
+			WireFormat.writeVarLong(out, evaluations);
+			WireFormat.writeVarInt(out, migrationInterval);
+			out.flush();
+			while (true) {
+				byte code = in.readByte();
+				if (code == WireFormat.RESULT) {
+					int[] cloudletToVm = WireFormat.readAssignment(in);
+					double fitness = in.readDouble();
+					long islandEvaluations = WireFormat.readVarLong(in);
+					WireFormat.readVarInt(in);
+					incumbent.offer(cloudletToVm, source);
+					return new Contribution(source, fitness, islandEvaluations, System.nanoTime() - islandStart,
+							incumbent.getImprovements(source), false);
+				}
+				if (code != WireFormat.EXCHANGE) {
+					throw new IOException(name + " sent unexpected message " + code);
+				}
+				if (in.readBoolean()) {
+					double fitness = in.readDouble();
+					port.offer(WireFormat.readAssignment(in), fitness);
+				}
+				out.writeByte(WireFormat.MIGRANT);
+				int[] migrant = port.poll();
+				if (budget.isExhausted(start, 0)) {
+					out.writeByte(WireFormat.STOP);
+				} else if (migrant != null) {
+					out.writeByte(WireFormat.HAS_MIGRANT);
+					WireFormat.writeAssignment(out, migrant);
+				} else {
+					out.writeByte(WireFormat.NO_MIGRANT);
+				}
+				out.flush();
+			}
+		}
+
+		private void expect(byte code) throws IOException {
+			byte actual = in.readByte();
+			if (actual != code) {
+				throw new IOException(name + " sent message " + actual + ", expected " + code);
+			}
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package la4am12.distributed;
+
+import la4am12.datacenter.AllocationResult;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Scheduler;
+import la4am12.portfolio.Contribution;
+import la4am12.portfolio.Incumbent;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 17:25:36
+ * @description : island model over worker processes, one island per worker, migrating through the coordinator
+ * <p>
+ * Each allocation connects to the workers, ships the problem, runs the islands under the budget and returns the
+ * best solution under this scheduler's estimateFitness. Start workers with {@link Worker} on every host, or
+ * locally with {@link LocalCluster}.
+ */
+public class DistributedScheduler extends Scheduler {
+	private static final int MIGRATION_INTERVAL = 5;
+
+	private final List<InetSocketAddress> workers;
+	private final String algorithm;
+	private int migrationInterval = MIGRATION_INTERVAL;
+	private long seed = System.nanoTime();
+	private List<Contribution> contributions = Collections.emptyList();
+	private long evaluations;
+
+	/**
+	 * @param workers   addresses of running workers
+	 * @param algorithm optimizer of the islands, see {@link Islands}
+	 */
+	public DistributedScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet, List<InetSocketAddress> workers, String algorithm) {
+		super(cloudletList, vmList, fleet);
+		Islands.factory(algorithm);
+		this.workers = new ArrayList<>(workers);
+		this.algorithm = algorithm;
+		Log.printLine("Using Distributed " + algorithm + " scheduler on " + workers.size() + " workers");
+	}
+
+	/**
+	 * @param migrationInterval iterations between two migrations of an island
+	 */
+	public void setMigrationInterval(int migrationInterval) {
+		this.migrationInterval = migrationInterval;
+	}
+
+	/**
+	 * island k is seeded with seed + k
+	 */
+	@Override
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	@Override
+	public int[] allocate() {
+		return allocate(Budget.unlimited()).getCloudletToVm();
+	}
+
+	@Override
+	public AllocationResult allocate(Budget budget) {
+		long start = System.nanoTime();
+		Incumbent incumbent = new Incumbent(this::estimateFitness);
+		List<Contribution> islands;
+		try (Coordinator coordinator = Coordinator.connect(workers)) {
+			coordinator.setup(cloudletLength, fleet);
+			islands = coordinator.runIslands(algorithm, seed, budget, migrationInterval, incumbent);
+		} catch (IOException e) {
+			throw new UncheckedIOException("distributed allocation failed", e);
+		}
+		Incumbent.Entry best = incumbent.get();
+		List<Contribution> stats = new ArrayList<>();
+		long totalEvaluations = 0;
+		for (Contribution c : islands) {
+			totalEvaluations += c.getEvaluations();
+			stats.add(new Contribution(c.getAlgorithm(), c.getFitness(), c.getEvaluations(), c.getElapsedNanos(),
+					c.getImprovements(), c.getAlgorithm().equals(best.getSource())));
+		}
+		contributions = Collections.unmodifiableList(stats);
+		evaluations = totalEvaluations;
+		boolean exhausted = !budget.isUnlimited() && budget.isExhausted(start, totalEvaluations);
+		return new AllocationResult(best.getCloudletToVm().clone(), totalEvaluations, System.nanoTime() - start, 0, exhausted);
+	}
+
+	@Override
+	public long getEvaluations() {
+		return evaluations;
+	}
+
+	/**
+	 * @return per island statistics of the last allocation, in worker order
+	 */
+	public List<Contribution> getContributions() {
+		return contributions;
+	}
+}
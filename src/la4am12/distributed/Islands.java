@@ -0,0 +1,38 @@
+package la4am12.distributed;
+
+import la4am12.aco.ACOScheduler;
+import la4am12.ga.GAScheduler;
+import la4am12.hwga.HWGAScheduler;
+import la4am12.portfolio.SchedulerFactory;
+import la4am12.tentgaga.TentGAScheduler;
+import la4am12.woa.WOAScheduler;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 16:30:08
+ * @description : optimizers a worker can run as an island, by the name sent in the ISLAND message
+ */
+public final class Islands {
+	private Islands() {
+	}
+
+	/**
+	 * @param algorithm GA, TentGA, WOA, HWGA or ACO
+	 */
+	public static SchedulerFactory factory(String algorithm) {
+		switch (algorithm) {
+			case "GA":
+				return GAScheduler::new;
+			case "TentGA":
+				return TentGAScheduler::new;
+			case "WOA":
+				return WOAScheduler::new;
+			case "HWGA":
+				return HWGAScheduler::new;
+			case "ACO":
+				return ACOScheduler::new;
+			default:
+				throw new IllegalArgumentException("unknown island algorithm: " + algorithm);
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package la4am12.distributed;
+
+import la4am12.datacenter.AllocationResult;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Workload;
+import la4am12.ga.GAScheduler;
+import la4am12.portfolio.Contribution;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 17:48:13
+ * @description : starts worker JVMs on this machine with the current classpath, for trying the distributed mode
+ * <p>
+ * usage: LocalCluster [workers] [cloudletNum] [vmNum] [budget ms] runs GA islands, GA with the population
+ * evaluated by the workers and a plain local GA on the same instance and prints their fitness and time.
+ */
+public class LocalCluster implements AutoCloseable {
+	private final List<Process> processes = new ArrayList<>();
+	private final List<InetSocketAddress> addresses = new ArrayList<>();
+
+	/**
+	 * starts the workers and waits until every one is listening
+	 */
+	public static LocalCluster start(int workerNum) throws IOException {
+		LocalCluster cluster = new LocalCluster();
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		try {
+			for (int k = 0; k < workerNum; k++) {
+				Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), Worker.class.getName(), "0")
+						.redirectError(ProcessBuilder.Redirect.INHERIT)
+						.start();
+				cluster.processes.add(process);
+				BufferedReader stdout = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+				String line = stdout.readLine();
+				if (line == null || !line.startsWith(Worker.READY)) {
+					throw new IOException("worker " + k + " did not start: " + line);
+				}
+				int port = Integer.parseInt(line.substring(Worker.READY.length()).trim());
+				cluster.addresses.add(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+			}
+		} catch (IOException e) {
+			cluster.close();
+			throw e;
+		}
+		return cluster;
+	}
+
+	public List<InetSocketAddress> getAddresses() {
+		return Collections.unmodifiableList(addresses);
+	}
+
+	/**
+	 * stops the worker processes
+	 */
+	@Override
+	public void close() {
+		for (Process p : processes) {
+			p.destroy();
+		}
+		for (Process p : processes) {
+			try {
+				p.waitFor();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		int workerNum = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+		int cloudletNum = args.length > 1 ? Integer.parseInt(args[1]) : 3000;
+		int vmNum = args.length > 2 ? Integer.parseInt(args[2]) : 9;
+		Budget budget = Budget.timeout(Duration.ofMillis(args.length > 3 ? Long.parseLong(args[3]) : 5000));
+
+		Log.setDisabled(true);
+		Fleet fleet = Fleet.generate(Math.min(3, vmNum), vmNum);
+		List<Vm> vmList = Workload.createVms(0, fleet);
+		List<Cloudlet> cloudletList = Workload.createCloudlets(0, cloudletNum, new Random(0));
+
+		try (LocalCluster cluster = start(workerNum)) {
+			DistributedScheduler islands = new DistributedScheduler(new ArrayList<>(cloudletList), new ArrayList<>(vmList), fleet,
+					cluster.getAddresses(), "GA");
+			islands.setSeed(0);
+			report("islands", islands.estimateFitness(islands.allocate(budget).getCloudletToVm()), islands.getEvaluations(), budget);
+			for (Contribution c : islands.getContributions()) {
+				System.out.println("  " + c);
+			}
+
+			GAScheduler remote = new GAScheduler(new ArrayList<>(cloudletList), new ArrayList<>(vmList), fleet);
+			remote.setSeed(0);
+			try (Coordinator coordinator = Coordinator.connect(cluster.getAddresses())) {
+				coordinator.setup(cloudletLengths(cloudletList), fleet);
+				remote.setBatchEvaluator(coordinator.evaluator());
+				AllocationResult result = remote.allocate(budget);
+				report("remote evaluation", remote.estimateFitness(result.getCloudletToVm()), result.getEvaluations(), budget);
+			}
+		}
+
+		GAScheduler local = new GAScheduler(new ArrayList<>(cloudletList), new ArrayList<>(vmList), fleet);
+		local.setSeed(0);
+		AllocationResult result = local.allocate(budget);
+		report("local", local.estimateFitness(result.getCloudletToVm()), result.getEvaluations(), budget);
+	}
+
+	private static long[] cloudletLengths(List<Cloudlet> cloudletList) {
+		return cloudletList.stream().mapToLong(Cloudlet::getCloudletLength).toArray();
+	}
+
+	private static void report(String mode, double fitness, long evaluations, Budget budget) {
+		System.out.printf("%-18s fitness=%.6f evaluations=%d %s%n", mode, fitness, evaluations, budget);
+	}
+}
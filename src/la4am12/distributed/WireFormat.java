@@ -0,0 +1,137 @@
+package la4am12.distributed;
+
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.VmClass;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 16:12:44
+ * @description : message codes and the compact encoding used between coordinator and workers
+ * <p>
+ * Every message is a one byte code followed by its fields. Counts, vm indices and cloudlet lengths are unsigned
+ * LEB128 varints, so an assignment over fewer than 128 vms costs one byte per cloudlet; fitness values are raw
+ * IEEE doubles so both sides compare bit-identical numbers.
+ * <pre>
+ * SETUP     cloudletNum, length*, classNum, (name, mips, price, count)*      coordinator -> worker
+ * EVALUATE  count, assignment*                                              coordinator -> worker
+ * FITNESS   count, fitness*                                                 worker -> coordinator
+ * ISLAND    algorithm, seed, timeoutMillis, maxEvaluations, migrationInterval   coordinator -> worker
+ * EXCHANGE  hasOffer, [fitness, assignment]                                 worker -> coordinator
+ * MIGRANT   status, [assignment]                                            coordinator -> worker
+ * RESULT    assignment, fitness, evaluations, iterations                    worker -> coordinator
+ * BYE                                                                       coordinator -> worker
+ * </pre>
+ * A zero timeout or evaluation limit means unlimited.
+ */
+public final class WireFormat {
+	public static final byte SETUP = 1;
+	public static final byte EVALUATE = 2;
+	public static final byte FITNESS = 3;
+	public static final byte ISLAND = 4;
+	public static final byte EXCHANGE = 5;
+	public static final byte MIGRANT = 6;
+	public static final byte RESULT = 7;
+	public static final byte BYE = 8;
+
+	// MIGRANT status
+	public static final byte NO_MIGRANT = 0;
+	public static final byte HAS_MIGRANT = 1;
+	public static final byte STOP = 2;
+
+	private WireFormat() {
+	}
+
+	public static void writeVarLong(DataOutputStream out, long value) throws IOException {
+		if (value < 0) {
+			throw new IllegalArgumentException("varints are unsigned, got " + value);
+		}
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+
+	public static long readVarLong(DataInputStream in) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = in.read();
+			if (b < 0) {
+				throw new EOFException();
+			}
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("varint too long");
+	}
+
+	public static void writeVarInt(DataOutputStream out, int value) throws IOException {
+		writeVarLong(out, value);
+	}
+
+	public static int readVarInt(DataInputStream in) throws IOException {
+		long value = readVarLong(in);
+		if (value > Integer.MAX_VALUE) {
+			throw new IOException("varint out of int range: " + value);
+		}
+		return (int) value;
+	}
+
+	public static void writeAssignment(DataOutputStream out, int[] cloudletToVm) throws IOException {
+		writeVarInt(out, cloudletToVm.length);
+		for (int vm : cloudletToVm) {
+			writeVarInt(out, vm);
+		}
+	}
+
+	public static int[] readAssignment(DataInputStream in) throws IOException {
+		int[] cloudletToVm = new int[readVarInt(in)];
+		for (int i = 0; i < cloudletToVm.length; i++) {
+			cloudletToVm[i] = readVarInt(in);
+		}
+		return cloudletToVm;
+	}
+
+	/**
+	 * writes the SETUP body: the workload as cloudlet lengths and the fleet as vm classes
+	 */
+	public static void writeProblem(DataOutputStream out, long[] cloudletLength, Fleet fleet) throws IOException {
+		writeVarInt(out, cloudletLength.length);
+		for (long length : cloudletLength) {
+			writeVarLong(out, length);
+		}
+		writeVarInt(out, fleet.getClasses().size());
+		for (VmClass c : fleet.getClasses()) {
+			out.writeUTF(c.getName());
+			writeVarInt(out, c.getMips());
+			out.writeDouble(c.getPrice());
+			writeVarInt(out, c.getCount());
+		}
+	}
+
+	public static long[] readCloudletLengths(DataInputStream in) throws IOException {
+		long[] lengths = new long[readVarInt(in)];
+		for (int i = 0; i < lengths.length; i++) {
+			lengths[i] = readVarLong(in);
+		}
+		return lengths;
+	}
+
+	public static Fleet readFleet(DataInputStream in) throws IOException {
+		int classNum = readVarInt(in);
+		List<VmClass> classes = new ArrayList<>();
+		for (int k = 0; k < classNum; k++) {
+			classes.add(new VmClass(in.readUTF(), readVarInt(in), in.readDouble(), readVarInt(in)));
+		}
+		return new Fleet(classes);
+	}
+}
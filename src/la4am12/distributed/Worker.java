@@ -0,0 +1,217 @@
+package la4am12.distributed;
+
+import la4am12.datacenter.AllocationResult;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Scheduler;
+import la4am12.datacenter.SolutionExchange;
+import la4am12.datacenter.Workload;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 16:41:27
+ * @description : worker process that evaluates shipped populations or runs an island for a coordinator
+ * <p>
+ * usage: Worker [port], port 0 picks a free one. The first line on stdout is "Worker listening on port N",
+ * which {@link LocalCluster} waits for. Each coordinator connection is served by its own thread.
+ */
+public class Worker {
+	public static final String READY = "Worker listening on port ";
+
+	private final DataInputStream in;
+	private final DataOutputStream out;
+	private List<Cloudlet> cloudletList;
+	private List<Vm> vmList;
+	private Fleet fleet;
+	// only used for estimateFitness, the same function the coordinator uses
+	private Scheduler problem;
+
+	private Worker(Socket socket) throws IOException {
+		socket.setTcpNoDelay(true);
+		this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+		this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+	}
+
+	public static void main(String[] args) throws IOException {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : 0;
+		Log.setDisabled(true);
+		try (ServerSocket server = new ServerSocket(port)) {
+			System.out.println(READY + server.getLocalPort());
+			System.out.flush();
+			while (true) {
+				Socket socket = server.accept();
+				new Thread(() -> serve(socket), "worker-" + socket.getRemoteSocketAddress()).start();
+			}
+		}
+	}
+
+	private static void serve(Socket socket) {
+		try (Socket s = socket) {
+			new Worker(s).serve();
+		} catch (EOFException e) {
+			// coordinator went away without BYE
+		} catch (IOException | RuntimeException e) {
+			System.err.println("session with " + socket.getRemoteSocketAddress() + " failed: " + e);
+		}
+	}
+
+	private void serve() throws IOException {
+		while (true) {
+			byte code = in.readByte();
+			switch (code) {
+				case WireFormat.SETUP:
+					setup();
+					break;
+				case WireFormat.EVALUATE:
+					evaluate();
+					break;
+				case WireFormat.ISLAND:
+					island();
+					break;
+				case WireFormat.BYE:
+					return;
+				default:
+					throw new IOException("unexpected message " + code);
+			}
+		}
+	}
+
+	private void setup() throws IOException {
+		long[] lengths = WireFormat.readCloudletLengths(in);
+		fleet = WireFormat.readFleet(in);
+		cloudletList = Workload.createCloudlets(0, lengths);
+		vmList = Workload.createVms(0, fleet);
+		problem = new Scheduler(cloudletList, vmList, fleet) {
+			@Override
+			public int[] allocate() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	private void evaluate() throws IOException {
+		checkSetup();
+		int count = WireFormat.readVarInt(in);
+		int[][] assignments = new int[count][];
+		for (int i = 0; i < count; i++) {
+			assignments[i] = WireFormat.readAssignment(in);
+		}
+		double[] fitness = new double[count];
+		IntStream.range(0, count).parallel().forEach(i -> fitness[i] = problem.estimateFitness(assignments[i]));
+		out.writeByte(WireFormat.FITNESS);
+		WireFormat.writeVarInt(out, count);
+		for (double f : fitness) {
+			out.writeDouble(f);
+		}
+		out.flush();
+	}
+
+	private void island() throws IOException {
+		checkSetup();
+		String algorithm = in.readUTF();
+		long seed = in.readLong();
+		long timeoutMillis = WireFormat.readVarLong(in);
+		long maxEvaluations = WireFormat.readVarLong(in);
+		int migrationInterval = WireFormat.readVarInt(in);
+
+		Scheduler island = Islands.factory(algorithm).create(new ArrayList<>(cloudletList), new ArrayList<>(vmList), fleet);
+		RemoteExchange exchange = new RemoteExchange(migrationInterval);
+		island.setSeed(seed);
+		island.setSolutionExchange(exchange);
+		Budget budget = Budget.of(timeoutMillis == 0 ? Duration.ofNanos(Long.MAX_VALUE) : Duration.ofMillis(timeoutMillis),
+				maxEvaluations == 0 ? Long.MAX_VALUE : maxEvaluations).stopWhen(exchange::isStopped);
+		AllocationResult result;
+		try {
+			result = island.allocate(budget);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		out.writeByte(WireFormat.RESULT);
+		WireFormat.writeAssignment(out, result.getCloudletToVm());
+		out.writeDouble(problem.estimateFitness(result.getCloudletToVm()));
+		WireFormat.writeVarLong(out, result.getEvaluations());
+		WireFormat.writeVarInt(out, result.getIterations());
+		out.flush();
+	}
+
+	private void checkSetup() throws IOException {
+		if (problem == null) {
+			throw new IOException("SETUP must come first");
+		}
+	}
+
+	/**
+	 * migration through the coordinator: every migrationInterval-th poll sends the island's latest improvement,
+	 * if any, and receives a migrant or the stop signal
+	 */
+	private class RemoteExchange implements SolutionExchange {
+		private final int migrationInterval;
+		// improvement of the island not sent yet
+		private int[] offered;
+		private double offeredFitness = Double.MAX_VALUE;
+		private int polls;
+		private volatile boolean stopped;
+
+		RemoteExchange(int migrationInterval) {
+			this.migrationInterval = Math.max(1, migrationInterval);
+		}
+
+		@Override
+		public void offer(int[] cloudletToVm, double fitness) {
+			if (fitness < offeredFitness) {
+				offered = cloudletToVm.clone();
+				offeredFitness = fitness;
+			}
+		}
+
+		@Override
+		public int[] poll() {
+			if (++polls % migrationInterval != 0 || stopped) {
+				return null;
+			}
+			try {
+				out.writeByte(WireFormat.EXCHANGE);
+				out.writeBoolean(offered != null);
+				if (offered != null) {
+					out.writeDouble(offeredFitness);
+					WireFormat.writeAssignment(out, offered);
+					offered = null;
+				}
+				out.flush();
+				byte code = in.readByte();
+				if (code != WireFormat.MIGRANT) {
+					throw new IOException("expected MIGRANT, got " + code);
+				}
+				byte status = in.readByte();
+				if (status == WireFormat.STOP) {
+					stopped = true;
+					return null;
+				}
+				return status == WireFormat.HAS_MIGRANT ? WireFormat.readAssignment(in) : null;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		boolean isStopped() {
+			return stopped;
+		}
+	}
+}
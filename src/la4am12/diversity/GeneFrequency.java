@@ -0,0 +1,132 @@
+package la4am12.diversity;
+
+import java.util.Arrays;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-23 18:05:12
+ * @description : per-gene value counts of a population, giving its gene entropy in O(1)
+ * <p>
+ * {@code count[g * values + v]} is the number of individuals whose gene g is v. Replacing an individual only touches
+ * the genes that changed, and the sum S of c ln c over all counts is kept alongside, so the entropy of the gene values
+ * averaged over all genes, ln N - S / (N * genes), is read without a pass over the matrix.
+ */
+public class GeneFrequency {
+	private final int genes;
+	private final int values;
+	private final int[] count;
+	// c ln c for c = 0..population
+	private final double[] xLogX;
+	private int size;
+	private double sum;
+
+	/**
+	 * @param genes      genes per individual
+	 * @param values     values a gene can take, 0..values-1
+	 * @param population largest number of individuals counted at once
+	 */
+	public GeneFrequency(int genes, int values, int population) {
+		if ((long) genes * values > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("gene frequency matrix of " + genes + " x " + values + " is too large");
+		}
+		this.genes = genes;
+		this.values = values;
+		this.count = new int[genes * values];
+		this.xLogX = new double[population + 1];
+		for (int c = 1; c <= population; c++) {
+			xLogX[c] = c * Math.log(c);
+		}
+	}
+
+	public void clear() {
+		Arrays.fill(count, 0);
+		size = 0;
+		sum = 0;
+	}
+
+	public void add(int[] individual) {
+		for (int g = 0; g < genes; g++) {
+			increment(g * values + individual[g]);
+		}
+		size++;
+	}
+
+	public void remove(int[] individual) {
+		for (int g = 0; g < genes; g++) {
+			decrement(g * values + individual[g]);
+		}
+		size--;
+	}
+
+	/**
+	 * counts {@code now} in place of {@code old}, touching only the genes where they differ
+	 */
+	public void replace(int[] old, int[] now) {
+		for (int g = 0; g < genes; g++) {
+			if (old[g] != now[g]) {
+				decrement(g * values + old[g]);
+				increment(g * values + now[g]);
+			}
+		}
+	}
+
+	/**
+	 * adds a position whose coordinates are already rounded to gene values
+	 */
+	public void add(double[] position) {
+		for (int g = 0; g < genes; g++) {
+			increment(g * values + (int) position[g]);
+		}
+		size++;
+	}
+
+	public void replace(double[] old, double[] now) {
+		for (int g = 0; g < genes; g++) {
+			int from = (int) old[g];
+			int to = (int) now[g];
+			if (from != to) {
+				decrement(g * values + from);
+				increment(g * values + to);
+			}
+		}
+	}
+
+	private void increment(int k) {
+		int c = count[k]++;
+		sum += xLogX[c + 1] - xLogX[c];
+	}
+
+	private void decrement(int k) {
+		int c = count[k]--;
+		sum += xLogX[c - 1] - xLogX[c];
+	}
+
+	/**
+	 * @return mean entropy of the gene values in nats, 0 when every individual is the same
+	 */
+	public double entropy() {
+		if (size == 0) {
+			return 0;
+		}
+		return Math.max(0, Math.log(size) - sum / ((double) size * genes));
+	}
+
+	/**
+	 * @return entropy divided by its largest possible value ln(min(N, values)), in [0, 1]
+	 */
+	public double normalizedEntropy() {
+		int distinct = Math.min(size, values);
+		return distinct < 2 ? 0 : Math.min(1, entropy() / Math.log(distinct));
+	}
+
+	/**
+	 * @return number of individuals whose gene g is v
+	 */
+	public int getCount(int g, int v) {
+		return count[g * values + v];
+	}
+
+	public int size() {
+		return size;
+	}
+}
@@ -1,6 +1,16 @@
 package la4am12.ga;
 
+import la4am12.chaos.ChaoticMap;
+import la4am12.checkpoint.CheckpointWriter;
+import la4am12.checkpoint.Snapshot;
+import la4am12.datacenter.AllocationResult;
+import la4am12.datacenter.BatchEvaluator;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Hyperparameters;
 import la4am12.datacenter.Scheduler;
+import la4am12.datacenter.SolutionExchange;
+import la4am12.telemetry.ProgressListener;
 import org.cloudbus.cloudsim.Cloudlet;
 import org.cloudbus.cloudsim.Log;
 import org.cloudbus.cloudsim.Vm;
@@ -19,11 +29,23 @@ public class GAScheduler extends Scheduler {
 	private static final double MUTATION_RATE = 0.005; // 变异概率
 	private static final double TOURNAMENT_RATIO = 0.15; // 锦标赛选择中的竞争个数占比
 
+	public static final Hyperparameters DEFAULTS = new Hyperparameters(
+			POPULATION_SIZE, MAX_GENERATIONS, CROSSOVER_RATE, MUTATION_RATE, TOURNAMENT_RATIO, 0);
+
 	private GeneticAlgorithm ga;
 
 	public GAScheduler(List<Cloudlet> cloudletList, List<Vm> vmList) {
-		super(cloudletList, vmList);
-		this.ga = new GeneticAlgorithm(this::estimateFitness, POPULATION_SIZE, CROSSOVER_RATE, MUTATION_RATE, vmNum, cloudletNum, (int) (cloudletNum * TOURNAMENT_RATIO), MAX_GENERATIONS);
+		this(cloudletList, vmList, Fleet.of(vmList));
+	}
+
+	public GAScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet) {
+		this(cloudletList, vmList, fleet, DEFAULTS);
+	}
+
+	public GAScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet, Hyperparameters params) {
+		super(cloudletList, vmList, fleet);
+		this.ga = new GeneticAlgorithm(this::estimateFitness, params.getPopulationSize(), params.getCrossoverRate(), params.getMutationRate(),
+				vmNum, cloudletNum, Math.max(1, (int) (cloudletNum * params.getTournamentRatio())), params.getMaxGenerations());
 		Log.printLine("Using GA scheduler");
 	}
 
@@ -31,4 +53,65 @@ public class GAScheduler extends Scheduler {
 	public int[] allocate() {
 		return ga.run();
 	}
+
+	@Override
+	public AllocationResult allocate(Budget budget) {
+		long start = System.nanoTime();
+		int[] cloudletToVm = ga.run(budget);
+		return new AllocationResult(cloudletToVm, ga.getEvaluations(), System.nanoTime() - start,
+				ga.getIterations(), ga.isBudgetExhausted());
+	}
+
+	@Override
+	public void setProgressListener(ProgressListener listener) {
+		ga.setProgressListener(listener);
+	}
+
+	@Override
+	public long getEvaluations() {
+		return ga.getEvaluations();
+	}
+
+	@Override
+	public void setSolutionExchange(SolutionExchange exchange) {
+		ga.setSolutionExchange(exchange);
+	}
+
+	@Override
+	public void setCheckpointWriter(CheckpointWriter writer) {
+		ga.setCheckpointWriter(writer);
+	}
+
+	@Override
+	public void setBatchEvaluator(BatchEvaluator evaluator) {
+		ga.setBatchEvaluator(evaluator);
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		ga.setSeed(seed);
+	}
+
+	@Override
+	public void setChaoticMap(ChaoticMap map) {
+		ga.setChaoticMap(map);
+	}
+
+	@Override
+	public void setAdaptive(boolean adaptive) {
+		ga.setAdaptive(adaptive);
+	}
+
+	@Override
+	public void setRestartThreshold(double threshold) {
+		ga.setRestartThreshold(threshold);
+	}
+
+	@Override
+	public AllocationResult resume(Snapshot snapshot, Budget budget) {
+		long start = System.nanoTime();
+		int[] cloudletToVm = ga.resume(snapshot, budget);
+		return new AllocationResult(cloudletToVm, ga.getEvaluations(), System.nanoTime() - start,
+				ga.getIterations(), ga.isBudgetExhausted());
+	}
 }
@@ -6,11 +6,26 @@ package la4am12.ga;
  * @description : genetic algorithm
  */
 
+import la4am12.adaptive.OperatorBandit;
+import la4am12.adaptive.SuccessRule;
+import la4am12.chaos.ChaosSequence;
+import la4am12.chaos.ChaoticMap;
+import la4am12.checkpoint.CheckpointRandom;
+import la4am12.checkpoint.CheckpointWriter;
+import la4am12.checkpoint.Snapshot;
+import la4am12.datacenter.BatchEvaluator;
+import la4am12.datacenter.Budget;
 import la4am12.datacenter.OptFunction;
+import la4am12.datacenter.SolutionExchange;
+import la4am12.diversity.GeneFrequency;
+import la4am12.telemetry.ProgressListener;
+import la4am12.telemetry.ProgressTracker;
 
 import java.util.*;
 
 public class GeneticAlgorithm {
+    // 多样性坍缩后重新开始时保留的精英比例
+    private static final double RESTART_ELITE_RATIO = 0.1;
     /**
      * optFunction: 优化函数，用于评估染色体的适应度。
      * boundary: 边界值，可能用于限制某些参数的范围。
@@ -31,12 +46,38 @@ public class GeneticAlgorithm {
     private double crossoverRate;
     private double mutationRate;
     private int tournamentSize;
-    private static final Random random = new Random();
+    // 每个实例独立的随机数生成器，其状态随检查点保存
+    private final CheckpointRandom random = new CheckpointRandom();
     private List<Chromosome> Chromosomes;
     Chromosome bestChromosome = null;
+    // 本次运行以来的最佳染色体（没有精英保留，当前代的最佳可能变差）
+    private Chromosome bestSoFar = null;
+    // 与其他算法交换最佳解，为 null 时不交换
+    private SolutionExchange exchange;
+    private double meanFitness;
+    private final ProgressTracker tracker;
+    // 检查点写入器，为 null 时不保存检查点
+    private CheckpointWriter checkpoint;
+    // 整代评估适应度（如交给远程工作进程），为 null 时逐个调用 optFunction
+    private BatchEvaluator batchEvaluator;
+    // 初始化种群用的混沌序列，为 null 时用 random 均匀生成
+    private ChaosSequence chaos;
+    // 自适应参数控制：变异率按 1/5 成功法则调整，交叉率由多臂老虎机在候选值中选择，为 null 时使用固定参数
+    private SuccessRule mutationControl;
+    private OperatorBandit crossoverControl;
+    // 本代使用的交叉率候选下标（整代评估后才有反馈，故每代选择一次）
+    private int generationArm;
+    // 每个子代较优父代的适应度，评估后据此判断成功
+    private double[] offspringParentFitness;
+    // 种群的基因频率矩阵，为 null 时不跟踪多样性
+    private GeneFrequency frequency;
+    // 归一化熵低于该值时部分重新开始
+    private double restartThreshold;
+    private int restarts;
 
     public GeneticAlgorithm(OptFunction optFunction, int population, double crossoverRate, double mutationRate, int boundary, int genesN, int tournamentSize, int maxGenerations) {
-        this.optFunction = optFunction;
+        this.tracker = new ProgressTracker("GA", genesN, boundary);
+        this.optFunction = tracker.counting(optFunction);
         this.population = population;
         this.crossoverRate = crossoverRate;
         this.mutationRate = mutationRate;
@@ -50,49 +91,149 @@ public class GeneticAlgorithm {
      * 初始化种群方法
      * 如果Chromosomes数组为空，则创建一个新的种群
      * 种群大小由变量population决定，每个个体的基因长度由变量genesN决定
-     * 每个基因取值范围为0到boundary-1
+     * 每个基因取值范围为0到boundary-1，设置了混沌映射时由混沌序列生成
      */
     public void initializePopulation() {
         // 检查Chromosomes是否为null，如果是，则进行初始化
         if (Chromosomes == null) {
             // 创建一个ArrayList来存储染色体
             Chromosomes = new ArrayList<>();
+            double[] sequence = chaos == null ? null : new double[genesN];
             // 遍历种群大小，创建每个个体
             for (int i = 0; i < population; i++) {
-                // 创建一个基因数组，长度为genesN
-                int[] genes = new int[genesN];
-                // 遍历基因数组，为每个基因赋予随机值
-                for (int j = 0; j < genesN; j++) {
-                    // 为基因赋予随机值，范围为0到boundary-1
-                    genes[j] = random.nextInt(boundary);
-                }
                 // 将基因数组作为参数创建一个新的染色体对象，并添加到Chromosomes列表中
-                Chromosomes.add(new Chromosome(genes));
+                Chromosomes.add(new Chromosome(randomGenes(sequence)));
             }
         }
     }
 
+    // 生成一个随机个体，sequence 不为 null 时由混沌序列生成
+    private int[] randomGenes(double[] sequence) {
+        // 创建一个基因数组，长度为genesN
+        int[] genes = new int[genesN];
+        if (sequence != null) {
+            // 一次生成整个个体的混沌值，映射到0到boundary-1
+            chaos.fill(sequence);
+            for (int j = 0; j < genesN; j++) {
+                genes[j] = (int) (sequence[j] * boundary);
+            }
+        } else {
+            // 遍历基因数组，为每个基因赋予随机值
+            for (int j = 0; j < genesN; j++) {
+                // 为基因赋予随机值，范围为0到boundary-1
+                genes[j] = random.nextInt(boundary);
+            }
+        }
+        return genes;
+    }
+
     public void evaluatePopulation() {
-        for (Chromosome chromosome : Chromosomes) {
-            double fitness = optFunction.calc(chromosome.getGenes());
-            chromosome.setFitness(fitness);
+        tracker.beginBatch();
+        double sum = 0;
+        if (batchEvaluator != null) {
+            int[][] genes = new int[Chromosomes.size()][];
+            for (int i = 0; i < genes.length; i++) {
+                genes[i] = Chromosomes.get(i).getGenes();
+            }
+            double[] fitness = new double[genes.length];
+            batchEvaluator.evaluate(genes, fitness);
+            tracker.addEvaluations(genes.length);
+            for (int i = 0; i < genes.length; i++) {
+                Chromosomes.get(i).setFitness(fitness[i]);
+                sum += fitness[i];
+            }
+        } else {
+            for (Chromosome chromosome : Chromosomes) {
+                double fitness = optFunction.calc(chromosome.getGenes());
+                chromosome.setFitness(fitness);
+                sum += fitness;
+            }
         }
+        meanFitness = sum / Chromosomes.size();
+        tracker.endBatch();
         bestChromosome = Collections.min(Chromosomes);
+        if (bestSoFar == null || bestChromosome.getFitness() < bestSoFar.getFitness()) {
+            bestSoFar = bestChromosome;
+        }
         // System.out.println(bestChromosome);
     }
 
     public void evolvePopulation() {
         List<Chromosome> newPopulation = new ArrayList<>();
+        if (mutationControl != null) {
+            generationArm = crossoverControl.select();
+        }
         for (int i = 0; i < population; i++) {
             Chromosome parent1 = tournamentSelection();
             Chromosome parent2 = tournamentSelection();
-            Chromosome offspring = crossover(parent1, parent2);
-            mutate(offspring);
+            Chromosome offspring;
+            if (mutationControl == null) {
+                offspring = crossover(parent1, parent2);
+                mutate(offspring);
+            } else {
+                offspringParentFitness[i] = Math.min(parent1.getFitness(), parent2.getFitness());
+                offspring = crossover(parent1, parent2, crossoverControl.getArm(generationArm));
+                mutate(offspring, mutationControl.get());
+            }
+            if (frequency != null) {
+                frequency.replace(Chromosomes.get(i).getGenes(), offspring.getGenes());
+            }
             newPopulation.add(offspring);
         }
         Chromosomes = newPopulation;
     }
 
+    // 自适应模式下，子代优于其较优父代即为一次成功，据此调整变异率，并以本代的成功比例奖励所用的交叉率
+    private void adaptRates() {
+        int successes = 0;
+        for (int i = 0; i < population; i++) {
+            boolean success = Chromosomes.get(i).getFitness() < offspringParentFitness[i];
+            mutationControl.record(success);
+            if (success) {
+                successes++;
+            }
+        }
+        crossoverControl.reward(generationArm, (double) successes / population);
+        mutationControl.update();
+    }
+
+    // 从头统计当前种群的基因频率
+    private void countGenes() {
+        if (frequency == null) {
+            return;
+        }
+        frequency.clear();
+        for (Chromosome chromosome : Chromosomes) {
+            frequency.add(chromosome.getGenes());
+        }
+    }
+
+    // 多样性坍缩时保留最好的一部分染色体，其余重新随机生成并评估
+    private void restart() {
+        Collections.sort(Chromosomes);
+        int elites = Math.max(1, (int) (population * RESTART_ELITE_RATIO));
+        double[] sequence = chaos == null ? null : new double[genesN];
+        tracker.beginBatch();
+        double sum = 0;
+        for (int i = 0; i < Chromosomes.size(); i++) {
+            Chromosome chromosome = Chromosomes.get(i);
+            if (i >= elites) {
+                int[] genes = randomGenes(sequence);
+                frequency.replace(chromosome.getGenes(), genes);
+                chromosome.setGenes(genes);
+                chromosome.setFitness(optFunction.calc(genes));
+            }
+            sum += chromosome.getFitness();
+        }
+        tracker.endBatch();
+        meanFitness = sum / Chromosomes.size();
+        bestChromosome = Collections.min(Chromosomes);
+        if (bestChromosome.getFitness() < bestSoFar.getFitness()) {
+            bestSoFar = bestChromosome;
+        }
+        restarts++;
+    }
+
     // 从种群中选择一个染色体进行锦标赛选择
     public Chromosome tournamentSelection() {
         List<Chromosome> tournament = new ArrayList<>();
@@ -105,6 +246,10 @@ public class GeneticAlgorithm {
 
     // 对两个染色体进行交叉，生成一个新的染色体
     public Chromosome crossover(Chromosome parent1, Chromosome parent2) {
+        return crossover(parent1, parent2, crossoverRate);
+    }
+
+    private Chromosome crossover(Chromosome parent1, Chromosome parent2, double crossoverRate) {
         int[] genes1 = parent1.getGenes();
         int[] genes2 = parent2.getGenes();
         int[] offspringGenes = new int[genesN];
@@ -120,6 +265,10 @@ public class GeneticAlgorithm {
 
     // 对染色体进行变异
     public void mutate(Chromosome chromosome) {
+        mutate(chromosome, mutationRate);
+    }
+
+    private void mutate(Chromosome chromosome, double mutationRate) {
         int[] genes = chromosome.getGenes();
         for (int i = 0; i < genesN; i++) {
             if (random.nextDouble() < mutationRate) {
@@ -131,13 +280,201 @@ public class GeneticAlgorithm {
 
     // 执行遗传算法
     public int[] run() {
+        return run(Budget.unlimited());
+    }
+
+    // 在预算内执行遗传算法，预算耗尽时返回目前为止的最佳解
+    public int[] run(Budget budget) {
+        tracker.start(budget);
+        // 每次运行都从新的种群和自适应状态开始，重复调用不会从上一次的种群继续
+        Chromosomes = null;
+        bestChromosome = null;
+        bestSoFar = null;
+        restarts = 0;
+        if (mutationControl != null) {
+            setAdaptive(true);
+        }
         initializePopulation();
+        countGenes();
         evaluatePopulation();
-        for (int i = 0; i < maxGenerations; i++) {
+        exchangeSolutions();
+        tracker.iterationDone(0, bestSoFar.getFitness(), meanFitness);
+        return evolve(0);
+    }
+
+    // 从检查点恢复种群、最佳染色体和随机数状态，继续执行剩余的代数
+    public int[] resume(Snapshot snapshot, Budget budget) {
+        snapshot.checkCompatible(tracker.getAlgorithm(), population, genesN);
+        tracker.resume(budget, snapshot.getEvaluations(), snapshot.getIteration());
+        random.setState(snapshot.getRngState());
+        double[][] genes = snapshot.getPopulation();
+        double[] fitness = snapshot.getFitness();
+        Chromosomes = new ArrayList<>();
+        for (int i = 0; i < genes.length; i++) {
+            Chromosome chromosome = new Chromosome(toGenes(genes[i]));
+            chromosome.setFitness(fitness[i]);
+            Chromosomes.add(chromosome);
+        }
+        bestChromosome = Collections.min(Chromosomes);
+        bestSoFar = new Chromosome(toGenes(snapshot.getIncumbent()));
+        bestSoFar.setFitness(snapshot.getIncumbentFitness());
+        meanFitness = snapshot.getMeanFitness();
+        restarts = 0;
+        countGenes();
+        return evolve(snapshot.getIteration());
+    }
+
+    // 从第 from 代之后继续进化，直到最大代数或预算耗尽
+    private int[] evolve(int from) {
+        for (int i = from; i < maxGenerations && !tracker.isExhausted(); i++) {
             evolvePopulation();
             evaluatePopulation();
+            if (mutationControl != null) {
+                adaptRates();
+            }
+            if (frequency != null && frequency.normalizedEntropy() < restartThreshold) {
+                restart();
+            }
+            exchangeSolutions();
+            tracker.iterationDone(i + 1, bestSoFar.getFitness(), meanFitness);
+            if (checkpoint != null && checkpoint.isDue(i + 1)) {
+                checkpoint.submit(snapshot(i + 1));
+            }
         }
-        return bestChromosome.getGenes();
+        return bestSoFar.getGenes();
+    }
+
+    // 复制当前状态，编码和写盘在写入器的线程中完成
+    private Snapshot snapshot(int generation) {
+        double[][] genes = new double[Chromosomes.size()][];
+        double[] fitness = new double[Chromosomes.size()];
+        for (int i = 0; i < genes.length; i++) {
+            genes[i] = toPosition(Chromosomes.get(i).getGenes());
+            fitness[i] = Chromosomes.get(i).getFitness();
+        }
+        return new Snapshot(tracker.getAlgorithm(), generation, tracker.getEvaluations(), random.getState(), genes, fitness,
+                toPosition(bestSoFar.getGenes()), bestSoFar.getFitness(), meanFitness, new double[0]);
+    }
+
+    private static int[] toGenes(double[] position) {
+        return Arrays.stream(position).mapToInt((x) -> (int) x).toArray();
+    }
+
+    private static double[] toPosition(int[] genes) {
+        return Arrays.stream(genes).asDoubleStream().toArray();
+    }
+
+    // 提交本代最佳解，并用其他算法找到的更优解替换最差的染色体
+    private void exchangeSolutions() {
+        if (exchange == null) {
+            return;
+        }
+        exchange.offer(bestSoFar.getGenes(), bestSoFar.getFitness());
+        int[] migrant = exchange.poll();
+        if (migrant == null) {
+            return;
+        }
+        Chromosome worst = Collections.max(Chromosomes);
+        if (worst == bestSoFar) {
+            return;
+        }
+        if (frequency != null) {
+            frequency.replace(worst.getGenes(), migrant);
+        }
+        worst.setGenes(migrant);
+        worst.setFitness(optFunction.calc(migrant));
+        if (worst.getFitness() < bestSoFar.getFitness()) {
+            bestSoFar = worst;
+            bestChromosome = worst;
+        }
+    }
+
+    // 设置与其他算法交换最佳解的通道
+    public void setSolutionExchange(SolutionExchange exchange) {
+        this.exchange = exchange;
+    }
+
+    // 设置检查点写入器，每隔若干代在后台保存一次状态
+    public void setCheckpointWriter(CheckpointWriter checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    // 设置整代评估器，它必须与 optFunction 给出相同的适应度
+    public void setBatchEvaluator(BatchEvaluator batchEvaluator) {
+        this.batchEvaluator = batchEvaluator;
+    }
+
+    // 设置初始化种群用的混沌映射，null 表示均匀随机，需在 run 之前调用
+    public void setChaoticMap(ChaoticMap map) {
+        chaos = map == null ? null : new ChaosSequence(map, random);
+    }
+
+    // 设置随机数种子，需在 run 之前调用
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    /**
+     * 开启或关闭自适应参数控制，需在 run 之前调用
+     * 开启后变异率从构造时的值（截断到 [0.1/genesN, 0.25] 内）出发，按 1/5 成功法则在该范围内调整；整代子代评估后才有反馈，
+     * 故每代的交叉率由 UCB 多臂老虎机从候选值中选择一次，并以本代优于其较优父代的子代比例作为奖励。
+     * 自适应状态不随检查点保存，恢复后从初始参数重新开始调整。关闭时随机数的使用顺序与固定参数完全相同
+     */
+    public void setAdaptive(boolean adaptive) {
+        if (!adaptive) {
+            mutationControl = null;
+            crossoverControl = null;
+            return;
+        }
+        double minRate = 0.1 / genesN;
+        mutationControl = new SuccessRule(Math.max(minRate, Math.min(0.25, mutationRate)), minRate, 0.25);
+        crossoverControl = new OperatorBandit(0.5, 0.6, 0.75, 0.9, 0.97);
+        offspringParentFitness = new double[population];
+    }
+
+    /**
+     * 设置部分重新开始的多样性阈值，需在 run 之前调用，0 表示不跟踪多样性
+     * 开启后维护 genesN×boundary 的基因频率矩阵，子代替换父代时只更新变化的基因，每代 O(1) 得到种群的归一化熵；
+     * 熵低于阈值时保留最好的 10% 染色体，其余重新随机生成。恢复检查点后重新统计基因频率，重新开始的次数从 0 计起
+     */
+    public void setRestartThreshold(double threshold) {
+        restartThreshold = threshold;
+        frequency = threshold > 0 ? new GeneFrequency(genesN, boundary, population) : null;
+    }
+
+    // 当前种群的归一化熵，未跟踪多样性时为 NaN
+    public double getDiversity() {
+        return frequency == null ? Double.NaN : frequency.normalizedEntropy();
+    }
+
+    // 本次运行部分重新开始的次数
+    public int getRestarts() {
+        return restarts;
+    }
+
+    // 自适应模式下当前的变异率，固定参数时为构造时的值
+    public double getMutationRate() {
+        return mutationControl == null ? mutationRate : mutationControl.get();
+    }
+
+    // 设置每代结束后的进度监听器
+    public void setProgressListener(ProgressListener listener) {
+        tracker.setListener(listener);
+    }
+
+    // 本次运行的适应度评估次数
+    public long getEvaluations() {
+        return tracker.getEvaluations();
+    }
+
+    // 本次运行完成的代数
+    public int getIterations() {
+        return tracker.getIterations();
+    }
+
+    // 本次运行是否因预算耗尽而提前结束
+    public boolean isBudgetExhausted() {
+        return tracker.wasExhausted();
     }
 
     // 染色体类
@@ -0,0 +1,92 @@
+package la4am12.genome;
+
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 21:06:12
+ * @description : genes stored as unsigned bytes, for at most 256 vms
+ */
+public class ByteGenomes extends Genomes {
+	// vm indices up to 255 are stored unsigned
+	public static final int MAX_BOUNDARY = 1 << 8;
+
+	private final ToDoubleFunction<byte[]> fitness;
+	private byte[][] current;
+	private byte[][] next;
+
+	/**
+	 * @param fitness objective over an assignment of this width, e.g. Scheduler::estimateFitness
+	 */
+	public ByteGenomes(int size, int genesN, int boundary, ToDoubleFunction<byte[]> fitness) {
+		super(size, genesN, boundary);
+		if (boundary > MAX_BOUNDARY) {
+			throw new IllegalArgumentException(boundary + " vms do not fit in byte genes");
+		}
+		this.fitness = fitness;
+		this.current = new byte[size][genesN];
+		this.next = new byte[size][genesN];
+	}
+
+	@Override
+	public int width() {
+		return 1;
+	}
+
+	@Override
+	public void randomize(int i, Random random) {
+		byte[] genes = current[i];
+		for (int j = 0; j < genesN; j++) {
+			genes[j] = (byte) random.nextInt(boundary);
+		}
+	}
+
+	@Override
+	public void crossover(int child, int parent1, int parent2, double rate, Random random) {
+		byte[] genes1 = current[parent1];
+		byte[] genes2 = current[parent2];
+		byte[] offspring = next[child];
+		for (int j = 0; j < genesN; j++) {
+			offspring[j] = random.nextDouble() < rate ? genes1[j] : genes2[j];
+		}
+	}
+
+	@Override
+	public void mutate(int child, double rate, Random random) {
+		byte[] genes = next[child];
+		for (int j = 0; j < genesN; j++) {
+			if (random.nextDouble() < rate) {
+				genes[j] = (byte) random.nextInt(boundary);
+			}
+		}
+	}
+
+	@Override
+	public double evaluate(int i) {
+		return fitness.applyAsDouble(current[i]);
+	}
+
+	@Override
+	public void swap() {
+		byte[][] t = current;
+		current = next;
+		next = t;
+	}
+
+	@Override
+	public void copyTo(int i, int[] cloudletToVm) {
+		byte[] genes = current[i];
+		for (int j = 0; j < genesN; j++) {
+			cloudletToVm[j] = genes[j] & 0xFF;
+		}
+	}
+
+	@Override
+	public void load(int i, int[] cloudletToVm) {
+		byte[] genes = current[i];
+		for (int j = 0; j < genesN; j++) {
+			genes[j] = (byte) cloudletToVm[j];
+		}
+	}
+}
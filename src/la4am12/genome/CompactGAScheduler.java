@@ -0,0 +1,81 @@
+package la4am12.genome;
+
+import la4am12.datacenter.AllocationResult;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Hyperparameters;
+import la4am12.datacenter.Scheduler;
+import la4am12.datacenter.SolutionExchange;
+import la4am12.ga.GAScheduler;
+import la4am12.telemetry.ProgressListener;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+
+import java.util.List;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 21:40:27
+ * @description : GA scheduler whose chromosomes store vm indices in bytes or shorts when the vm count allows
+ */
+public class CompactGAScheduler extends Scheduler {
+	private final Genomes genomes;
+	private final CompactGeneticAlgorithm ga;
+
+	public CompactGAScheduler(List<Cloudlet> cloudletList, List<Vm> vmList) {
+		this(cloudletList, vmList, Fleet.of(vmList));
+	}
+
+	public CompactGAScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet) {
+		this(cloudletList, vmList, fleet, GAScheduler.DEFAULTS);
+	}
+
+	public CompactGAScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet, Hyperparameters params) {
+		super(cloudletList, vmList, fleet);
+		this.genomes = Genomes.forFitness(this, params.getPopulationSize(), cloudletNum, vmNum);
+		this.ga = new CompactGeneticAlgorithm(genomes, params.getCrossoverRate(), params.getMutationRate(),
+				Math.max(1, (int) (cloudletNum * params.getTournamentRatio())), params.getMaxGenerations());
+		Log.printLine("Using CompactGA scheduler");
+	}
+
+	@Override
+	public int[] allocate() {
+		return ga.run();
+	}
+
+	@Override
+	public AllocationResult allocate(Budget budget) {
+		long start = System.nanoTime();
+		int[] cloudletToVm = ga.run(budget);
+		return new AllocationResult(cloudletToVm, ga.getEvaluations(), System.nanoTime() - start,
+				ga.getIterations(), ga.isBudgetExhausted());
+	}
+
+	@Override
+	public void setProgressListener(ProgressListener listener) {
+		ga.setProgressListener(listener);
+	}
+
+	@Override
+	public long getEvaluations() {
+		return ga.getEvaluations();
+	}
+
+	@Override
+	public void setSolutionExchange(SolutionExchange exchange) {
+		ga.setSolutionExchange(exchange);
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		ga.setSeed(seed);
+	}
+
+	/**
+	 * @return bytes per gene chosen for this vm count
+	 */
+	public int getGeneWidth() {
+		return genomes.width();
+	}
+}
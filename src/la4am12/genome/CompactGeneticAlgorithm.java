@@ -0,0 +1,186 @@
+package la4am12.genome;
+
+import la4am12.checkpoint.CheckpointRandom;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.SolutionExchange;
+import la4am12.telemetry.ProgressListener;
+import la4am12.telemetry.ProgressTracker;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 21:24:16
+ * @description : genetic algorithm over {@link Genomes} of the narrowest width for the vm count
+ * <p>
+ * Same operators and random number order as {@link la4am12.ga.GeneticAlgorithm}, so with the same seed both return
+ * the same solution. Both generations are allocated once and swapped, offspring overwrite the old generation.
+ */
+public class CompactGeneticAlgorithm {
+	private final Genomes genomes;
+	private final int population;
+	private final int genesN;
+	private final int maxGenerations;
+	private final double crossoverRate;
+	private final double mutationRate;
+	private final int tournamentSize;
+	private final CheckpointRandom random = new CheckpointRandom();
+	private final ProgressTracker tracker;
+	private final double[] fitness;
+	private boolean initialized;
+	private final int[] bestSoFar;
+	private double bestSoFarFitness;
+	private double meanFitness;
+	private SolutionExchange exchange;
+
+	/**
+	 * @param genomes storage and evaluator of the population, its size is the population size
+	 */
+	public CompactGeneticAlgorithm(Genomes genomes, double crossoverRate, double mutationRate, int tournamentSize, int maxGenerations) {
+		this.tracker = new ProgressTracker("CompactGA", genomes.getGenesN(), genomes.boundary);
+		this.genomes = genomes;
+		this.population = genomes.size();
+		this.genesN = genomes.getGenesN();
+		this.crossoverRate = crossoverRate;
+		this.mutationRate = mutationRate;
+		this.tournamentSize = tournamentSize;
+		this.maxGenerations = maxGenerations;
+		this.fitness = new double[population];
+		this.bestSoFar = new int[genesN];
+	}
+
+	/**
+	 * fills the population with random genes, once per instance like GeneticAlgorithm
+	 */
+	public void initializePopulation() {
+		if (initialized) {
+			return;
+		}
+		for (int i = 0; i < population; i++) {
+			genomes.randomize(i, random);
+		}
+		initialized = true;
+	}
+
+	public void evaluatePopulation() {
+		tracker.beginBatch();
+		double sum = 0;
+		int best = 0;
+		for (int i = 0; i < population; i++) {
+			fitness[i] = genomes.evaluate(i);
+			sum += fitness[i];
+			if (fitness[i] < fitness[best]) {
+				best = i;
+			}
+		}
+		tracker.addEvaluations(population);
+		meanFitness = sum / population;
+		tracker.endBatch();
+		improve(best);
+	}
+
+	private void improve(int individual) {
+		if (fitness[individual] < bestSoFarFitness) {
+			bestSoFarFitness = fitness[individual];
+			genomes.copyTo(individual, bestSoFar);
+		}
+	}
+
+	public void evolvePopulation() {
+		for (int i = 0; i < population; i++) {
+			int parent1 = tournamentSelection();
+			int parent2 = tournamentSelection();
+			genomes.crossover(i, parent1, parent2, crossoverRate, random);
+			genomes.mutate(i, mutationRate, random);
+		}
+		genomes.swap();
+	}
+
+	/**
+	 * @return index of the fittest of tournamentSize random individuals, the first one on ties
+	 */
+	private int tournamentSelection() {
+		int winner = -1;
+		for (int i = 0; i < tournamentSize; i++) {
+			int candidate = random.nextInt(population);
+			if (winner < 0 || fitness[candidate] < fitness[winner]) {
+				winner = candidate;
+			}
+		}
+		return winner;
+	}
+
+	public int[] run() {
+		return run(Budget.unlimited());
+	}
+
+	/**
+	 * runs until maxGenerations or until the budget is used up, returning the best solution so far
+	 */
+	public int[] run(Budget budget) {
+		tracker.start(budget);
+		bestSoFarFitness = Double.MAX_VALUE;
+		// every run starts from a new population instead of the last one
+		initialized = false;
+		initializePopulation();
+		evaluatePopulation();
+		exchangeSolutions();
+		tracker.iterationDone(0, bestSoFarFitness, meanFitness);
+		for (int i = 0; i < maxGenerations && !tracker.isExhausted(); i++) {
+			evolvePopulation();
+			evaluatePopulation();
+			exchangeSolutions();
+			tracker.iterationDone(i + 1, bestSoFarFitness, meanFitness);
+		}
+		return bestSoFar.clone();
+	}
+
+	/**
+	 * offers the best solution and lets a better foreign one replace the worst individual
+	 */
+	private void exchangeSolutions() {
+		if (exchange == null) {
+			return;
+		}
+		exchange.offer(bestSoFar, bestSoFarFitness);
+		int[] migrant = exchange.poll();
+		if (migrant == null) {
+			return;
+		}
+		int worst = 0;
+		for (int i = 1; i < population; i++) {
+			if (fitness[i] > fitness[worst]) {
+				worst = i;
+			}
+		}
+		genomes.load(worst, migrant);
+		fitness[worst] = genomes.evaluate(worst);
+		tracker.addEvaluations(1);
+		improve(worst);
+	}
+
+	public void setSolutionExchange(SolutionExchange exchange) {
+		this.exchange = exchange;
+	}
+
+	public void setProgressListener(ProgressListener listener) {
+		tracker.setListener(listener);
+	}
+
+	/**
+	 * must be called before run
+	 */
+	public void setSeed(long seed) {
+		random.setSeed(seed);
+	}
+
+	public long getEvaluations() {
+		return tracker.getEvaluations();
+	}
+
+	public int getIterations() {
+		return tracker.getIterations();
+	}
+
+	public boolean isBudgetExhausted() {
+		return tracker.wasExhausted();
+	}
+}
@@ -0,0 +1,103 @@
+package la4am12.genome;
+
+import la4am12.datacenter.Scheduler;
+
+import java.util.Random;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 21:05:40
+ * @description : current and next generation of a GA population, with genes stored as narrow as the vm count allows
+ * <p>
+ * {@link ByteGenomes} hold up to 256 vms, {@link ShortGenomes} up to 65536 and {@link IntGenomes} any number. Each
+ * subclass has its own copies of the variation operators and of the evaluator, so the loops run over primitive
+ * arrays of one width and evaluation streams 1/4 or 1/2 of the bytes of an int[] chromosome. The operators draw
+ * random numbers in the same order as {@link la4am12.ga.GeneticAlgorithm}.
+ */
+public abstract class Genomes {
+	protected final int size;
+	protected final int genesN;
+	protected final int boundary;
+
+	/**
+	 * @param size     individuals per generation
+	 * @param genesN   genes per individual
+	 * @param boundary genes take values in [0, boundary)
+	 */
+	protected Genomes(int size, int genesN, int boundary) {
+		this.size = size;
+		this.genesN = genesN;
+		this.boundary = boundary;
+	}
+
+	/**
+	 * picks the narrowest width for the scheduler's vm count, evaluated with its estimateFitness
+	 *
+	 * @param size individuals per generation
+	 */
+	public static Genomes forFitness(Scheduler scheduler, int size, int cloudletNum, int vmNum) {
+		if (vmNum <= ByteGenomes.MAX_BOUNDARY) {
+			return new ByteGenomes(size, cloudletNum, vmNum, scheduler::estimateFitness);
+		}
+		if (vmNum <= ShortGenomes.MAX_BOUNDARY) {
+			return new ShortGenomes(size, cloudletNum, vmNum, scheduler::estimateFitness);
+		}
+		return new IntGenomes(size, cloudletNum, vmNum, scheduler::estimateFitness);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int getGenesN() {
+		return genesN;
+	}
+
+	/**
+	 * @return bytes per gene
+	 */
+	public abstract int width();
+
+	/**
+	 * @return memory held by the genes of both generations
+	 */
+	public long byteSize() {
+		return 2L * size * genesN * width();
+	}
+
+	/**
+	 * fills individual i of the current generation with uniformly random genes
+	 */
+	public abstract void randomize(int i, Random random);
+
+	/**
+	 * uniform crossover of two current individuals into individual child of the next generation,
+	 * taking each gene from parent1 with probability rate
+	 */
+	public abstract void crossover(int child, int parent1, int parent2, double rate, Random random);
+
+	/**
+	 * resets each gene of individual child of the next generation with probability rate
+	 */
+	public abstract void mutate(int child, double rate, Random random);
+
+	/**
+	 * @return fitness of individual i of the current generation
+	 */
+	public abstract double evaluate(int i);
+
+	/**
+	 * makes the next generation current
+	 */
+	public abstract void swap();
+
+	/**
+	 * copies individual i of the current generation into an int assignment
+	 */
+	public abstract void copyTo(int i, int[] cloudletToVm);
+
+	/**
+	 * overwrites individual i of the current generation
+	 */
+	public abstract void load(int i, int[] cloudletToVm);
+}
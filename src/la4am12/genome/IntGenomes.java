@@ -0,0 +1,91 @@
+package la4am12.genome;
+
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 21:07:31
+ * @description : genes stored as ints, for any number of vms
+ */
+public class IntGenomes extends Genomes {
+	public static final int MAX_BOUNDARY = Integer.MAX_VALUE;
+
+	private final ToDoubleFunction<int[]> fitness;
+	private int[][] current;
+	private int[][] next;
+
+	/**
+	 * @param fitness objective over an assignment of this width, e.g. Scheduler::estimateFitness
+	 */
+	public IntGenomes(int size, int genesN, int boundary, ToDoubleFunction<int[]> fitness) {
+		super(size, genesN, boundary);
+		if (boundary > MAX_BOUNDARY) {
+			throw new IllegalArgumentException(boundary + " vms do not fit in int genes");
+		}
+		this.fitness = fitness;
+		this.current = new int[size][genesN];
+		this.next = new int[size][genesN];
+	}
+
+	@Override
+	public int width() {
+		return 4;
+	}
+
+	@Override
+	public void randomize(int i, Random random) {
+		int[] genes = current[i];
+		for (int j = 0; j < genesN; j++) {
+			genes[j] = random.nextInt(boundary);
+		}
+	}
+
+	@Override
+	public void crossover(int child, int parent1, int parent2, double rate, Random random) {
+		int[] genes1 = current[parent1];
+		int[] genes2 = current[parent2];
+		int[] offspring = next[child];
+		for (int j = 0; j < genesN; j++) {
+			offspring[j] = random.nextDouble() < rate ? genes1[j] : genes2[j];
+		}
+	}
+
+	@Override
+	public void mutate(int child, double rate, Random random) {
+		int[] genes = next[child];
+		for (int j = 0; j < genesN; j++) {
+			if (random.nextDouble() < rate) {
+				genes[j] = random.nextInt(boundary);
+			}
+		}
+	}
+
+	@Override
+	public double evaluate(int i) {
+		return fitness.applyAsDouble(current[i]);
+	}
+
+	@Override
+	public void swap() {
+		int[][] t = current;
+		current = next;
+		next = t;
+	}
+
+	@Override
+	public void copyTo(int i, int[] cloudletToVm) {
+		int[] genes = current[i];
+		for (int j = 0; j < genesN; j++) {
+			cloudletToVm[j] = genes[j];
+		}
+	}
+
+	@Override
+	public void load(int i, int[] cloudletToVm) {
+		int[] genes = current[i];
+		for (int j = 0; j < genesN; j++) {
+			genes[j] = cloudletToVm[j];
+		}
+	}
+}
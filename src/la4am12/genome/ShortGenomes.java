@@ -0,0 +1,92 @@
+package la4am12.genome;
+
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 21:06:58
+ * @description : genes stored as unsigned shorts, for at most 65536 vms
+ */
+public class ShortGenomes extends Genomes {
+	// vm indices up to 65535 are stored unsigned
+	public static final int MAX_BOUNDARY = 1 << 16;
+
+	private final ToDoubleFunction<short[]> fitness;
+	private short[][] current;
+	private short[][] next;
+
+	/**
+	 * @param fitness objective over an assignment of this width, e.g. Scheduler::estimateFitness
+	 */
+	public ShortGenomes(int size, int genesN, int boundary, ToDoubleFunction<short[]> fitness) {
+		super(size, genesN, boundary);
+		if (boundary > MAX_BOUNDARY) {
+			throw new IllegalArgumentException(boundary + " vms do not fit in short genes");
+		}
+		this.fitness = fitness;
+		this.current = new short[size][genesN];
+		this.next = new short[size][genesN];
+	}
+
+	@Override
+	public int width() {
+		return 2;
+	}
+
+	@Override
+	public void randomize(int i, Random random) {
+		short[] genes = current[i];
+		for (int j = 0; j < genesN; j++) {
+			genes[j] = (short) random.nextInt(boundary);
+		}
+	}
+
+	@Override
+	public void crossover(int child, int parent1, int parent2, double rate, Random random) {
+		short[] genes1 = current[parent1];
+		short[] genes2 = current[parent2];
+		short[] offspring = next[child];
+		for (int j = 0; j < genesN; j++) {
+			offspring[j] = random.nextDouble() < rate ? genes1[j] : genes2[j];
+		}
+	}
+
+	@Override
+	public void mutate(int child, double rate, Random random) {
+		short[] genes = next[child];
+		for (int j = 0; j < genesN; j++) {
+			if (random.nextDouble() < rate) {
+				genes[j] = (short) random.nextInt(boundary);
+			}
+		}
+	}
+
+	@Override
+	public double evaluate(int i) {
+		return fitness.applyAsDouble(current[i]);
+	}
+
+	@Override
+	public void swap() {
+		short[][] t = current;
+		current = next;
+		next = t;
+	}
+
+	@Override
+	public void copyTo(int i, int[] cloudletToVm) {
+		short[] genes = current[i];
+		for (int j = 0; j < genesN; j++) {
+			cloudletToVm[j] = genes[j] & 0xFFFF;
+		}
+	}
+
+	@Override
+	public void load(int i, int[] cloudletToVm) {
+		short[] genes = current[i];
+		for (int j = 0; j < genesN; j++) {
+			genes[j] = (short) cloudletToVm[j];
+		}
+	}
+}
@@ -1,6 +1,18 @@
 package la4am12.hwga;
 
+import la4am12.adaptive.OperatorBandit;
+import la4am12.adaptive.SuccessRule;
+import la4am12.chaos.ChaosSequence;
+import la4am12.chaos.ChaoticMap;
+import la4am12.checkpoint.CheckpointRandom;
+import la4am12.checkpoint.CheckpointWriter;
+import la4am12.checkpoint.Snapshot;
+import la4am12.datacenter.Budget;
 import la4am12.datacenter.OptFunction;
+import la4am12.datacenter.SolutionExchange;
+import la4am12.diversity.GeneFrequency;
+import la4am12.telemetry.ProgressListener;
+import la4am12.telemetry.ProgressTracker;
 
 import java.util.*;
 
@@ -10,6 +22,9 @@ import java.util.*;
  * @description : hybrid whale genetic algorithm
  */
 public class HWGA {
+	// share of the best whales kept by a restart
+	private static final double RESTART_ELITE_RATIO = 0.1;
+
 	private class Whale implements Comparable<Whale> {
 		private double[] position;
 		private double fitness;
@@ -23,6 +38,14 @@ public class HWGA {
 			setPosition(position);
 		}
 
+		/**
+		 * restores an already evaluated whale without evaluating it again
+		 */
+		public Whale(double[] position, double fitness) {
+			this.position = position;
+			this.fitness = fitness;
+		}
+
 		public void setFitness(double fitness) {
 			this.fitness = fitness;
 		}
@@ -60,7 +83,20 @@ public class HWGA {
 	private double crossoverRate;
 	private double mutationRate;
 	private double phaseOutRatio;
-	private static final Random R = new Random();
+	// per instance so that its state can be checkpointed
+	private final CheckpointRandom R = new CheckpointRandom();
+	private final ProgressTracker tracker;
+	private SolutionExchange exchange;
+	private CheckpointWriter checkpoint;
+	// initial positions, uniform from R when null
+	private ChaosSequence chaos;
+	// adaptive phase-out operators, fixed rates when null
+	private SuccessRule mutationControl;
+	private OperatorBandit crossoverControl;
+	// gene frequencies of the population, not tracked when null
+	private GeneFrequency frequency;
+	private double restartThreshold;
+	private int restarts;
 
 	public HWGA(OptFunction optFunction,
 				int population, int upperBound,
@@ -70,7 +106,8 @@ public class HWGA {
 				double crossoverRate,
 				double mutationRate,
 				double phaseOutRatio) {
-		this.optFunction = optFunction;
+		this.tracker = new ProgressTracker("HWGA", dim, upperBound + 1);
+		this.optFunction = tracker.counting(optFunction);
 		this.population = population;
 		this.upperBound = upperBound;
 		this.dim = dim;
@@ -86,12 +123,58 @@ public class HWGA {
 
 	public void initializePopulation() {
 		for (int i = 0; i < population; i++) {
-			double[] position = new double[dim];
+			whales.add(new Whale(randomPosition()));
+		}
+	}
+
+	private double[] randomPosition() {
+		double[] position = new double[dim];
+		if (chaos != null) {
+			chaos.fill(position);
+			for (int j = 0; j < dim; j++) {
+				position[j] *= upperBound;
+			}
+		} else {
 			for (int j = 0; j < dim; j++) {
 				position[j] = upperBound * R.nextDouble();
 			}
-			whales.add(new Whale(position));
 		}
+		return position;
+	}
+
+	/**
+	 * sets the position of a whale of the population, keeping the gene frequencies up to date
+	 */
+	private void move(Whale w, double[] position) {
+		double[] old = w.position;
+		w.setPosition(position);
+		if (frequency != null) {
+			frequency.replace(old, w.position);
+		}
+	}
+
+	private void countGenes() {
+		if (frequency == null) {
+			return;
+		}
+		frequency.clear();
+		for (Whale w : whales) {
+			frequency.add(w.position);
+		}
+	}
+
+	/**
+	 * keeps the best whales and scatters the others at random; whales must be sorted by fitness
+	 */
+	private void restart() {
+		int elites = Math.max(1, (int) (population * RESTART_ELITE_RATIO));
+		tracker.beginBatch();
+		for (int i = elites; i < population; i++) {
+			move(whales.get(i), randomPosition());
+		}
+		tracker.endBatch();
+		evaluatePopulation();
+		restarts++;
 	}
 
 	public void evaluatePopulation() {
@@ -130,7 +213,7 @@ public class HWGA {
 					newPos[i] = distance2Leader * Math.exp(b * l) * Math.cos(2.0 * Math.PI * l) + bestSol[i];
 				}
 			}
-			w.setPosition(newPos);
+			move(w, newPos);
 		}
 	}
 
@@ -145,6 +228,10 @@ public class HWGA {
 	}
 
 	public Whale crossover(Whale w1, Whale w2) {
+		return crossover(w1, w2, crossoverRate);
+	}
+
+	private Whale crossover(Whale w1, Whale w2, double crossoverRate) {
 		double[] pos1 = w1.getPosition();
 		double[] pos2 = w2.getPosition();
 		double[] pos = new double[dim];
@@ -159,6 +246,10 @@ public class HWGA {
 	}
 
 	public void mutate(Whale w) {
+		mutate(w, mutationRate);
+	}
+
+	private void mutate(Whale w, double mutationRate) {
 		for (int i = 0; i < dim; i++) {
 			if (R.nextDouble() < mutationRate) {
 				w.position[i] = upperBound * R.nextDouble();
@@ -170,25 +261,215 @@ public class HWGA {
 		for (int i = 0; i < n; i++) {
 			Whale w1 = tournamentSelection();
 			Whale w2 = tournamentSelection();
-			Whale w = crossover(w1, w2);
-			mutate(w);
-			whales.get(population - i - 1).setPosition(w.getPosition());
+			if (mutationControl == null) {
+				Whale w = crossover(w1, w2);
+				mutate(w);
+				move(whales.get(population - i - 1), w.getPosition());
+				continue;
+			}
+			double parentFitness = Math.min(w1.fitness, w2.fitness);
+			int arm = crossoverControl.select();
+			Whale w = crossover(w1, w2, crossoverControl.getArm(arm));
+			mutate(w, mutationControl.get());
+			Whale replaced = whales.get(population - i - 1);
+			move(replaced, w.getPosition());
+			boolean success = replaced.fitness < parentFitness;
+			mutationControl.record(success);
+			crossoverControl.reward(arm, success ? 1 : 0);
+		}
+		if (mutationControl != null) {
+			mutationControl.update();
+		}
+	}
+
+	/**
+	 * one iteration: whale position update, genetic phase-out of the worst whales, then re-evaluation
+	 */
+	public void iterate(int iter) {
+		// a decreases linearly from 2 to 0 in Eq. (2.3)
+		double a = 2.0 - (double)iter * (2.0 / maxIter);
+		// a2 linearly decreases from -1 to -2 to calculate t in Eq. (3.12)
+		double a2 = (double)iter * (-1.0 / maxIter) - 1.0 ;
+		// whales are evaluated as their positions are set, so the batch covers both phases
+		tracker.beginBatch();
+		updatePosition(a, a2);
+		// evaluatePopulation();
+		phaseOut((int) (population * phaseOutRatio));
+		tracker.endBatch();
+		evaluatePopulation();
+		if (frequency != null && frequency.normalizedEntropy() < restartThreshold) {
+			restart();
+		}
+		exchangeSolutions();
+		tracker.iterationDone(iter + 1, optimalScore, meanFitness());
+	}
+
+	/**
+	 * offers the best solution and lets a better foreign one replace the worst whale
+	 */
+	private void exchangeSolutions() {
+		if (exchange == null) {
+			return;
+		}
+		exchange.offer(Arrays.stream(bestSol).mapToInt((x) -> (int) x).toArray(), optimalScore);
+		int[] migrant = exchange.poll();
+		if (migrant != null) {
+			double[] position = new double[dim];
+			for (int i = 0; i < dim; i++) {
+				position[i] = migrant[i];
+			}
+			move(whales.get(population - 1), position);
+			evaluatePopulation();
+		}
+	}
+
+	public void setSolutionExchange(SolutionExchange exchange) {
+		this.exchange = exchange;
+	}
+
+	private double meanFitness() {
+		double sum = 0;
+		for (Whale w : whales) {
+			sum += w.fitness;
 		}
+		return sum / whales.size();
 	}
 
 	public int[] run() {
+		return run(Budget.unlimited());
+	}
+
+	/**
+	 * runs until maxIter or until the budget is used up, returning the best solution so far
+	 */
+	public int[] run(Budget budget) {
+		tracker.start(budget);
+		whales.clear();
+		optimalScore = Double.MAX_VALUE;
+		restarts = 0;
+		if (mutationControl != null) {
+			setAdaptive(true);
+		}
+		tracker.beginBatch();
 		initializePopulation();
+		tracker.endBatch();
+		countGenes();
 		evaluatePopulation();
-		for (int iter = 0; iter < maxIter; iter++) {
-			// a decreases linearly from 2 to 0 in Eq. (2.3)
-			double a = 2.0 - (double)iter * (2.0 / maxIter);
-			// a2 linearly decreases from -1 to -2 to calculate t in Eq. (3.12)
-			double a2 = (double)iter * (-1.0 / maxIter) - 1.0 ;
-			updatePosition(a, a2);
-			// evaluatePopulation();
-			phaseOut((int) (population * phaseOutRatio));
-			evaluatePopulation();
+		exchangeSolutions();
+		tracker.iterationDone(0, optimalScore, meanFitness());
+		return optimize(0);
+	}
+
+	/**
+	 * restores whales, best solution and random state from a checkpoint and runs the remaining iterations
+	 */
+	public int[] resume(Snapshot snapshot, Budget budget) {
+		snapshot.checkCompatible(tracker.getAlgorithm(), population, dim);
+		tracker.resume(budget, snapshot.getEvaluations(), snapshot.getIteration());
+		R.setState(snapshot.getRngState());
+		double[][] positions = snapshot.getPopulation();
+		double[] fitness = snapshot.getFitness();
+		whales.clear();
+		for (int i = 0; i < population; i++) {
+			whales.add(new Whale(positions[i], fitness[i]));
+		}
+		System.arraycopy(snapshot.getIncumbent(), 0, bestSol, 0, dim);
+		optimalScore = snapshot.getIncumbentFitness();
+		restarts = 0;
+		countGenes();
+		return optimize(snapshot.getIteration());
+	}
+
+	private int[] optimize(int from) {
+		for (int iter = from; iter < maxIter && !tracker.isExhausted(); iter++) {
+			iterate(iter);
+			if (checkpoint != null && checkpoint.isDue(iter + 1)) {
+				checkpoint.submit(snapshot(iter + 1));
+			}
 		}
 		return Arrays.stream(bestSol).mapToInt((x) -> (int) x).toArray();
 	}
+
+	/**
+	 * copies the current state, encoding and disk I/O happen on the writer thread
+	 */
+	private Snapshot snapshot(int iteration) {
+		double[][] positions = new double[population][];
+		double[] fitness = new double[population];
+		for (int i = 0; i < population; i++) {
+			positions[i] = whales.get(i).position.clone();
+			fitness[i] = whales.get(i).fitness;
+		}
+		return new Snapshot(tracker.getAlgorithm(), iteration, tracker.getEvaluations(), R.getState(), positions, fitness,
+				bestSol.clone(), optimalScore, meanFitness(), new double[0]);
+	}
+
+	public void setCheckpointWriter(CheckpointWriter checkpoint) {
+		this.checkpoint = checkpoint;
+	}
+
+	/**
+	 * draws the initial positions from a chaotic sequence instead of uniformly, null restores uniform;
+	 * must be called before run
+	 */
+	public void setChaoticMap(ChaoticMap map) {
+		chaos = map == null ? null : new ChaosSequence(map, R);
+	}
+
+	/**
+	 * turns adaptive control of the phase-out operators on or off, must be called before run.
+	 * The mutation rate starts at the configured one, clamped to [0.1 / dim, 0.25], and follows the 1/5 success rule
+	 * within that range; the crossover rate of each offspring is picked by a UCB bandit that is rewarded when the
+	 * offspring beats its better parent. The adaptive state is not checkpointed. Turned off, random numbers are drawn exactly as with
+	 * fixed rates.
+	 */
+	public void setAdaptive(boolean adaptive) {
+		double minRate = 0.1 / dim;
+		mutationControl = adaptive ? new SuccessRule(Math.max(minRate, Math.min(0.25, mutationRate)), minRate, 0.25) : null;
+		crossoverControl = adaptive ? new OperatorBandit(0.5, 0.6, 0.75, 0.9, 0.97) : null;
+	}
+
+	/**
+	 * restarts all but the best 10% of the whales when the normalized gene entropy drops below the threshold, 0 turns
+	 * diversity tracking off; must be called before run. Tracking keeps a dim x (upperBound + 1) count matrix updated
+	 * for the genes a move changes. After a resume the counts are rebuilt and restarts are counted from 0.
+	 */
+	public void setRestartThreshold(double threshold) {
+		restartThreshold = threshold;
+		frequency = threshold > 0 ? new GeneFrequency(dim, upperBound + 1, population) : null;
+	}
+
+	/**
+	 * @return normalized gene entropy of the population, NaN when not tracked
+	 */
+	public double getDiversity() {
+		return frequency == null ? Double.NaN : frequency.normalizedEntropy();
+	}
+
+	public int getRestarts() {
+		return restarts;
+	}
+
+	/**
+	 * must be called before run
+	 */
+	public void setSeed(long seed) {
+		R.setSeed(seed);
+	}
+
+	public void setProgressListener(ProgressListener listener) {
+		tracker.setListener(listener);
+	}
+
+	public long getEvaluations() {
+		return tracker.getEvaluations();
+	}
+
+	public int getIterations() {
+		return tracker.getIterations();
+	}
+
+	public boolean isBudgetExhausted() {
+		return tracker.wasExhausted();
+	}
 }
@@ -1,6 +1,15 @@
 package la4am12.hwga;
 
+import la4am12.chaos.ChaoticMap;
+import la4am12.checkpoint.CheckpointWriter;
+import la4am12.checkpoint.Snapshot;
+import la4am12.datacenter.AllocationResult;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Hyperparameters;
 import la4am12.datacenter.Scheduler;
+import la4am12.datacenter.SolutionExchange;
+import la4am12.telemetry.ProgressListener;
 import org.cloudbus.cloudsim.Cloudlet;
 import org.cloudbus.cloudsim.Log;
 import org.cloudbus.cloudsim.Vm;
@@ -21,19 +30,30 @@ public class HWGAScheduler extends Scheduler {
 	private static final double TOURNAMENT_RATIO = 0.15;
 	private static final double PHASE_OUT_RATIO = 0.15;
 
+	public static final Hyperparameters DEFAULTS = new Hyperparameters(
+			POPULATION, MAX_ITER, CROSSOVER_RATE, MUTATION_RATE, TOURNAMENT_RATIO, PHASE_OUT_RATIO);
+
 
 	public HWGAScheduler(List<Cloudlet> cloudletList, List<Vm> vmList) {
-		super(cloudletList, vmList);
+		this(cloudletList, vmList, Fleet.of(vmList));
+	}
+
+	public HWGAScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet) {
+		this(cloudletList, vmList, fleet, DEFAULTS);
+	}
+
+	public HWGAScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet, Hyperparameters params) {
+		super(cloudletList, vmList, fleet);
 		this.HWGA = new HWGA(
 				this::estimateMakespan,
-				POPULATION,
+				params.getPopulationSize(),
 				vmNum-1,
 				cloudletNum,
-				MAX_ITER,
-				TOURNAMENT_RATIO,
-				CROSSOVER_RATE,
-				MUTATION_RATE,
-				PHASE_OUT_RATIO);
+				params.getMaxGenerations(),
+				params.getTournamentRatio(),
+				params.getCrossoverRate(),
+				params.getMutationRate(),
+				params.getPhaseOutRatio());
 		Log.printLine("Using HWGA scheduler");
 	}
 
@@ -41,4 +61,60 @@ public class HWGAScheduler extends Scheduler {
 	public int[] allocate() {
 		return HWGA.run();
 	}
+
+	@Override
+	public AllocationResult allocate(Budget budget) {
+		long start = System.nanoTime();
+		int[] cloudletToVm = HWGA.run(budget);
+		return new AllocationResult(cloudletToVm, HWGA.getEvaluations(), System.nanoTime() - start,
+				HWGA.getIterations(), HWGA.isBudgetExhausted());
+	}
+
+	@Override
+	public void setProgressListener(ProgressListener listener) {
+		HWGA.setProgressListener(listener);
+	}
+
+	@Override
+	public long getEvaluations() {
+		return HWGA.getEvaluations();
+	}
+
+	@Override
+	public void setSolutionExchange(SolutionExchange exchange) {
+		HWGA.setSolutionExchange(exchange);
+	}
+
+	@Override
+	public void setCheckpointWriter(CheckpointWriter writer) {
+		HWGA.setCheckpointWriter(writer);
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		HWGA.setSeed(seed);
+	}
+
+	@Override
+	public void setChaoticMap(ChaoticMap map) {
+		HWGA.setChaoticMap(map);
+	}
+
+	@Override
+	public void setAdaptive(boolean adaptive) {
+		HWGA.setAdaptive(adaptive);
+	}
+
+	@Override
+	public void setRestartThreshold(double threshold) {
+		HWGA.setRestartThreshold(threshold);
+	}
+
+	@Override
+	public AllocationResult resume(Snapshot snapshot, Budget budget) {
+		long start = System.nanoTime();
+		int[] cloudletToVm = HWGA.resume(snapshot, budget);
+		return new AllocationResult(cloudletToVm, HWGA.getEvaluations(), System.nanoTime() - start,
+				HWGA.getIterations(), HWGA.isBudgetExhausted());
+	}
 }
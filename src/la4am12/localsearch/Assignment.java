@@ -0,0 +1,207 @@
+package la4am12.localsearch;
+
+import java.util.Arrays;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-22 14:10:33
+ * @description : an assignment with per-vm load bookkeeping, so moving or swapping cloudlets is scored in O(1)
+ * <p>
+ * Keeps the total cost, total time and sum of squared vm loads, which is all the scheduler fitness needs. The best
+ * assignment is tracked through a journal of the cloudlets changed since it was last saved, so saving it costs the
+ * number of changes, not the number of cloudlets. Not thread safe.
+ */
+class Assignment {
+	/**
+	 * fitness from the one-pass sums, see {@code Scheduler.estimateFitness(double, double, double)}
+	 */
+	@FunctionalInterface
+	interface Fitness {
+		double of(double cost, double totalTime, double sumOfSquares);
+	}
+
+	private final long[] length;
+	private final double[] invMips;
+	private final double[] pricePerMi;
+	private final Fitness fitness;
+	private final int[] cloudletToVm;
+	private final double[] load;
+	private double cost;
+	private double totalTime;
+	private double sumOfSquares;
+
+	private final int[] best;
+	private double bestFitness;
+	// 自上次保存最佳解以来改动过的云任务，超过 journalLimit 后改为整体复制
+	private final int[] journal;
+	private int journalSize;
+	private boolean journalOverflow;
+
+	Assignment(long[] length, double[] mips, double[] price, Fitness fitness, int[] initial) {
+		this.length = length;
+		this.fitness = fitness;
+		int vmNum = mips.length;
+		invMips = new double[vmNum];
+		pricePerMi = new double[vmNum];
+		for (int j = 0; j < vmNum; j++) {
+			invMips[j] = 1 / mips[j];
+			pricePerMi[j] = price[j] / mips[j];
+		}
+		cloudletToVm = initial.clone();
+		load = new double[vmNum];
+		best = initial.clone();
+		journal = new int[initial.length];
+		resync();
+		bestFitness = fitness();
+	}
+
+	/**
+	 * recomputes the sums from scratch, dropping the rounding error accumulated by incremental updates
+	 */
+	void resync() {
+		Arrays.fill(load, 0);
+		cost = 0;
+		totalTime = 0;
+		for (int i = 0; i < cloudletToVm.length; i++) {
+			int vm = cloudletToVm[i];
+			load[vm] += length[i] * invMips[vm];
+			totalTime += length[i] * invMips[vm];
+			cost += length[i] * pricePerMi[vm];
+		}
+		sumOfSquares = 0;
+		for (double l : load) {
+			sumOfSquares += l * l;
+		}
+	}
+
+	double fitness() {
+		return fitness.of(cost, totalTime, sumOfSquares);
+	}
+
+	int vmOf(int cloudlet) {
+		return cloudletToVm[cloudlet];
+	}
+
+	int vmNum() {
+		return load.length;
+	}
+
+	int cloudletNum() {
+		return cloudletToVm.length;
+	}
+
+	/**
+	 * @return fitness after moving the cloudlet to the vm, without moving it
+	 */
+	double moveFitness(int cloudlet, int to) {
+		int from = cloudletToVm[cloudlet];
+		long len = length[cloudlet];
+		double out = len * invMips[from];
+		double in = len * invMips[to];
+		double fromLoad = load[from] - out;
+		double toLoad = load[to] + in;
+		return fitness.of(cost + len * (pricePerMi[to] - pricePerMi[from]), totalTime + in - out,
+				sumOfSquares - load[from] * load[from] - load[to] * load[to] + fromLoad * fromLoad + toLoad * toLoad);
+	}
+
+	void move(int cloudlet, int to) {
+		int from = cloudletToVm[cloudlet];
+		long len = length[cloudlet];
+		double out = len * invMips[from];
+		double in = len * invMips[to];
+		double fromLoad = load[from] - out;
+		double toLoad = load[to] + in;
+		cost += len * (pricePerMi[to] - pricePerMi[from]);
+		totalTime += in - out;
+		sumOfSquares += fromLoad * fromLoad + toLoad * toLoad - load[from] * load[from] - load[to] * load[to];
+		load[from] = fromLoad;
+		load[to] = toLoad;
+		cloudletToVm[cloudlet] = to;
+		log(cloudlet);
+	}
+
+	/**
+	 * @return fitness after exchanging the vms of two cloudlets on different vms, without exchanging them
+	 */
+	double swapFitness(int a, int b) {
+		int va = cloudletToVm[a];
+		int vb = cloudletToVm[b];
+		long la = length[a];
+		long lb = length[b];
+		double loadA = load[va] + (lb - la) * invMips[va];
+		double loadB = load[vb] + (la - lb) * invMips[vb];
+		double costDelta = (lb - la) * pricePerMi[va] + (la - lb) * pricePerMi[vb];
+		double timeDelta = (lb - la) * invMips[va] + (la - lb) * invMips[vb];
+		return fitness.of(cost + costDelta, totalTime + timeDelta,
+				sumOfSquares - load[va] * load[va] - load[vb] * load[vb] + loadA * loadA + loadB * loadB);
+	}
+
+	void swap(int a, int b) {
+		int va = cloudletToVm[a];
+		int vb = cloudletToVm[b];
+		long la = length[a];
+		long lb = length[b];
+		double loadA = load[va] + (lb - la) * invMips[va];
+		double loadB = load[vb] + (la - lb) * invMips[vb];
+		cost += (lb - la) * pricePerMi[va] + (la - lb) * pricePerMi[vb];
+		totalTime += (lb - la) * invMips[va] + (la - lb) * invMips[vb];
+		sumOfSquares += loadA * loadA + loadB * loadB - load[va] * load[va] - load[vb] * load[vb];
+		load[va] = loadA;
+		load[vb] = loadB;
+		cloudletToVm[a] = vb;
+		cloudletToVm[b] = va;
+		log(a);
+		log(b);
+	}
+
+	private void log(int cloudlet) {
+		if (journalOverflow) {
+			return;
+		}
+		if (journalSize == journal.length) {
+			journalOverflow = true;
+			return;
+		}
+		journal[journalSize++] = cloudlet;
+	}
+
+	/**
+	 * saves the current assignment as the best if its fitness is lower
+	 *
+	 * @return whether it was saved
+	 */
+	boolean saveIfBest(double currentFitness) {
+		if (currentFitness >= bestFitness) {
+			return false;
+		}
+		bestFitness = currentFitness;
+		if (journalOverflow) {
+			System.arraycopy(cloudletToVm, 0, best, 0, best.length);
+		} else {
+			for (int k = 0; k < journalSize; k++) {
+				best[journal[k]] = cloudletToVm[journal[k]];
+			}
+		}
+		journalSize = 0;
+		journalOverflow = false;
+		return true;
+	}
+
+	/**
+	 * continues from another assignment, e.g. a migrant, keeping the best one saved so far
+	 */
+	void reset(int[] assignment) {
+		System.arraycopy(assignment, 0, cloudletToVm, 0, cloudletToVm.length);
+		// the journal does not cover these changes, so the next save copies everything
+		journalOverflow = true;
+		resync();
+	}
+
+	double getBestFitness() {
+		return bestFitness;
+	}
+
+	int[] getBest() {
+		return best.clone();
+	}
+}
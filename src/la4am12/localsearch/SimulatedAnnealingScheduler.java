@@ -0,0 +1,190 @@
+package la4am12.localsearch;
+
+import la4am12.checkpoint.CheckpointRandom;
+import la4am12.datacenter.AllocationResult;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Scheduler;
+import la4am12.datacenter.SolutionExchange;
+import la4am12.telemetry.ProgressListener;
+import la4am12.telemetry.ProgressTracker;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+
+import java.util.List;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-22 14:52:08
+ * @description : simulated annealing over single-cloudlet moves and two-cloudlet swaps, each scored in O(1)
+ * <p>
+ * The temperature starts where an average uphill step is accepted with probability 1/2 and is multiplied by the
+ * cooling rate after every epoch; an epoch is one iteration for the budget, the listener, JFR and the solution
+ * exchange, whose migrants the search continues from when they beat its best.
+ */
+public class SimulatedAnnealingScheduler extends Scheduler {
+	private static final int EPOCHS = 100; // 降温次数
+	private static final int MOVES_PER_CLOUDLET = 20; // 每个温度下的邻域步数为云任务数的倍数
+	private static final double COOLING_RATE = 0.95; // 降温系数
+	private static final double SWAP_RATIO = 0.5; // 交换邻域所占比例
+	private static final int TEMPERATURE_SAMPLES = 1000; // 估算初始温度的随机步数
+
+	private final int epochs;
+	private final int movesPerEpoch;
+	private final double coolingRate;
+	private final CheckpointRandom random = new CheckpointRandom();
+	private final ProgressTracker tracker;
+	private SolutionExchange exchange;
+
+	public SimulatedAnnealingScheduler(List<Cloudlet> cloudletList, List<Vm> vmList) {
+		this(cloudletList, vmList, Fleet.of(vmList));
+	}
+
+	public SimulatedAnnealingScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet) {
+		this(cloudletList, vmList, fleet, EPOCHS, MOVES_PER_CLOUDLET * cloudletList.size(), COOLING_RATE);
+	}
+
+	/**
+	 * @param epochs        temperature steps
+	 * @param movesPerEpoch neighbourhood steps at each temperature
+	 * @param coolingRate   factor applied to the temperature after each epoch
+	 */
+	public SimulatedAnnealingScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet, int epochs, int movesPerEpoch, double coolingRate) {
+		super(cloudletList, vmList, fleet);
+		this.epochs = epochs;
+		this.movesPerEpoch = Math.max(1, movesPerEpoch);
+		this.coolingRate = coolingRate;
+		this.tracker = new ProgressTracker("SA", cloudletNum, vmNum);
+		Log.printLine("Using SimulatedAnnealing scheduler");
+	}
+
+	@Override
+	public int[] allocate() {
+		return allocate(Budget.unlimited()).getCloudletToVm();
+	}
+
+	@Override
+	public AllocationResult allocate(Budget budget) {
+		long start = System.nanoTime();
+		tracker.start(budget);
+		int[] initial = new int[cloudletNum];
+		for (int i = 0; i < cloudletNum; i++) {
+			initial[i] = random.nextInt(vmNum);
+		}
+		Assignment current = new Assignment(cloudletLength, vmMips, vmPrice, this::estimateFitness, initial);
+		if (vmNum < 2) {
+			return new AllocationResult(current.getBest(), 0, System.nanoTime() - start, 0, false);
+		}
+		double fitness = current.fitness();
+		double temperature = initialTemperature(current, fitness);
+		int epoch = 0;
+		while (epoch < epochs && !tracker.isExhausted()) {
+			long accepted = 0;
+			long scored = 0;
+			for (int step = 0; step < movesPerEpoch; step++) {
+				int a = random.nextInt(cloudletNum);
+				boolean swap = random.nextDouble() < SWAP_RATIO;
+				int b = 0;
+				double next;
+				if (swap) {
+					b = random.nextInt(cloudletNum);
+					if (current.vmOf(a) == current.vmOf(b)) {
+						continue;
+					}
+					next = current.swapFitness(a, b);
+				} else {
+					b = otherVm(current.vmOf(a));
+					next = current.moveFitness(a, b);
+				}
+				scored++;
+				double delta = next - fitness;
+				if (delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature)) {
+					if (swap) {
+						current.swap(a, b);
+					} else {
+						current.move(a, b);
+					}
+					fitness = next;
+					accepted++;
+					if (delta < 0) {
+						current.saveIfBest(fitness);
+					}
+				}
+			}
+			tracker.addEvaluations(scored);
+			current.resync();
+			exchangeSolutions(current);
+			fitness = current.fitness();
+			temperature *= coolingRate;
+			epoch++;
+			tracker.iterationDone(epoch, current.getBestFitness(), fitness);
+			if (accepted == 0 && temperature < 1e-12) {
+				break;
+			}
+		}
+		return new AllocationResult(current.getBest(), tracker.getEvaluations(), System.nanoTime() - start, epoch, tracker.wasExhausted());
+	}
+
+	private int otherVm(int vm) {
+		int to = random.nextInt(vmNum - 1);
+		return to >= vm ? to + 1 : to;
+	}
+
+	/**
+	 * temperature at which a random uphill step of average size is accepted with probability 1/2
+	 */
+	private double initialTemperature(Assignment current, double fitness) {
+		double uphill = 0;
+		int count = 0;
+		for (int k = 0; k < TEMPERATURE_SAMPLES; k++) {
+			int a = random.nextInt(cloudletNum);
+			double delta = current.moveFitness(a, otherVm(current.vmOf(a))) - fitness;
+			if (delta > 0) {
+				uphill += delta;
+				count++;
+			}
+		}
+		tracker.addEvaluations(TEMPERATURE_SAMPLES);
+		return count == 0 ? Double.MIN_NORMAL : uphill / count / Math.log(2);
+	}
+
+	/**
+	 * offers the best assignment and continues from a migrant that beats it
+	 */
+	private void exchangeSolutions(Assignment current) {
+		if (exchange == null) {
+			return;
+		}
+		exchange.offer(current.getBest(), current.getBestFitness());
+		int[] migrant = exchange.poll();
+		if (migrant == null) {
+			return;
+		}
+		tracker.addEvaluations(1);
+		if (estimateFitness(migrant) < current.getBestFitness()) {
+			current.reset(migrant);
+			current.saveIfBest(current.fitness());
+		}
+	}
+
+	@Override
+	public long getEvaluations() {
+		return tracker.getEvaluations();
+	}
+
+	@Override
+	public void setProgressListener(ProgressListener listener) {
+		tracker.setListener(listener);
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		random.setSeed(seed);
+	}
+
+	@Override
+	public void setSolutionExchange(SolutionExchange exchange) {
+		this.exchange = exchange;
+	}
+}
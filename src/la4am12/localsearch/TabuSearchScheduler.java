@@ -0,0 +1,187 @@
+package la4am12.localsearch;
+
+import la4am12.checkpoint.CheckpointRandom;
+import la4am12.datacenter.AllocationResult;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Scheduler;
+import la4am12.datacenter.SolutionExchange;
+import la4am12.telemetry.ProgressListener;
+import la4am12.telemetry.ProgressTracker;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+
+import java.util.List;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-22 15:37:45
+ * @description : tabu search over single-cloudlet moves and two-cloudlet swaps, each scored in O(1)
+ * <p>
+ * Every iteration scores all moves of a random sample of cloudlets plus one swap per sampled cloudlet and takes the
+ * best one that is not tabu, or a tabu one that beats the best found (aspiration). Leaving a vm makes returning to
+ * it tabu for a random tenure; the tabu list is a flat array indexed by cloudlet and vm holding the iteration the
+ * ban ends, so checking and setting it is O(1). The best assignment is offered to the solution exchange at every
+ * progress report, and the search continues from a migrant that beats it.
+ */
+public class TabuSearchScheduler extends Scheduler {
+	private static final int ITERATIONS = 5000; // 最大迭代次数
+	private static final int SAMPLE_SIZE = 64; // 每次迭代考察的云任务数
+	private static final int MIN_TENURE = 10; // 禁忌期限下限
+	private static final int TENURE_RANGE = 10; // 禁忌期限在 [MIN_TENURE, MIN_TENURE + TENURE_RANGE) 中随机
+	private static final int ITERATIONS_PER_REPORT = 100; // 每隔若干次迭代检查预算、交换解并报告一次进度
+
+	private final int iterations;
+	private final int sampleSize;
+	private final CheckpointRandom random = new CheckpointRandom();
+	private final ProgressTracker tracker;
+	private SolutionExchange exchange;
+
+	public TabuSearchScheduler(List<Cloudlet> cloudletList, List<Vm> vmList) {
+		this(cloudletList, vmList, Fleet.of(vmList));
+	}
+
+	public TabuSearchScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet) {
+		this(cloudletList, vmList, fleet, ITERATIONS, SAMPLE_SIZE);
+	}
+
+	/**
+	 * @param iterations moves made
+	 * @param sampleSize cloudlets whose moves are scored per iteration
+	 */
+	public TabuSearchScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet, int iterations, int sampleSize) {
+		super(cloudletList, vmList, fleet);
+		if ((long) cloudletNum * vmNum > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("tabu list of " + cloudletNum + " x " + vmNum + " does not fit in an array");
+		}
+		this.iterations = iterations;
+		this.sampleSize = Math.max(1, sampleSize);
+		this.tracker = new ProgressTracker("Tabu", cloudletNum, vmNum);
+		Log.printLine("Using TabuSearch scheduler");
+	}
+
+	@Override
+	public int[] allocate() {
+		return allocate(Budget.unlimited()).getCloudletToVm();
+	}
+
+	@Override
+	public AllocationResult allocate(Budget budget) {
+		long start = System.nanoTime();
+		tracker.start(budget);
+		int[] initial = new int[cloudletNum];
+		for (int i = 0; i < cloudletNum; i++) {
+			initial[i] = random.nextInt(vmNum);
+		}
+		Assignment current = new Assignment(cloudletLength, vmMips, vmPrice, this::estimateFitness, initial);
+		if (vmNum < 2) {
+			return new AllocationResult(current.getBest(), 0, System.nanoTime() - start, 0, false);
+		}
+		// tabuUntil[i * vmNum + j]: 云任务 i 在这次迭代之前不能回到虚拟机 j
+		int[] tabuUntil = new int[cloudletNum * vmNum];
+		int iteration = 0;
+		long scored = 0;
+		while (iteration < iterations && !tracker.isExhausted()) {
+			for (int r = 0; r < ITERATIONS_PER_REPORT && iteration < iterations; r++) {
+				iteration++;
+				double bestNext = Double.MAX_VALUE;
+				int bestA = -1;
+				int bestB = -1;
+				boolean bestSwap = false;
+				double aspiration = current.getBestFitness();
+				for (int s = 0; s < sampleSize; s++) {
+					int a = random.nextInt(cloudletNum);
+					int from = current.vmOf(a);
+					for (int to = 0; to < vmNum; to++) {
+						if (to == from) {
+							continue;
+						}
+						double next = current.moveFitness(a, to);
+						scored++;
+						if (next < bestNext && (tabuUntil[a * vmNum + to] <= iteration || next < aspiration)) {
+							bestNext = next;
+							bestA = a;
+							bestB = to;
+							bestSwap = false;
+						}
+					}
+					int b = random.nextInt(cloudletNum);
+					int other = current.vmOf(b);
+					if (other != from) {
+						double next = current.swapFitness(a, b);
+						scored++;
+						boolean tabu = tabuUntil[a * vmNum + other] > iteration || tabuUntil[b * vmNum + from] > iteration;
+						if (next < bestNext && (!tabu || next < aspiration)) {
+							bestNext = next;
+							bestA = a;
+							bestB = b;
+							bestSwap = true;
+						}
+					}
+				}
+				if (bestA < 0) {
+					continue;
+				}
+				int from = current.vmOf(bestA);
+				if (bestSwap) {
+					tabuUntil[bestB * vmNum + current.vmOf(bestB)] = iteration + tenure();
+					current.swap(bestA, bestB);
+				} else {
+					current.move(bestA, bestB);
+				}
+				tabuUntil[bestA * vmNum + from] = iteration + tenure();
+				current.saveIfBest(bestNext);
+			}
+			tracker.addEvaluations(scored);
+			scored = 0;
+			current.resync();
+			exchangeSolutions(current);
+			tracker.iterationDone(iteration, current.getBestFitness(), current.fitness());
+		}
+		return new AllocationResult(current.getBest(), tracker.getEvaluations(), System.nanoTime() - start, iteration, tracker.wasExhausted());
+	}
+
+	private int tenure() {
+		return MIN_TENURE + random.nextInt(TENURE_RANGE);
+	}
+
+	/**
+	 * offers the best assignment and continues from a migrant that beats it
+	 */
+	private void exchangeSolutions(Assignment current) {
+		if (exchange == null) {
+			return;
+		}
+		exchange.offer(current.getBest(), current.getBestFitness());
+		int[] migrant = exchange.poll();
+		if (migrant == null) {
+			return;
+		}
+		tracker.addEvaluations(1);
+		if (estimateFitness(migrant) < current.getBestFitness()) {
+			current.reset(migrant);
+			current.saveIfBest(current.fitness());
+		}
+	}
+
+	@Override
+	public long getEvaluations() {
+		return tracker.getEvaluations();
+	}
+
+	@Override
+	public void setProgressListener(ProgressListener listener) {
+		tracker.setListener(listener);
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		random.setSeed(seed);
+	}
+
+	@Override
+	public void setSolutionExchange(SolutionExchange exchange) {
+		this.exchange = exchange;
+	}
+}
@@ -1,11 +1,12 @@
 package la4am12.maxmin;
 
+import la4am12.datacenter.Fleet;
 import la4am12.minmin.MinMinScheduler;
 import org.cloudbus.cloudsim.Cloudlet;
 import org.cloudbus.cloudsim.Log;
 import org.cloudbus.cloudsim.Vm;
 
-import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -15,8 +16,11 @@ import java.util.List;
  */
 public class MaxMinScheduler extends MinMinScheduler {
 	public MaxMinScheduler(List<Cloudlet> cloudletList, List<Vm> vmList) {
-		super(cloudletList, vmList);
-		Collections.reverse(cloudletList);
+		this(cloudletList, vmList, Fleet.of(vmList));
+	}
+
+	public MaxMinScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet) {
+		super(cloudletList, vmList, fleet, Comparator.comparingLong(Cloudlet::getCloudletLength).reversed());
 		Log.printLine("Using MaxMin scheduler");
 	}
 }
@@ -1,5 +1,6 @@
 package la4am12.minmin;
 
+import la4am12.datacenter.Fleet;
 import la4am12.datacenter.Scheduler;
 import org.cloudbus.cloudsim.Cloudlet;
 import org.cloudbus.cloudsim.Log;
@@ -16,12 +17,26 @@ import java.util.List;
  */
 public class MinMinScheduler extends Scheduler {
 	public MinMinScheduler(List<Cloudlet> cloudletList, List<Vm> vmList) {
-		super(cloudletList, vmList);
-		Collections.sort(cloudletList, Comparator.comparingLong(Cloudlet::getCloudletLength));
-		Collections.sort(vmList, Comparator.comparingDouble(Vm::getMips));
+		this(cloudletList, vmList, Fleet.of(vmList));
+	}
+
+	public MinMinScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet) {
+		this(cloudletList, vmList, fleet, Comparator.comparingLong(Cloudlet::getCloudletLength));
 		Log.printLine("Using MinMin scheduler");
 	}
 
+	/**
+	 * 在调用父类构造函数之前排好序，父类缓存的任务长度和虚拟机参数与排序后的列表一致
+	 */
+	protected MinMinScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet, Comparator<Cloudlet> cloudletOrder) {
+		super(sorted(cloudletList, cloudletOrder), sorted(vmList, Comparator.comparingDouble(Vm::getMips)), fleet);
+	}
+
+	private static <T> List<T> sorted(List<T> list, Comparator<? super T> order) {
+		Collections.sort(list, order);
+		return list;
+	}
+
 	@Override
 	public int[] allocate() {
 		int[] cloudletToVm = new int[cloudletNum];
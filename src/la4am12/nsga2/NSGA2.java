@@ -0,0 +1,283 @@
+package la4am12.nsga2;
+
+import la4am12.checkpoint.CheckpointRandom;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.MultiOptFunction;
+import la4am12.telemetry.ProgressListener;
+import la4am12.telemetry.ProgressTracker;
+
+import java.util.stream.IntStream;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 09:58:41
+ * @description : NSGA-II over cloudlet-to-vm assignments
+ * <p>
+ * Parents and offspring share one pool of 2 * population individuals whose objectives live in a flat array.
+ * Offspring are evaluated in parallel, the pool is ranked with {@link NonDominatedSort} and the next population
+ * is filled front by front, breaking the last front by crowding distance.
+ */
+public class NSGA2 {
+	private final MultiOptFunction optFunction;
+	private final int objectiveNum;
+	private final int population;
+	private final int boundary;
+	private final int genesN;
+	private final int maxGenerations;
+	private final double crossoverRate;
+	private final double mutationRate;
+	private final CheckpointRandom random = new CheckpointRandom();
+	private final ProgressTracker tracker;
+
+	// pool[0, population) is the current population, pool[population, 2 * population) the offspring
+	private int[][] pool;
+	private double[] objectives;
+	private int[] rank;
+	private double[] crowding;
+
+	/**
+	 * @param optFunction    objective function writing objectiveNum values
+	 * @param objectiveNum   number of objectives
+	 * @param population     population size
+	 * @param crossoverRate  probability of taking a gene from the first parent in uniform crossover
+	 * @param mutationRate   per-gene mutation probability
+	 * @param boundary       genes take values in [0, boundary)
+	 * @param genesN         genes per individual
+	 * @param maxGenerations generations to run
+	 */
+	public NSGA2(MultiOptFunction optFunction, int objectiveNum, int population, double crossoverRate, double mutationRate,
+				 int boundary, int genesN, int maxGenerations) {
+		this.optFunction = optFunction;
+		this.objectiveNum = objectiveNum;
+		this.population = population;
+		this.crossoverRate = crossoverRate;
+		this.mutationRate = mutationRate;
+		this.boundary = boundary;
+		this.genesN = genesN;
+		this.maxGenerations = maxGenerations;
+		this.tracker = new ProgressTracker("NSGA2", genesN, boundary);
+	}
+
+	private void initializePopulation() {
+		pool = new int[2 * population][];
+		objectives = new double[2 * population * objectiveNum];
+		rank = new int[2 * population];
+		crowding = new double[2 * population];
+		for (int i = 0; i < population; i++) {
+			int[] genes = new int[genesN];
+			for (int j = 0; j < genesN; j++) {
+				genes[j] = random.nextInt(boundary);
+			}
+			pool[i] = genes;
+		}
+		evaluate(0, population);
+		rankAndCrowd(population);
+	}
+
+	/**
+	 * evaluates pool[from, to) in parallel
+	 */
+	private void evaluate(int from, int to) {
+		tracker.beginBatch();
+		IntStream.range(from, to).parallel().forEach(i -> optFunction.calc(pool[i], objectives, i * objectiveNum));
+		tracker.addEvaluations(to - from);
+		tracker.endBatch();
+	}
+
+	private void rankAndCrowd(int n) {
+		int frontNum = NonDominatedSort.sort(objectives, n, objectiveNum, rank);
+		int[][] fronts = fronts(n, frontNum);
+		for (int[] front : fronts) {
+			NonDominatedSort.crowdingDistance(objectives, objectiveNum, front, front.length, crowding);
+		}
+	}
+
+	private int[][] fronts(int n, int frontNum) {
+		int[] size = new int[frontNum];
+		for (int i = 0; i < n; i++) {
+			size[rank[i]]++;
+		}
+		int[][] fronts = new int[frontNum][];
+		for (int f = 0; f < frontNum; f++) {
+			fronts[f] = new int[size[f]];
+			size[f] = 0;
+		}
+		for (int i = 0; i < n; i++) {
+			fronts[rank[i]][size[rank[i]]++] = i;
+		}
+		return fronts;
+	}
+
+	/**
+	 * binary tournament on rank, then crowding distance
+	 */
+	private int select() {
+		int a = random.nextInt(population);
+		int b = random.nextInt(population);
+		if (rank[a] != rank[b]) {
+			return rank[a] < rank[b] ? a : b;
+		}
+		return crowding[a] >= crowding[b] ? a : b;
+	}
+
+	private void makeOffspring() {
+		for (int i = population; i < 2 * population; i++) {
+			int[] genes1 = pool[select()];
+			int[] genes2 = pool[select()];
+			int[] child = pool[i] == null ? new int[genesN] : pool[i];
+			for (int j = 0; j < genesN; j++) {
+				child[j] = random.nextDouble() < crossoverRate ? genes1[j] : genes2[j];
+				if (random.nextDouble() < mutationRate) {
+					child[j] = random.nextInt(boundary);
+				}
+			}
+			pool[i] = child;
+		}
+	}
+
+	/**
+	 * keeps the best population individuals of the pool, front by front, and moves them to pool[0, population)
+	 */
+	private void environmentalSelection() {
+		int n = 2 * population;
+		int frontNum = NonDominatedSort.sort(objectives, n, objectiveNum, rank);
+		int[][] fronts = fronts(n, frontNum);
+		int[] survivors = new int[population];
+		int count = 0;
+		for (int[] front : fronts) {
+			NonDominatedSort.crowdingDistance(objectives, objectiveNum, front, front.length, crowding);
+			if (count + front.length <= population) {
+				System.arraycopy(front, 0, survivors, count, front.length);
+				count += front.length;
+			} else {
+				sortByCrowdingDesc(front);
+				System.arraycopy(front, 0, survivors, count, population - count);
+				count = population;
+			}
+			if (count == population) {
+				break;
+			}
+		}
+
+		int[][] newPool = new int[n][];
+		double[] newObjectives = new double[objectives.length];
+		int[] newRank = new int[n];
+		double[] newCrowding = new double[n];
+		boolean[] survived = new boolean[n];
+		for (int i = 0; i < population; i++) {
+			int s = survivors[i];
+			survived[s] = true;
+			newPool[i] = pool[s];
+			System.arraycopy(objectives, s * objectiveNum, newObjectives, i * objectiveNum, objectiveNum);
+			newRank[i] = rank[s];
+			newCrowding[i] = crowding[s];
+		}
+		// recycle the genomes of the discarded individuals as offspring buffers
+		int free = population;
+		for (int i = 0; i < n; i++) {
+			if (!survived[i]) {
+				newPool[free++] = pool[i];
+			}
+		}
+		pool = newPool;
+		objectives = newObjectives;
+		rank = newRank;
+		crowding = newCrowding;
+	}
+
+	private void sortByCrowdingDesc(int[] front) {
+		// fronts are small, insertion sort keeps it allocation free
+		for (int i = 1; i < front.length; i++) {
+			int s = front[i];
+			int j = i - 1;
+			while (j >= 0 && crowding[front[j]] < crowding[s]) {
+				front[j + 1] = front[j];
+				j--;
+			}
+			front[j + 1] = s;
+		}
+	}
+
+	public void run() {
+		run(Budget.unlimited());
+	}
+
+	/**
+	 * evolves the population until maxGenerations or until the budget is used up
+	 */
+	public void run(Budget budget) {
+		tracker.start(budget);
+		initializePopulation();
+		reportProgress(0);
+		for (int g = 0; g < maxGenerations && !tracker.isExhausted(); g++) {
+			makeOffspring();
+			evaluate(population, 2 * population);
+			environmentalSelection();
+			reportProgress(g + 1);
+		}
+	}
+
+	/**
+	 * iteration events carry the first objective: its minimum and population mean
+	 */
+	private void reportProgress(int generation) {
+		double best = Double.MAX_VALUE;
+		double sum = 0;
+		for (int i = 0; i < population; i++) {
+			double v = objectives[i * objectiveNum];
+			best = Math.min(best, v);
+			sum += v;
+		}
+		tracker.iterationDone(generation, best, sum / population);
+	}
+
+	/**
+	 * @return indices into the current population of the rank 0 individuals
+	 */
+	public int[] getFront() {
+		int size = 0;
+		for (int i = 0; i < population; i++) {
+			if (rank[i] == 0) {
+				size++;
+			}
+		}
+		int[] front = new int[size];
+		for (int i = 0, k = 0; i < population; i++) {
+			if (rank[i] == 0) {
+				front[k++] = i;
+			}
+		}
+		return front;
+	}
+
+	public int[] getGenes(int individual) {
+		return pool[individual];
+	}
+
+	public double getObjective(int individual, int k) {
+		return objectives[individual * objectiveNum + k];
+	}
+
+	/**
+	 * two runs with the same seed give the same front; call before run
+	 */
+	public void setSeed(long seed) {
+		random.setSeed(seed);
+	}
+
+	public void setProgressListener(ProgressListener listener) {
+		tracker.setListener(listener);
+	}
+
+	public long getEvaluations() {
+		return tracker.getEvaluations();
+	}
+
+	public int getIterations() {
+		return tracker.getIterations();
+	}
+
+	public boolean isBudgetExhausted() {
+		return tracker.wasExhausted();
+	}
+}
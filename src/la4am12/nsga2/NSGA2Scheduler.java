@@ -0,0 +1,114 @@
+package la4am12.nsga2;
+
+import la4am12.datacenter.AllocationResult;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Scheduler;
+import la4am12.telemetry.ProgressListener;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 10:36:52
+ * @description : NSGA-II schedule Algorithm, minimizing cost, total time and LB at once
+ * <p>
+ * One run yields the whole Pareto front ({@link #getParetoFront()}); allocate() returns the front member with
+ * the best weighted fitness, so the scheduler can stand in for the single-objective ones.
+ */
+public class NSGA2Scheduler extends Scheduler {
+	private static final int POPULATION = 100;
+	private static final int MAX_GENERATIONS = 100;
+	private static final double CROSSOVER_RATE = 0.6;
+	private static final double MUTATION_RATE = 0.005;
+	// cost, total time, LB
+	private static final int OBJECTIVE_NUM = 3;
+
+	private final NSGA2 nsga2;
+	private List<ParetoSolution> paretoFront = Collections.emptyList();
+
+	public NSGA2Scheduler(List<Cloudlet> cloudletList, List<Vm> vmList) {
+		this(cloudletList, vmList, Fleet.of(vmList));
+	}
+
+	public NSGA2Scheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet) {
+		super(cloudletList, vmList, fleet);
+		this.nsga2 = new NSGA2(this::estimateObjectives, OBJECTIVE_NUM, POPULATION, CROSSOVER_RATE, MUTATION_RATE, vmNum, cloudletNum, MAX_GENERATIONS);
+		Log.printLine("Using NSGA-II scheduler");
+	}
+
+	@Override
+	public int[] allocate() {
+		return allocate(Budget.unlimited()).getCloudletToVm();
+	}
+
+	@Override
+	public AllocationResult allocate(Budget budget) {
+		long start = System.nanoTime();
+		nsga2.run(budget);
+		paretoFront = collectFront();
+		ParetoSolution best = null;
+		double bestFitness = Double.MAX_VALUE;
+		for (ParetoSolution solution : paretoFront) {
+			double fitness = estimateFitness(solution.getCloudletToVm());
+			if (fitness < bestFitness) {
+				bestFitness = fitness;
+				best = solution;
+			}
+		}
+		return new AllocationResult(best.getCloudletToVm(), nsga2.getEvaluations(), System.nanoTime() - start,
+				nsga2.getIterations(), nsga2.isBudgetExhausted());
+	}
+
+	/**
+	 * rank 0 individuals of the final population without duplicate objective vectors, sorted by cost
+	 */
+	private List<ParetoSolution> collectFront() {
+		List<ParetoSolution> front = new ArrayList<>();
+		for (int i : nsga2.getFront()) {
+			double cost = nsga2.getObjective(i, 0);
+			double totalTime = nsga2.getObjective(i, 1);
+			double lb = nsga2.getObjective(i, 2);
+			boolean duplicate = false;
+			for (ParetoSolution s : front) {
+				if (s.getCost() == cost && s.getTotalTime() == totalTime && s.getLB() == lb) {
+					duplicate = true;
+					break;
+				}
+			}
+			if (!duplicate) {
+				front.add(new ParetoSolution(nsga2.getGenes(i).clone(), cost, totalTime, lb));
+			}
+		}
+		front.sort(Comparator.comparingDouble(ParetoSolution::getCost));
+		return Collections.unmodifiableList(front);
+	}
+
+	/**
+	 * @return Pareto front of the last allocation, sorted by cost
+	 */
+	public List<ParetoSolution> getParetoFront() {
+		return paretoFront;
+	}
+
+	@Override
+	public long getEvaluations() {
+		return nsga2.getEvaluations();
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		nsga2.setSeed(seed);
+	}
+
+	@Override
+	public void setProgressListener(ProgressListener listener) {
+		nsga2.setProgressListener(listener);
+	}
+}
@@ -0,0 +1,167 @@
+package la4am12.nsga2;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 09:31:18
+ * @description : efficient non-dominated sort with binary search (ENS-BS) and crowding distance on flat arrays
+ * <p>
+ * Objectives are stored row by row: objectives[i * m + k] is objective k of solution i, all minimized.
+ * After a lexicographic sort no solution can be dominated by a later one, so each solution only has to be
+ * compared with the fronts built so far, and the first front not dominating it is found by binary search.
+ */
+public class NonDominatedSort {
+	private NonDominatedSort() {
+	}
+
+	/**
+	 * @param objectives flat objective matrix
+	 * @param n          number of solutions
+	 * @param m          number of objectives
+	 * @param rank       output, rank[i] is the front of solution i, 0 being the Pareto front
+	 * @return number of fronts
+	 */
+	public static int sort(double[] objectives, int n, int m, int[] rank) {
+		int[] order = lexicographicOrder(objectives, n, m);
+		// fronts[f] holds the members of front f in insertion order
+		int[][] fronts = new int[n][];
+		int[] frontSize = new int[n];
+		int frontNum = 0;
+		for (int idx = 0; idx < n; idx++) {
+			int s = order[idx];
+			int lo = 0;
+			int hi = frontNum;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (dominatedByFront(objectives, m, fronts[mid], frontSize[mid], s)) {
+					lo = mid + 1;
+				} else {
+					hi = mid;
+				}
+			}
+			if (lo == frontNum) {
+				fronts[frontNum++] = new int[4];
+			}
+			if (frontSize[lo] == fronts[lo].length) {
+				int[] grown = new int[fronts[lo].length * 2];
+				System.arraycopy(fronts[lo], 0, grown, 0, frontSize[lo]);
+				fronts[lo] = grown;
+			}
+			fronts[lo][frontSize[lo]++] = s;
+			rank[s] = lo;
+		}
+		return frontNum;
+	}
+
+	private static boolean dominatedByFront(double[] objectives, int m, int[] front, int size, int s) {
+		// later members are lexicographically closer to s and more likely to dominate it
+		for (int i = size - 1; i >= 0; i--) {
+			if (dominates(objectives, m, front[i], s)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return whether solution a is no worse than b in every objective and better in at least one
+	 */
+	public static boolean dominates(double[] objectives, int m, int a, int b) {
+		int oa = a * m;
+		int ob = b * m;
+		boolean better = false;
+		for (int k = 0; k < m; k++) {
+			double x = objectives[oa + k];
+			double y = objectives[ob + k];
+			if (x > y) {
+				return false;
+			}
+			if (x < y) {
+				better = true;
+			}
+		}
+		return better;
+	}
+
+	/**
+	 * computes the crowding distance of the given members of one front, boundary solutions get +infinity
+	 *
+	 * @param members  solutions of the front
+	 * @param size     number of members
+	 * @param crowding output, indexed by solution
+	 */
+	public static void crowdingDistance(double[] objectives, int m, int[] members, int size, double[] crowding) {
+		for (int i = 0; i < size; i++) {
+			crowding[members[i]] = 0;
+		}
+		if (size <= 2) {
+			for (int i = 0; i < size; i++) {
+				crowding[members[i]] = Double.POSITIVE_INFINITY;
+			}
+			return;
+		}
+		int[] sorted = new int[size];
+		for (int k = 0; k < m; k++) {
+			System.arraycopy(members, 0, sorted, 0, size);
+			sortByObjective(sorted, size, objectives, m, k);
+			double min = objectives[sorted[0] * m + k];
+			double max = objectives[sorted[size - 1] * m + k];
+			crowding[sorted[0]] = Double.POSITIVE_INFINITY;
+			crowding[sorted[size - 1]] = Double.POSITIVE_INFINITY;
+			if (max == min) {
+				continue;
+			}
+			for (int i = 1; i < size - 1; i++) {
+				crowding[sorted[i]] += (objectives[sorted[i + 1] * m + k] - objectives[sorted[i - 1] * m + k]) / (max - min);
+			}
+		}
+	}
+
+	private static int[] lexicographicOrder(double[] objectives, int n, int m) {
+		int[] order = new int[n];
+		for (int i = 0; i < n; i++) {
+			order[i] = i;
+		}
+		mergeSort(order, new int[n], 0, n, objectives, m, -1);
+		return order;
+	}
+
+	private static void sortByObjective(int[] idx, int size, double[] objectives, int m, int k) {
+		mergeSort(idx, new int[size], 0, size, objectives, m, k);
+	}
+
+	/**
+	 * stable merge sort of solution indices, by objective k or lexicographically when k &lt; 0
+	 */
+	private static void mergeSort(int[] a, int[] tmp, int from, int to, double[] objectives, int m, int k) {
+		if (to - from < 2) {
+			return;
+		}
+		int mid = (from + to) >>> 1;
+		mergeSort(a, tmp, from, mid, objectives, m, k);
+		mergeSort(a, tmp, mid, to, objectives, m, k);
+		int i = from, j = mid, t = from;
+		while (i < mid && j < to) {
+			tmp[t++] = compare(objectives, m, k, a[j], a[i]) < 0 ? a[j++] : a[i++];
+		}
+		while (i < mid) {
+			tmp[t++] = a[i++];
+		}
+		while (j < to) {
+			tmp[t++] = a[j++];
+		}
+		System.arraycopy(tmp, from, a, from, to - from);
+	}
+
+	private static int compare(double[] objectives, int m, int k, int a, int b) {
+		if (k >= 0) {
+			return Double.compare(objectives[a * m + k], objectives[b * m + k]);
+		}
+		for (int o = 0; o < m; o++) {
+			int c = Double.compare(objectives[a * m + o], objectives[b * m + o]);
+			if (c != 0) {
+				return c;
+			}
+		}
+		return 0;
+	}
+}
@@ -0,0 +1,41 @@
+package la4am12.nsga2;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 10:31:09
+ * @description : one non-dominated assignment and its cost, total time and load balance
+ */
+public class ParetoSolution {
+	private final int[] cloudletToVm;
+	private final double cost;
+	private final double totalTime;
+	private final double lb;
+
+	public ParetoSolution(int[] cloudletToVm, double cost, double totalTime, double lb) {
+		this.cloudletToVm = cloudletToVm;
+		this.cost = cost;
+		this.totalTime = totalTime;
+		this.lb = lb;
+	}
+
+	public int[] getCloudletToVm() {
+		return cloudletToVm;
+	}
+
+	public double getCost() {
+		return cost;
+	}
+
+	public double getTotalTime() {
+		return totalTime;
+	}
+
+	public double getLB() {
+		return lb;
+	}
+
+	@Override
+	public String toString() {
+		return "cost=" + cost + ", totalTime=" + totalTime + ", LB=" + lb;
+	}
+}
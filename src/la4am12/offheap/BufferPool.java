@@ -0,0 +1,74 @@
+package la4am12.offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-23 14:05:31
+ * @description : thread-safe pool of native-order direct buffers, keyed by capacity
+ * <p>
+ * Direct buffers are slow to allocate and are only freed when the collector gets to them, so a process that runs
+ * one off-heap GA after another (e.g. the scheduling service) hands the population buffers back here instead of
+ * dropping them. At most {@code maxRetainedBytes} are kept; buffers released beyond that are left to the collector.
+ * Acquired buffers are cleared but not zeroed.
+ */
+public class BufferPool {
+	private final long maxRetainedBytes;
+	private final Map<Integer, Queue<ByteBuffer>> free = new ConcurrentHashMap<>();
+	private final AtomicLong retained = new AtomicLong();
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * @param maxRetainedBytes direct memory the pool may hold on to between runs
+	 */
+	public BufferPool(long maxRetainedBytes) {
+		this.maxRetainedBytes = maxRetainedBytes;
+	}
+
+	public ByteBuffer acquire(int capacity) {
+		Queue<ByteBuffer> queue = free.get(capacity);
+		ByteBuffer buffer = queue == null ? null : queue.poll();
+		if (buffer == null) {
+			misses.incrementAndGet();
+			return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+		}
+		retained.addAndGet(-capacity);
+		hits.incrementAndGet();
+		buffer.clear();
+		return buffer;
+	}
+
+	/**
+	 * hands a buffer back, it must not be used by the caller afterwards
+	 */
+	public void release(ByteBuffer buffer) {
+		int capacity = buffer.capacity();
+		if (retained.addAndGet(capacity) > maxRetainedBytes) {
+			retained.addAndGet(-capacity);
+			return;
+		}
+		free.computeIfAbsent(capacity, c -> new ConcurrentLinkedQueue<>()).add(buffer);
+	}
+
+	/**
+	 * @return direct memory currently held by the pool
+	 */
+	public long getRetainedBytes() {
+		return retained.get();
+	}
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	public long getMisses() {
+		return misses.get();
+	}
+}
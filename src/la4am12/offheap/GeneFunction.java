@@ -0,0 +1,16 @@
+package la4am12.offheap;
+
+import java.nio.ByteBuffer;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 19:02:11
+ * @description : objective over an assignment stored off-heap, e.g. Scheduler::estimateFitness
+ */
+@FunctionalInterface
+public interface GeneFunction {
+	/**
+	 * @param cloudletToVm native-order ints read with absolute indices, must not be modified
+	 */
+	double calc(ByteBuffer cloudletToVm);
+}
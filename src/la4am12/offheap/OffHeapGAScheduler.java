@@ -0,0 +1,94 @@
+package la4am12.offheap;
+
+import la4am12.datacenter.AllocationResult;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Hyperparameters;
+import la4am12.datacenter.Scheduler;
+import la4am12.datacenter.SolutionExchange;
+import la4am12.ga.GAScheduler;
+import la4am12.telemetry.ProgressListener;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+
+import java.util.List;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 19:40:05
+ * @description : GA scheduler with an off-heap population, for instances whose int[] chromosomes strain the heap
+ */
+public class OffHeapGAScheduler extends Scheduler implements AutoCloseable {
+	private final OffHeapGeneticAlgorithm ga;
+
+	public OffHeapGAScheduler(List<Cloudlet> cloudletList, List<Vm> vmList) {
+		this(cloudletList, vmList, Fleet.of(vmList));
+	}
+
+	public OffHeapGAScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet) {
+		this(cloudletList, vmList, fleet, GAScheduler.DEFAULTS);
+	}
+
+	public OffHeapGAScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet, Hyperparameters params) {
+		this(cloudletList, vmList, fleet, params, null);
+	}
+
+	/**
+	 * @param pool pool the population buffers are taken from, they are returned by {@link #close()}
+	 */
+	public OffHeapGAScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet, Hyperparameters params, BufferPool pool) {
+		super(cloudletList, vmList, fleet);
+		this.ga = new OffHeapGeneticAlgorithm(this::estimateFitness, params.getPopulationSize(), params.getCrossoverRate(), params.getMutationRate(),
+				vmNum, cloudletNum, Math.max(1, (int) (cloudletNum * params.getTournamentRatio())), params.getMaxGenerations(), pool);
+		Log.printLine("Using OffHeapGA scheduler");
+	}
+
+	@Override
+	public int[] allocate() {
+		return ga.run();
+	}
+
+	@Override
+	public AllocationResult allocate(Budget budget) {
+		long start = System.nanoTime();
+		int[] cloudletToVm = ga.run(budget);
+		return new AllocationResult(cloudletToVm, ga.getEvaluations(), System.nanoTime() - start,
+				ga.getIterations(), ga.isBudgetExhausted());
+	}
+
+	@Override
+	public void setProgressListener(ProgressListener listener) {
+		ga.setProgressListener(listener);
+	}
+
+	@Override
+	public long getEvaluations() {
+		return ga.getEvaluations();
+	}
+
+	@Override
+	public void setSolutionExchange(SolutionExchange exchange) {
+		ga.setSolutionExchange(exchange);
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		ga.setSeed(seed);
+	}
+
+	/**
+	 * @return direct memory held by the population
+	 */
+	public long getOffHeapBytes() {
+		return ga.getOffHeapBytes();
+	}
+
+	/**
+	 * releases the population, the scheduler must not be used afterwards
+	 */
+	@Override
+	public void close() {
+		ga.close();
+	}
+}
@@ -0,0 +1,218 @@
+package la4am12.offheap;
+
+import la4am12.checkpoint.CheckpointRandom;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.SolutionExchange;
+import la4am12.telemetry.ProgressListener;
+import la4am12.telemetry.ProgressTracker;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 19:24:50
+ * @description : genetic algorithm whose population lives in an {@link OffHeapPopulation}
+ * <p>
+ * Same operators and random number order as {@link la4am12.ga.GeneticAlgorithm}: tournament selection, uniform
+ * crossover and per-gene mutation, so with the same seed both return the same solution. Offspring are written
+ * straight into the next generation's buffers and evaluated in place; only the best-so-far solution and the
+ * fitness values are kept on the heap.
+ */
+public class OffHeapGeneticAlgorithm implements AutoCloseable {
+	private final GeneFunction geneFunction;
+	private final int population;
+	private final int genesN;
+	private final int boundary;
+	private final int maxGenerations;
+	private final double crossoverRate;
+	private final double mutationRate;
+	private final int tournamentSize;
+	private final CheckpointRandom random = new CheckpointRandom();
+	private final ProgressTracker tracker;
+	private final double[] fitness;
+	private OffHeapPopulation store;
+	private boolean initialized;
+	private int[] bestSoFar;
+	private double bestSoFarFitness;
+	private double meanFitness;
+	private SolutionExchange exchange;
+
+	public OffHeapGeneticAlgorithm(GeneFunction geneFunction, int population, double crossoverRate, double mutationRate,
+								   int boundary, int genesN, int tournamentSize, int maxGenerations) {
+		this(geneFunction, population, crossoverRate, mutationRate, boundary, genesN, tournamentSize, maxGenerations, null);
+	}
+
+	/**
+	 * @param pool pool the population buffers are taken from and returned to on {@link #close()}, may be null
+	 */
+	public OffHeapGeneticAlgorithm(GeneFunction geneFunction, int population, double crossoverRate, double mutationRate,
+								   int boundary, int genesN, int tournamentSize, int maxGenerations, BufferPool pool) {
+		this.tracker = new ProgressTracker("OffHeapGA", genesN, boundary);
+		this.geneFunction = geneFunction;
+		this.population = population;
+		this.crossoverRate = crossoverRate;
+		this.mutationRate = mutationRate;
+		this.boundary = boundary;
+		this.genesN = genesN;
+		this.tournamentSize = tournamentSize;
+		this.maxGenerations = maxGenerations;
+		this.fitness = new double[population];
+		this.store = new OffHeapPopulation(population, genesN, pool);
+		this.bestSoFar = new int[genesN];
+	}
+
+	/**
+	 * fills the current generation with random genes, once per instance like GeneticAlgorithm
+	 */
+	public void initializePopulation() {
+		if (initialized) {
+			return;
+		}
+		for (int i = 0; i < population; i++) {
+			for (int j = 0; j < genesN; j++) {
+				store.set(i, j, random.nextInt(boundary));
+			}
+		}
+		initialized = true;
+	}
+
+	public void evaluatePopulation() {
+		tracker.beginBatch();
+		double sum = 0;
+		int best = 0;
+		for (int i = 0; i < population; i++) {
+			fitness[i] = geneFunction.calc(store.genes(i));
+			sum += fitness[i];
+			if (fitness[i] < fitness[best]) {
+				best = i;
+			}
+		}
+		tracker.addEvaluations(population);
+		meanFitness = sum / population;
+		tracker.endBatch();
+		improve(best);
+	}
+
+	private void improve(int individual) {
+		if (fitness[individual] < bestSoFarFitness) {
+			bestSoFarFitness = fitness[individual];
+			store.copyTo(individual, bestSoFar);
+		}
+	}
+
+	public void evolvePopulation() {
+		for (int i = 0; i < population; i++) {
+			int parent1 = tournamentSelection();
+			int parent2 = tournamentSelection();
+			for (int j = 0; j < genesN; j++) {
+				store.setNext(i, j, random.nextDouble() < crossoverRate ? store.get(parent1, j) : store.get(parent2, j));
+			}
+			for (int j = 0; j < genesN; j++) {
+				if (random.nextDouble() < mutationRate) {
+					store.setNext(i, j, random.nextInt(boundary));
+				}
+			}
+		}
+		store.swap();
+	}
+
+	/**
+	 * @return index of the fittest of tournamentSize random individuals, the first one on ties
+	 */
+	private int tournamentSelection() {
+		int winner = -1;
+		for (int i = 0; i < tournamentSize; i++) {
+			int candidate = random.nextInt(population);
+			if (winner < 0 || fitness[candidate] < fitness[winner]) {
+				winner = candidate;
+			}
+		}
+		return winner;
+	}
+
+	public int[] run() {
+		return run(Budget.unlimited());
+	}
+
+	/**
+	 * runs until maxGenerations or until the budget is used up, returning the best solution so far
+	 */
+	public int[] run(Budget budget) {
+		tracker.start(budget);
+		bestSoFarFitness = Double.MAX_VALUE;
+		// every run starts from a new population instead of the last one
+		initialized = false;
+		initializePopulation();
+		evaluatePopulation();
+		exchangeSolutions();
+		tracker.iterationDone(0, bestSoFarFitness, meanFitness);
+		for (int i = 0; i < maxGenerations && !tracker.isExhausted(); i++) {
+			evolvePopulation();
+			evaluatePopulation();
+			exchangeSolutions();
+			tracker.iterationDone(i + 1, bestSoFarFitness, meanFitness);
+		}
+		return bestSoFar.clone();
+	}
+
+	/**
+	 * offers the best solution and lets a better foreign one replace the worst individual
+	 */
+	private void exchangeSolutions() {
+		if (exchange == null) {
+			return;
+		}
+		exchange.offer(bestSoFar, bestSoFarFitness);
+		int[] migrant = exchange.poll();
+		if (migrant == null) {
+			return;
+		}
+		int worst = 0;
+		for (int i = 1; i < population; i++) {
+			if (fitness[i] > fitness[worst]) {
+				worst = i;
+			}
+		}
+		store.load(worst, migrant);
+		fitness[worst] = geneFunction.calc(store.genes(worst));
+		tracker.addEvaluations(1);
+		improve(worst);
+	}
+
+	public void setSolutionExchange(SolutionExchange exchange) {
+		this.exchange = exchange;
+	}
+
+	public void setProgressListener(ProgressListener listener) {
+		tracker.setListener(listener);
+	}
+
+	/**
+	 * must be called before run
+	 */
+	public void setSeed(long seed) {
+		random.setSeed(seed);
+	}
+
+	public long getEvaluations() {
+		return tracker.getEvaluations();
+	}
+
+	public int getIterations() {
+		return tracker.getIterations();
+	}
+
+	public boolean isBudgetExhausted() {
+		return tracker.wasExhausted();
+	}
+
+	/**
+	 * @return direct memory held by the population
+	 */
+	public long getOffHeapBytes() {
+		return store.byteSize();
+	}
+
+	@Override
+	public void close() {
+		store.close();
+	}
+}
@@ -0,0 +1,155 @@
+package la4am12.offheap;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 19:08:36
+ * @description : current and next generation of a GA population kept in direct memory
+ * <p>
+ * Every individual is one direct buffer of native-order ints, read and written through a {@link VarHandle} view.
+ * Both generations are allocated once and swapped after each generation, so a run allocates no genes on the
+ * heap and the off-heap footprint stays at 2 * size * genesN * 4 bytes.
+ * <p>
+ * The Foreign Function and Memory API is still a preview in JDK 21, so direct buffers stand in for
+ * MemorySegment; the buffers can be wrapped with MemorySegment.ofBuffer once the build moves to JDK 22.
+ * Populations created with a {@link BufferPool} take their buffers from it and give them back on {@link #close()}.
+ */
+public class OffHeapPopulation implements AutoCloseable {
+	private static final VarHandle GENE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+	private static final int MAX_GENES = Integer.MAX_VALUE / Integer.BYTES;
+
+	private final int size;
+	private final int genesN;
+	private final BufferPool pool;
+	private ByteBuffer[] current;
+	private ByteBuffer[] next;
+
+	/**
+	 * @param size   individuals per generation
+	 * @param genesN genes per individual
+	 */
+	public OffHeapPopulation(int size, int genesN) {
+		this(size, genesN, null);
+	}
+
+	/**
+	 * @param size   individuals per generation
+	 * @param genesN genes per individual
+	 * @param pool   pool the buffers are taken from and returned to, null to allocate them
+	 */
+	public OffHeapPopulation(int size, int genesN, BufferPool pool) {
+		if (genesN > MAX_GENES) {
+			throw new IllegalArgumentException("at most " + MAX_GENES + " genes per individual, got " + genesN);
+		}
+		this.size = size;
+		this.genesN = genesN;
+		this.pool = pool;
+		this.current = allocate(size, genesN);
+		this.next = allocate(size, genesN);
+	}
+
+	private ByteBuffer[] allocate(int size, int genesN) {
+		ByteBuffer[] generation = new ByteBuffer[size];
+		for (int i = 0; i < size; i++) {
+			generation[i] = pool == null
+					? ByteBuffer.allocateDirect(genesN * Integer.BYTES).order(ByteOrder.nativeOrder())
+					: pool.acquire(genesN * Integer.BYTES);
+		}
+		return generation;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int getGenesN() {
+		return genesN;
+	}
+
+	public int get(int individual, int gene) {
+		return (int) GENE.get(current[individual], gene << 2);
+	}
+
+	public void set(int individual, int gene, int value) {
+		GENE.set(current[individual], gene << 2, value);
+	}
+
+	/**
+	 * writes a gene of the next generation
+	 */
+	public void setNext(int individual, int gene, int value) {
+		GENE.set(next[individual], gene << 2, value);
+	}
+
+	public int getNext(int individual, int gene) {
+		return (int) GENE.get(next[individual], gene << 2);
+	}
+
+	/**
+	 * @return the genes of an individual of the current generation, for {@link GeneFunction}s
+	 */
+	public ByteBuffer genes(int individual) {
+		return current[individual];
+	}
+
+	/**
+	 * makes the next generation current, the old current generation is overwritten by the next evolution
+	 */
+	public void swap() {
+		ByteBuffer[] t = current;
+		current = next;
+		next = t;
+	}
+
+	/**
+	 * copies an individual of the current generation onto the heap
+	 */
+	public int[] toArray(int individual) {
+		int[] genes = new int[genesN];
+		copyTo(individual, genes);
+		return genes;
+	}
+
+	public void copyTo(int individual, int[] genes) {
+		ByteBuffer buffer = current[individual];
+		for (int j = 0; j < genesN; j++) {
+			genes[j] = (int) GENE.get(buffer, j << 2);
+		}
+	}
+
+	/**
+	 * overwrites an individual of the current generation
+	 */
+	public void load(int individual, int[] genes) {
+		ByteBuffer buffer = current[individual];
+		for (int j = 0; j < genesN; j++) {
+			GENE.set(buffer, j << 2, genes[j]);
+		}
+	}
+
+	/**
+	 * @return direct memory held by both generations
+	 */
+	public long byteSize() {
+		return 2L * size * genesN * Integer.BYTES;
+	}
+
+	/**
+	 * drops the buffers, the memory is released when they are collected or reused through the pool
+	 */
+	@Override
+	public void close() {
+		if (pool != null && current != null) {
+			for (int i = 0; i < size; i++) {
+				pool.release(current[i]);
+				pool.release(next[i]);
+			}
+		}
+		current = null;
+		next = null;
+	}
+}
@@ -0,0 +1,108 @@
+package la4am12.perf;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-23 09:50:41
+ * @description : compares a suite run with a stored baseline, run by run
+ * <p>
+ * Optimizers run under a fixed time budget, so their throughput is evaluations per second; one-shot heuristics do
+ * not evaluate, so theirs is the inverse of their wall time. A run regresses when its throughput falls more than the
+ * tolerance below the baseline's; wall-time differences under {@code minMs} are treated as noise. A run that was OK
+ * in the baseline also regresses when it now FAILED, or when it is missing although this run covered both its
+ * scheduler and its instance size, so a subset run ({@code --schedulers}, {@code --cloudlets}) does not fail on the
+ * runs it left out. Other status changes and new runs are listed but never fail the comparison.
+ */
+public class BaselineComparison {
+	private final double tolerance;
+	private final double minMs;
+	private final List<String> regressions = new ArrayList<>();
+	private final List<String> lines = new ArrayList<>();
+
+	/**
+	 * @param tolerance allowed relative throughput loss, e.g. 0.1
+	 * @param minMs     wall-time differences below this never count as a regression
+	 */
+	public BaselineComparison(double tolerance, double minMs) {
+		this.tolerance = tolerance;
+		this.minMs = minMs;
+	}
+
+	public BaselineComparison compare(List<PerfRecord> baseline, List<PerfRecord> current) {
+		Map<String, PerfRecord> base = new LinkedHashMap<>();
+		for (PerfRecord r : baseline) {
+			base.put(r.key(), r);
+		}
+		Set<String> schedulers = new HashSet<>();
+		Set<String> sizes = new HashSet<>();
+		for (PerfRecord now : current) {
+			schedulers.add(now.getScheduler());
+			sizes.add(size(now));
+		}
+		for (PerfRecord now : current) {
+			PerfRecord before = base.remove(now.key());
+			if (before == null) {
+				lines.add(String.format("%-36s new", now.key()));
+				continue;
+			}
+			if (before.getStatus() != PerfRecord.Status.OK || now.getStatus() != PerfRecord.Status.OK) {
+				boolean failed = before.getStatus() == PerfRecord.Status.OK && now.getStatus() == PerfRecord.Status.FAILED;
+				String line = String.format("%-36s %s -> %s%s", now.key(), before.getStatus(), now.getStatus(),
+						failed ? "  REGRESSION" : "");
+				lines.add(line);
+				if (failed) {
+					regressions.add(line);
+				}
+				continue;
+			}
+			boolean evaluating = before.getEvaluations() > 0 && now.getEvaluations() > 0;
+			double change = evaluating
+					? now.getEvalsPerSec() / before.getEvalsPerSec() - 1
+					: before.getWallMs() / Math.max(now.getWallMs(), 1e-3) - 1;
+			boolean noise = !evaluating && Math.abs(now.getWallMs() - before.getWallMs()) < minMs;
+			boolean regressed = change < -tolerance && !noise;
+			String line = String.format("%-36s %s %+7.1f%%  heap %.0f -> %.0f MB  alloc %.0f -> %.0f MB%s", now.key(),
+					evaluating ? "evals/s" : "wall   ", 100 * change, before.getPeakHeapMB(), now.getPeakHeapMB(),
+					before.getAllocatedMB(), now.getAllocatedMB(), regressed ? "  REGRESSION" : "");
+			lines.add(line);
+			if (regressed) {
+				regressions.add(line);
+			}
+		}
+		for (PerfRecord missing : base.values()) {
+			boolean lost = missing.getStatus() == PerfRecord.Status.OK && schedulers.contains(missing.getScheduler())
+					&& sizes.contains(size(missing));
+			String line = String.format("%-36s missing from this run%s", missing.key(), lost ? "  REGRESSION" : "");
+			lines.add(line);
+			if (lost) {
+				regressions.add(line);
+			}
+		}
+		return this;
+	}
+
+	private static String size(PerfRecord r) {
+		return r.getCloudlets() + "x" + r.getVms();
+	}
+
+	public boolean hasRegressions() {
+		return !regressions.isEmpty();
+	}
+
+	public List<String> getRegressions() {
+		return regressions;
+	}
+
+	/**
+	 * @return one line per run, in the order of the current results
+	 */
+	public List<String> getLines() {
+		return lines;
+	}
+}
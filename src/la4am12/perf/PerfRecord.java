@@ -0,0 +1,156 @@
+package la4am12.perf;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-23 09:14:26
+ * @description : one run of the performance suite, one CSV line
+ */
+public class PerfRecord {
+	public enum Status {
+		OK,
+		/**
+		 * the instance is beyond what the scheduler can hold in memory, see {@link PerfSuite}
+		 */
+		SKIPPED,
+		FAILED
+	}
+
+	static final String HEADER = "scheduler,cloudlets,vms,status,setupMs,wallMs,evaluations,evalsPerSec,peakHeapMB,allocatedMB,fitness";
+
+	private final String scheduler;
+	private final int cloudlets;
+	private final int vms;
+	private final Status status;
+	private final double setupMs;
+	private final double wallMs;
+	private final long evaluations;
+	private final double peakHeapMB;
+	private final double allocatedMB;
+	private final double fitness;
+
+	/**
+	 * @param peakHeapMB  highest heap use during the run, -1 if not measured
+	 * @param allocatedMB bytes allocated by all threads during the run, -1 if the JVM cannot tell
+	 */
+	public PerfRecord(String scheduler, int cloudlets, int vms, Status status, double setupMs, double wallMs, long evaluations,
+					  double peakHeapMB, double allocatedMB, double fitness) {
+		this.scheduler = scheduler;
+		this.cloudlets = cloudlets;
+		this.vms = vms;
+		this.status = status;
+		this.setupMs = setupMs;
+		this.wallMs = wallMs;
+		this.evaluations = evaluations;
+		this.peakHeapMB = peakHeapMB;
+		this.allocatedMB = allocatedMB;
+		this.fitness = fitness;
+	}
+
+	static PerfRecord notRun(String scheduler, int cloudlets, int vms, Status status) {
+		return new PerfRecord(scheduler, cloudlets, vms, status, 0, 0, 0, -1, -1, Double.NaN);
+	}
+
+	/**
+	 * @return scheduler, cloudlet count and vm count, the key runs are matched by
+	 */
+	public String key() {
+		return scheduler + "@" + cloudlets + "x" + vms;
+	}
+
+	public String getScheduler() {
+		return scheduler;
+	}
+
+	public int getCloudlets() {
+		return cloudlets;
+	}
+
+	public int getVms() {
+		return vms;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public double getSetupMs() {
+		return setupMs;
+	}
+
+	public double getWallMs() {
+		return wallMs;
+	}
+
+	public long getEvaluations() {
+		return evaluations;
+	}
+
+	/**
+	 * @return fitness evaluations per second of allocation time, 0 for schedulers that do not evaluate
+	 */
+	public double getEvalsPerSec() {
+		return wallMs > 0 ? evaluations * 1000.0 / wallMs : 0;
+	}
+
+	public double getPeakHeapMB() {
+		return peakHeapMB;
+	}
+
+	public double getAllocatedMB() {
+		return allocatedMB;
+	}
+
+	public double getFitness() {
+		return fitness;
+	}
+
+	String toCsv() {
+		return String.format(Locale.ROOT, "%s,%d,%d,%s,%.3f,%.3f,%d,%.1f,%.1f,%.1f,%.6f", scheduler, cloudlets, vms, status,
+				setupMs, wallMs, evaluations, getEvalsPerSec(), peakHeapMB, allocatedMB, fitness);
+	}
+
+	static PerfRecord fromCsv(String line) {
+		String[] f = line.split(",");
+		if (f.length != 11) {
+			throw new IllegalArgumentException("expected 11 columns: " + line);
+		}
+		return new PerfRecord(f[0], Integer.parseInt(f[1]), Integer.parseInt(f[2]), Status.valueOf(f[3]),
+				Double.parseDouble(f[4]), Double.parseDouble(f[5]), Long.parseLong(f[6]),
+				Double.parseDouble(f[8]), Double.parseDouble(f[9]), Double.parseDouble(f[10]));
+	}
+
+	public static void write(List<PerfRecord> records, Writer out) throws IOException {
+		out.write(HEADER);
+		out.write('\n');
+		for (PerfRecord r : records) {
+			out.write(r.toCsv());
+			out.write('\n');
+		}
+		out.flush();
+	}
+
+	public static List<PerfRecord> read(Path path) throws IOException {
+		List<PerfRecord> records = new ArrayList<>();
+		try (BufferedReader reader = Files.newBufferedReader(path)) {
+			String header = reader.readLine();
+			if (!HEADER.equals(header)) {
+				throw new IOException(path + " is not a performance suite result, header: " + header);
+			}
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				if (!line.isEmpty()) {
+					records.add(fromCsv(line));
+				}
+			}
+		}
+		return records;
+	}
+}
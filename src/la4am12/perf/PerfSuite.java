@@ -0,0 +1,274 @@
+package la4am12.perf;
+
+import la4am12.aco.ACOScheduler;
+import la4am12.datacenter.AllocationResult;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Scheduler;
+import la4am12.datacenter.Workload;
+import la4am12.decomposition.DecompositionScheduler;
+import la4am12.ga.GAScheduler;
+import la4am12.genome.CompactGAScheduler;
+import la4am12.hwga.HWGAScheduler;
+import la4am12.localsearch.SimulatedAnnealingScheduler;
+import la4am12.localsearch.TabuSearchScheduler;
+import la4am12.maxmin.MaxMinScheduler;
+import la4am12.minmin.MinMinScheduler;
+import la4am12.nsga2.NSGA2Scheduler;
+import la4am12.offheap.OffHeapGAScheduler;
+import la4am12.portfolio.PortfolioScheduler;
+import la4am12.portfolio.SchedulerFactory;
+import la4am12.random.RandomScheduler;
+import la4am12.symmetry.SymmetryGAScheduler;
+import la4am12.tentgaga.TentGAScheduler;
+import la4am12.woa.WOAScheduler;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-23 10:22:05
+ * @description : end-to-end performance suite: every scheduler on every instance size, results as CSV
+ * <p>
+ * Each run builds a fresh fixed-seed instance and scheduler, then times {@code allocate(budget)} and records
+ * evaluations, peak heap (pool peaks, reset after a GC before the run) and bytes allocated by all threads. Instances
+ * a scheduler cannot hold (MinMin's n x m time matrix, the on-heap populations at a million cloudlets, ...) are
+ * recorded as SKIPPED rather than run into an OutOfMemoryError; the limits are in {@link #schedulers()}.
+ * {@code DistributedScheduler} needs running workers and is not part of the suite.
+ */
+public class PerfSuite {
+	private static final int[] CLOUDLETS = {300, 3000, 30000, 300000, 1000000};
+	private static final int[] VMS = {9, 90, 1000};
+	private static final long BUDGET_MS = 2000;
+
+	private final Duration budget;
+	private final Map<String, Entry> entries;
+
+	/**
+	 * @param budget     time budget of each allocation
+	 * @param schedulers names from {@link #schedulers()} to run, all if empty
+	 */
+	public PerfSuite(Duration budget, List<String> schedulers) {
+		this.budget = budget;
+		Map<String, Entry> all = schedulers();
+		if (schedulers.isEmpty()) {
+			entries = all;
+		} else {
+			entries = new LinkedHashMap<>();
+			for (String name : schedulers) {
+				Entry e = all.get(name);
+				if (e == null) {
+					throw new IllegalArgumentException("unknown scheduler: " + name + ", known: " + all.keySet());
+				}
+				entries.put(name, e);
+			}
+		}
+	}
+
+	/**
+	 * the schedulers of the suite with the largest instance each is run on
+	 */
+	static Map<String, Entry> schedulers() {
+		Map<String, Entry> m = new LinkedHashMap<>();
+		int any = Integer.MAX_VALUE;
+		m.put("Random", new Entry(RandomScheduler::new, any, Long.MAX_VALUE));
+		// double[n][m] execution time matrix
+		m.put("MinMin", new Entry(MinMinScheduler::new, any, 20_000_000L));
+		m.put("MaxMin", new Entry(MaxMinScheduler::new, any, 20_000_000L));
+		// 100 int[n] chromosomes, two generations
+		m.put("GA", new Entry(GAScheduler::new, 300_000, Long.MAX_VALUE));
+		m.put("TentGA", new Entry(TentGAScheduler::new, 300_000, Long.MAX_VALUE));
+		m.put("SymmetryGA", new Entry(SymmetryGAScheduler::new, 300_000, Long.MAX_VALUE));
+		// double[n] positions per individual
+		m.put("WOA", new Entry(WOAScheduler::new, 100_000, Long.MAX_VALUE));
+		m.put("HWGA", new Entry(HWGAScheduler::new, 100_000, Long.MAX_VALUE));
+		m.put("NSGA2", new Entry(NSGA2Scheduler::new, 100_000, Long.MAX_VALUE));
+		m.put("CompactGA", new Entry(CompactGAScheduler::new, any, Long.MAX_VALUE));
+		m.put("OffHeapGA", new Entry(OffHeapGAScheduler::new, any, Long.MAX_VALUE));
+		m.put("Decomposition", new Entry(DecompositionScheduler::new, any, Long.MAX_VALUE));
+		m.put("SA", new Entry(SimulatedAnnealingScheduler::new, any, Long.MAX_VALUE));
+		// int[n * m] tabu list, float[n * m] pheromone, heuristic and weights
+		m.put("Tabu", new Entry(TabuSearchScheduler::new, any, 100_000_000L));
+		m.put("ACO", new Entry(ACOScheduler::new, any, 30_000_000L));
+		// five members, each with its own population
+		m.put("Portfolio", new Entry(PortfolioScheduler::new, 30_000, 20_000_000L));
+		return m;
+	}
+
+	public List<PerfRecord> run(int[] cloudlets, int[] vms) {
+		List<PerfRecord> records = new ArrayList<>();
+		for (int n : cloudlets) {
+			for (int v : vms) {
+				Fleet fleet = Fleet.generate(Math.min(3, v), v);
+				List<Vm> vmList = Workload.createVms(0, fleet);
+				List<Cloudlet> cloudletList = Workload.createCloudlets(0, n, new Random(0));
+				for (Map.Entry<String, Entry> e : entries.entrySet()) {
+					PerfRecord r = run(e.getKey(), e.getValue(), cloudletList, vmList, fleet);
+					System.err.println(r.toCsv());
+					records.add(r);
+				}
+			}
+		}
+		return records;
+	}
+
+	private PerfRecord run(String name, Entry entry, List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet) {
+		int n = cloudletList.size();
+		int v = vmList.size();
+		if (n > entry.maxCloudlets || (long) n * v > entry.maxCells) {
+			return PerfRecord.notRun(name, n, v, PerfRecord.Status.SKIPPED);
+		}
+		List<MemoryPoolMXBean> heap = heapPools();
+		System.gc();
+		for (MemoryPoolMXBean pool : heap) {
+			pool.resetPeakUsage();
+		}
+		long allocatedBefore = totalAllocatedBytes();
+		try {
+			long start = System.nanoTime();
+			Scheduler scheduler = entry.factory.create(new ArrayList<>(cloudletList), new ArrayList<>(vmList), fleet);
+			scheduler.setSeed(0);
+			long built = System.nanoTime();
+			AllocationResult result = scheduler.allocate(Budget.timeout(budget));
+			long done = System.nanoTime();
+			long allocatedAfter = totalAllocatedBytes();
+			long peak = 0;
+			for (MemoryPoolMXBean pool : heap) {
+				peak += pool.getPeakUsage().getUsed();
+			}
+			return new PerfRecord(name, n, v, PerfRecord.Status.OK, (built - start) / 1e6, (done - built) / 1e6,
+					result.getEvaluations(), peak / 1048576.0,
+					allocatedBefore < 0 ? -1 : (allocatedAfter - allocatedBefore) / 1048576.0,
+					scheduler.estimateFitness(result.getCloudletToVm()));
+		} catch (RuntimeException | OutOfMemoryError e) {
+			System.err.println(name + " failed on " + n + "x" + v + ": " + e);
+			return PerfRecord.notRun(name, n, v, PerfRecord.Status.FAILED);
+		}
+	}
+
+	private static List<MemoryPoolMXBean> heapPools() {
+		List<MemoryPoolMXBean> pools = new ArrayList<>();
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				pools.add(pool);
+			}
+		}
+		return pools;
+	}
+
+	/**
+	 * @return bytes allocated by all threads since the JVM started, -1 if the JVM cannot tell
+	 */
+	private static long totalAllocatedBytes() {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		if (threads instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean t = (com.sun.management.ThreadMXBean) threads;
+			if (t.isThreadAllocatedMemorySupported() && t.isThreadAllocatedMemoryEnabled()) {
+				return t.getTotalThreadAllocatedBytes();
+			}
+		}
+		return -1;
+	}
+
+	static final class Entry {
+		final SchedulerFactory factory;
+		final int maxCloudlets;
+		final long maxCells;
+
+		/**
+		 * @param maxCloudlets largest cloudlet count run
+		 * @param maxCells     largest cloudlet count x vm count run
+		 */
+		Entry(SchedulerFactory factory, int maxCloudlets, long maxCells) {
+			this.factory = factory;
+			this.maxCloudlets = maxCloudlets;
+			this.maxCells = maxCells;
+		}
+	}
+
+	/**
+	 * usage:
+	 * <pre>
+	 * PerfSuite run [--out results.csv] [--budget ms] [--cloudlets 300,3000] [--vms 9,90] [--schedulers GA,SA]
+	 *               [--baseline baseline.csv] [--tolerance 0.1] [--min-ms 20]
+	 * PerfSuite compare baseline.csv results.csv [--tolerance 0.1] [--min-ms 20]
+	 * </pre>
+	 * Results go to stdout unless --out is given. Exits with status 1 if a baseline is given and throughput regressed or a run that was OK failed.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length == 0 || !args[0].equals("run") && !args[0].equals("compare")) {
+			System.err.println("usage: PerfSuite run [--out file] [--budget ms] [--cloudlets n,...] [--vms n,...] [--schedulers name,...]"
+					+ " [--baseline file] [--tolerance 0.1] [--min-ms 20]");
+			System.err.println("       PerfSuite compare <baseline.csv> <results.csv> [--tolerance 0.1] [--min-ms 20]");
+			System.exit(2);
+		}
+		Map<String, String> options = new LinkedHashMap<>();
+		List<String> positional = new ArrayList<>();
+		for (int i = 1; i < args.length; i++) {
+			if (args[i].startsWith("--") && i + 1 < args.length) {
+				options.put(args[i].substring(2), args[++i]);
+			} else {
+				positional.add(args[i]);
+			}
+		}
+		double tolerance = Double.parseDouble(options.getOrDefault("tolerance", "0.1"));
+		double minMs = Double.parseDouble(options.getOrDefault("min-ms", "20"));
+
+		List<PerfRecord> baseline;
+		List<PerfRecord> current;
+		if (args[0].equals("compare")) {
+			if (positional.size() != 2) {
+				throw new IllegalArgumentException("compare needs a baseline and a result file");
+			}
+			baseline = PerfRecord.read(Paths.get(positional.get(0)));
+			current = PerfRecord.read(Paths.get(positional.get(1)));
+		} else {
+			Log.setDisabled(true);
+			PerfSuite suite = new PerfSuite(Duration.ofMillis(Long.parseLong(options.getOrDefault("budget", String.valueOf(BUDGET_MS)))),
+					options.containsKey("schedulers") ? Arrays.asList(options.get("schedulers").split(",")) : new ArrayList<>());
+			current = suite.run(ints(options.get("cloudlets"), CLOUDLETS), ints(options.get("vms"), VMS));
+			String out = options.get("out");
+			try (Writer writer = out == null
+					? new OutputStreamWriter(System.out, StandardCharsets.UTF_8)
+					: Files.newBufferedWriter(Paths.get(out))) {
+				PerfRecord.write(current, writer);
+			}
+			String baselinePath = options.get("baseline");
+			if (baselinePath == null) {
+				return;
+			}
+			baseline = PerfRecord.read(Path.of(baselinePath));
+		}
+		BaselineComparison comparison = new BaselineComparison(tolerance, minMs).compare(baseline, current);
+		comparison.getLines().forEach(System.err::println);
+		if (comparison.hasRegressions()) {
+			System.err.println(comparison.getRegressions().size() + " regression(s): throughput loss beyond " + 100 * tolerance
+					+ "%, or runs that failed or went missing");
+			System.exit(1);
+		}
+	}
+
+	private static int[] ints(String list, int[] defaults) {
+		return list == null ? defaults : Arrays.stream(list.split(",")).mapToInt(Integer::parseInt).toArray();
+	}
+}
@@ -0,0 +1,62 @@
+package la4am12.portfolio;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 17:08:44
+ * @description : what one member of a portfolio run achieved
+ */
+public class Contribution {
+	private final String algorithm;
+	private final double fitness;
+	private final long evaluations;
+	private final long elapsedNanos;
+	private final long improvements;
+	private final boolean winner;
+
+	/**
+	 * @param algorithm    member name
+	 * @param fitness      fitness of the member's own final result under the portfolio objective
+	 * @param evaluations  fitness evaluations the member spent
+	 * @param elapsedNanos wall time of the member
+	 * @param improvements times the member improved the shared incumbent
+	 * @param winner       whether the member installed the final incumbent
+	 */
+	public Contribution(String algorithm, double fitness, long evaluations, long elapsedNanos, long improvements, boolean winner) {
+		this.algorithm = algorithm;
+		this.fitness = fitness;
+		this.evaluations = evaluations;
+		this.elapsedNanos = elapsedNanos;
+		this.improvements = improvements;
+		this.winner = winner;
+	}
+
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	public double getFitness() {
+		return fitness;
+	}
+
+	public long getEvaluations() {
+		return evaluations;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	public long getImprovements() {
+		return improvements;
+	}
+
+	public boolean isWinner() {
+		return winner;
+	}
+
+	@Override
+	public String toString() {
+		return algorithm + "{fitness=" + fitness + ", evaluations=" + evaluations + ", elapsed=" + elapsedNanos / 1_000_000
+				+ "ms, improvements=" + improvements + (winner ? ", winner" : "") + "}";
+	}
+}
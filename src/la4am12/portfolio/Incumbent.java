@@ -0,0 +1,135 @@
+package la4am12.portfolio;
+
+import la4am12.datacenter.OptFunction;
+import la4am12.datacenter.SolutionExchange;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 16:47:35
+ * @description : lock-free best-so-far solution shared by concurrently running optimizers
+ * <p>
+ * Solutions are compared under one common objective, since the optimizers may minimize different functions.
+ * Each participant talks to the incumbent through its own {@link #port(String)}.
+ */
+public class Incumbent {
+	/**
+	 * immutable snapshot of the incumbent
+	 */
+	public static class Entry {
+		private final int[] cloudletToVm;
+		private final double fitness;
+		private final String source;
+		private final long version;
+
+		private Entry(int[] cloudletToVm, double fitness, String source, long version) {
+			this.cloudletToVm = cloudletToVm;
+			this.fitness = fitness;
+			this.source = source;
+			this.version = version;
+		}
+
+		/**
+		 * @return the assignment, callers must not modify it
+		 */
+		public int[] getCloudletToVm() {
+			return cloudletToVm;
+		}
+
+		public double getFitness() {
+			return fitness;
+		}
+
+		public String getSource() {
+			return source;
+		}
+
+		public long getVersion() {
+			return version;
+		}
+	}
+
+	private final OptFunction objective;
+	private final AtomicReference<Entry> best = new AtomicReference<>();
+	private final Map<String, AtomicLong> improvements = new ConcurrentHashMap<>();
+
+	/**
+	 * @param objective common objective, smaller is better
+	 */
+	public Incumbent(OptFunction objective) {
+		this.objective = objective;
+	}
+
+	/**
+	 * evaluates the solution under the common objective and installs a copy if it beats the incumbent
+	 *
+	 * @return whether the solution became the incumbent
+	 */
+	public boolean offer(int[] cloudletToVm, String source) {
+		double fitness = objective.calc(cloudletToVm);
+		int[] copy = null;
+		while (true) {
+			Entry current = best.get();
+			if (current != null && fitness >= current.fitness) {
+				return false;
+			}
+			if (copy == null) {
+				copy = cloudletToVm.clone();
+			}
+			Entry next = new Entry(copy, fitness, source, current == null ? 1 : current.version + 1);
+			if (best.compareAndSet(current, next)) {
+				improvements.computeIfAbsent(source, k -> new AtomicLong()).incrementAndGet();
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * @return current incumbent, null until something was offered
+	 */
+	public Entry get() {
+		return best.get();
+	}
+
+	/**
+	 * @return how many times the source improved the incumbent
+	 */
+	public long getImprovements(String source) {
+		AtomicLong n = improvements.get(source);
+		return n == null ? 0 : n.get();
+	}
+
+	/**
+	 * @param source name of the participant
+	 * @return a per-participant exchange that only offers improvements of its own best and
+	 * only hands back incumbents installed by other participants
+	 */
+	public SolutionExchange port(String source) {
+		return new SolutionExchange() {
+			private double lastOffered = Double.MAX_VALUE;
+			private long lastSeen;
+
+			@Override
+			public void offer(int[] cloudletToVm, double fitness) {
+				if (fitness < lastOffered) {
+					lastOffered = fitness;
+					Incumbent.this.offer(cloudletToVm, source);
+				}
+			}
+
+			@Override
+			public int[] poll() {
+				Entry current = best.get();
+				if (current == null || current.version == lastSeen) {
+					return null;
+				}
+				lastSeen = current.version;
+				return current.source.equals(source) ? null : current.cloudletToVm.clone();
+			}
+		};
+	}
+}
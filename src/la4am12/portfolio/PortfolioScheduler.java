@@ -0,0 +1,188 @@
+package la4am12.portfolio;
+
+import la4am12.datacenter.AllocationResult;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Scheduler;
+import la4am12.ga.GAScheduler;
+import la4am12.hwga.HWGAScheduler;
+import la4am12.minmin.MinMinScheduler;
+import la4am12.tentgaga.TentGAScheduler;
+import la4am12.woa.WOAScheduler;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 17:14:02
+ * @description : runs several schedulers concurrently on one instance under a common budget
+ * <p>
+ * The members share a lock-free {@link Incumbent} judged by this scheduler's estimateFitness: every optimizer
+ * offers its best solution each iteration and injects better ones found by the others into its population.
+ * One-shot heuristics such as MinMin seed the incumbent as soon as they finish.
+ */
+public class PortfolioScheduler extends Scheduler {
+	private final List<SchedulerFactory> factories;
+	private List<Contribution> contributions = Collections.emptyList();
+	private long evaluations;
+
+	public PortfolioScheduler(List<Cloudlet> cloudletList, List<Vm> vmList) {
+		this(cloudletList, vmList, Fleet.of(vmList));
+	}
+
+	public PortfolioScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet) {
+		this(cloudletList, vmList, fleet, Arrays.asList(
+				MinMinScheduler::new,
+				GAScheduler::new,
+				TentGAScheduler::new,
+				WOAScheduler::new,
+				HWGAScheduler::new));
+	}
+
+	/**
+	 * @param factories members of the portfolio, each is created on private copies of the cloudlet and vm lists
+	 */
+	public PortfolioScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet, List<SchedulerFactory> factories) {
+		super(cloudletList, vmList, fleet);
+		if (factories.isEmpty()) {
+			throw new IllegalArgumentException("portfolio needs at least one scheduler");
+		}
+		this.factories = new ArrayList<>(factories);
+		Log.printLine("Using Portfolio scheduler");
+	}
+
+	@Override
+	public int[] allocate() {
+		return allocate(Budget.unlimited()).getCloudletToVm();
+	}
+
+	@Override
+	public AllocationResult allocate(Budget budget) {
+		long start = System.nanoTime();
+		Incumbent incumbent = new Incumbent(this::estimateFitness);
+
+		// members may reorder their lists (e.g. MinMin sorts them), so results are mapped back by cloudlet identity
+		Map<Cloudlet, Integer> indexOf = new IdentityHashMap<>();
+		for (int i = 0; i < cloudletNum; i++) {
+			indexOf.put(cloudletList.get(i), i);
+		}
+
+		List<Scheduler> members = new ArrayList<>();
+		List<String> names = new ArrayList<>();
+		for (SchedulerFactory factory : factories) {
+			Scheduler member = factory.create(new ArrayList<>(cloudletList), new ArrayList<>(vmList), fleet);
+			String name = uniqueName(names, member.getClass().getSimpleName());
+			member.setSolutionExchange(incumbent.port(name));
+			members.add(member);
+			names.add(name);
+		}
+		Budget memberBudget = memberBudget(budget, start, members.size());
+		// platform threads, so the OS time-slices cpu-bound members even with fewer cores than members
+		ExecutorService executor = Executors.newFixedThreadPool(members.size());
+		long[] memberElapsed = new long[members.size()];
+		List<CompletableFuture<int[]>> futures = new ArrayList<>();
+		for (int k = 0; k < members.size(); k++) {
+			final int m = k;
+			long memberStart = System.nanoTime();
+			// offer each final result as soon as it is ready, so fast heuristics seed the incumbent early
+			futures.add(members.get(m).allocateAsync(memberBudget, executor).thenApply(memberResult -> {
+				memberElapsed[m] = System.nanoTime() - memberStart;
+				int[] inPortfolioOrder = toPortfolioOrder(members.get(m), memberResult, indexOf);
+				incumbent.offer(inPortfolioOrder, names.get(m));
+				return inPortfolioOrder;
+			}));
+		}
+
+		List<Contribution> stats = new ArrayList<>();
+		long totalEvaluations = 0;
+		boolean exhausted = false;
+		try {
+			for (int k = 0; k < members.size(); k++) {
+				int[] inPortfolioOrder = join(futures.get(k));
+				Scheduler member = members.get(k);
+				totalEvaluations += member.getEvaluations();
+				stats.add(new Contribution(names.get(k), estimateFitness(inPortfolioOrder), member.getEvaluations(),
+						memberElapsed[k], incumbent.getImprovements(names.get(k)), false));
+			}
+		} finally {
+			executor.shutdown();
+		}
+		Incumbent.Entry best = incumbent.get();
+		for (int k = 0; k < stats.size(); k++) {
+			Contribution c = stats.get(k);
+			if (c.getAlgorithm().equals(best.getSource())) {
+				stats.set(k, new Contribution(c.getAlgorithm(), c.getFitness(), c.getEvaluations(), c.getElapsedNanos(), c.getImprovements(), true));
+			}
+		}
+		contributions = Collections.unmodifiableList(stats);
+		evaluations = totalEvaluations;
+		if (!budget.isUnlimited()) {
+			exhausted = budget.isExhausted(start, totalEvaluations);
+		}
+		return new AllocationResult(best.getCloudletToVm().clone(), totalEvaluations, System.nanoTime() - start, 0, exhausted);
+	}
+
+	/**
+	 * the time budget is a deadline shared by all members, the evaluation budget is split evenly between them
+	 */
+	private static Budget memberBudget(Budget budget, long start, int memberNum) {
+		if (budget.isUnlimited()) {
+			return budget;
+		}
+		long evaluations = budget.getMaxEvaluations() == Long.MAX_VALUE ? Long.MAX_VALUE : budget.getMaxEvaluations() / memberNum;
+		// timeout and stop signal of the outer budget, measured from the start of the portfolio run
+		return Budget.evaluations(evaluations).stopWhen(() -> budget.isExhausted(start, 0));
+	}
+
+	private static int[] join(CompletableFuture<int[]> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("interrupted while waiting for portfolio member", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("portfolio member failed", e.getCause());
+		}
+	}
+
+	private int[] toPortfolioOrder(Scheduler member, int[] memberResult, Map<Cloudlet, Integer> indexOf) {
+		int[] cloudletToVm = new int[cloudletNum];
+		List<Cloudlet> memberCloudlets = member.getCloudletList();
+		for (int i = 0; i < cloudletNum; i++) {
+			cloudletToVm[indexOf.get(memberCloudlets.get(i))] = memberResult[i];
+		}
+		return cloudletToVm;
+	}
+
+	private static String uniqueName(List<String> names, String name) {
+		String unique = name;
+		for (int n = 2; names.contains(unique); n++) {
+			unique = name + "#" + n;
+		}
+		return unique;
+	}
+
+	/**
+	 * @return per-member statistics of the last allocation
+	 */
+	public List<Contribution> getContributions() {
+		return contributions;
+	}
+
+	@Override
+	public long getEvaluations() {
+		return evaluations;
+	}
+}
@@ -0,0 +1,18 @@
+package la4am12.portfolio;
+
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Scheduler;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Vm;
+
+import java.util.List;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 17:05:21
+ * @description : creates a scheduler for a problem instance, e.g. GAScheduler::new
+ */
+@FunctionalInterface
+public interface SchedulerFactory {
+	Scheduler create(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet);
+}
@@ -1,5 +1,6 @@
 package la4am12.random;
 
+import la4am12.datacenter.Fleet;
 import la4am12.datacenter.Scheduler;
 import org.cloudbus.cloudsim.Cloudlet;
 import org.cloudbus.cloudsim.Log;
@@ -15,7 +16,11 @@ import java.util.Random;
  */
 public class RandomScheduler extends Scheduler {
 	public RandomScheduler(List<Cloudlet> cloudletList, List<Vm> vmList) {
-		super(cloudletList, vmList);
+		this(cloudletList, vmList, Fleet.of(vmList));
+	}
+
+	public RandomScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet) {
+		super(cloudletList, vmList, fleet);
 		Log.printLine("Using Random scheduler");
 	}
 
@@ -0,0 +1,110 @@
+package la4am12.repair;
+
+import la4am12.datacenter.AllocationResult;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Scheduler;
+import la4am12.datacenter.VmClass;
+import la4am12.datacenter.Workload;
+import la4am12.localsearch.SimulatedAnnealingScheduler;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-24 10:14:05
+ * @description : compares repairing a schedule after vm failures or additions with rescheduling from scratch
+ * <p>
+ * The schedule to repair comes from simulated annealing under the given budget; the full reschedule runs it again,
+ * with the same budget, on the changed fleet. Both are scored by the changed fleet's scheduler, and the makespan
+ * gap is against its makespan lower bound.
+ */
+public class RepairReport {
+	/**
+	 * usage: RepairReport &lt;budget ms&gt; [cloudletNum x vmNum ...]
+	 * <p>
+	 * e.g. {@code RepairReport 5000 10000x30 100000x100}
+	 */
+	public static void main(String[] args) {
+		Budget budget = Budget.timeout(Duration.ofMillis(args.length > 0 ? Long.parseLong(args[0]) : 5000));
+		String[] sizes = args.length > 1 ? Arrays.copyOfRange(args, 1, args.length) : new String[]{"10000x30", "100000x100"};
+
+		Log.setDisabled(true);
+		for (String size : sizes) {
+			String[] parts = size.split("x");
+			int cloudletNum = Integer.parseInt(parts[0]);
+			int vmNum = Integer.parseInt(parts[1]);
+			Fleet fleet = Fleet.generate(Math.min(3, vmNum), vmNum);
+			List<Vm> vmList = Workload.createVms(0, fleet);
+			List<Cloudlet> cloudletList = Workload.createCloudlets(0, cloudletNum, new Random(0));
+			Scheduler original = new SimulatedAnnealingScheduler(new ArrayList<>(cloudletList), new ArrayList<>(vmList), fleet);
+			original.setSeed(0);
+			int[] cloudletToVm = original.allocate(budget).getCloudletToVm();
+
+			// the fastest vm, a tenth of the vms spread over the classes, or a tenth more of the fastest class
+			int tenth = Math.max(1, vmNum / 10);
+			int[] spread = new int[tenth];
+			for (int k = 0; k < tenth; k++) {
+				spread[k] = k * vmNum / tenth;
+			}
+			VmClass fastest = fleet.getClasses().get(fleet.getClasses().size() - 1);
+			double[] added = new double[tenth];
+			Arrays.fill(added, fastest.getMips());
+			report(size + " fail 1", cloudletList, fleet, original, cloudletToVm, new int[]{vmNum - 1}, new double[0], fastest, budget);
+			report(size + " fail " + tenth, cloudletList, fleet, original, cloudletToVm, spread, new double[0], fastest, budget);
+			report(size + " add " + tenth, cloudletList, fleet, original, cloudletToVm, new int[0], added, fastest, budget);
+		}
+	}
+
+	private static void report(String scenario, List<Cloudlet> cloudletList, Fleet fleet, Scheduler original, int[] cloudletToVm,
+							   int[] failed, double[] added, VmClass addedClass, Budget budget) {
+		RepairResult quick = original.repair(cloudletToVm, failed, added, Budget.evaluations(0));
+		RepairResult polished = original.repair(cloudletToVm, failed, added, Budget.timeout(Duration.ofMillis(50)));
+
+		Fleet changed = changedFleet(fleet, quick.getVmIndex(), added.length, addedClass);
+		List<Vm> vmList = Workload.createVms(0, changed);
+		Scheduler rescheduler = new SimulatedAnnealingScheduler(new ArrayList<>(cloudletList), new ArrayList<>(vmList), changed);
+		rescheduler.setSeed(0);
+		AllocationResult full = rescheduler.allocate(budget);
+
+		double fullFitness = rescheduler.estimateFitness(full.getCloudletToVm());
+		double bound = rescheduler.getMakespanLowerBound();
+		System.out.printf("%-18s full:     makespan=%.1f (+%.2f%%) fitness=%.6f time=%dms%n", scenario,
+				rescheduler.estimateMakespan(full.getCloudletToVm()), gap(rescheduler.estimateMakespan(full.getCloudletToVm()), bound),
+				fullFitness, full.getElapsedNanos() / 1_000_000);
+		for (RepairResult r : new RepairResult[]{quick, polished}) {
+			double fitness = rescheduler.estimateFitness(r.getCloudletToVm());
+			System.out.printf("%-18s %s makespan=%.1f (+%.2f%%) fitness=%.6f (%+.2f%%) time=%.2fms displaced=%d moves=%d%n", scenario,
+					r == quick ? "repair:  " : "polished:", r.getMakespan(), gap(r.getMakespan(), bound), fitness,
+					gap(fitness, fullFitness), r.getElapsedNanos() / 1e6, r.getDisplaced(), r.getPolishMoves());
+		}
+	}
+
+	private static double gap(double value, double reference) {
+		return 100 * (value - reference) / reference;
+	}
+
+	/**
+	 * the surviving vms one class each, in order, followed by the added vms
+	 */
+	private static Fleet changedFleet(Fleet fleet, int[] vmIndex, int addedNum, VmClass addedClass) {
+		List<VmClass> classes = new ArrayList<>();
+		for (int j = 0; j < vmIndex.length; j++) {
+			if (vmIndex[j] >= 0) {
+				VmClass c = fleet.getClasses().get(fleet.getClassOf(j));
+				classes.add(new VmClass(c.getName() + "-" + j, c.getMips(), c.getPrice(), 1));
+			}
+		}
+		if (addedNum > 0) {
+			classes.add(new VmClass(addedClass.getName() + "-added", addedClass.getMips(), addedClass.getPrice(), addedNum));
+		}
+		return new Fleet(classes);
+	}
+}
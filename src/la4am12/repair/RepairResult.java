@@ -0,0 +1,80 @@
+package la4am12.repair;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-24 09:20:52
+ * @description : assignment returned by {@link ScheduleRepair}, over the surviving vms followed by the added ones
+ */
+public class RepairResult {
+	private final int[] cloudletToVm;
+	private final int[] vmIndex;
+	private final double[] vmMips;
+	private final int displaced;
+	private final int polishMoves;
+	private final long evaluations;
+	private final double makespan;
+	private final long elapsedNanos;
+
+	/**
+	 * @param cloudletToVm repaired assignment, indices into vmMips
+	 * @param vmIndex      new index of each original vm, -1 for the failed ones
+	 * @param vmMips       mips of each vm after the repair
+	 * @param displaced    cloudlets placed again: those of the failed vms and those shed for the added vms
+	 * @param polishMoves  cloudlets moved by the polish
+	 * @param evaluations  moves scored by the polish
+	 * @param makespan     estimated makespan of the repaired assignment
+	 * @param elapsedNanos wall time of the repair
+	 */
+	public RepairResult(int[] cloudletToVm, int[] vmIndex, double[] vmMips, int displaced, int polishMoves, long evaluations,
+						double makespan, long elapsedNanos) {
+		this.cloudletToVm = cloudletToVm;
+		this.vmIndex = vmIndex;
+		this.vmMips = vmMips;
+		this.displaced = displaced;
+		this.polishMoves = polishMoves;
+		this.evaluations = evaluations;
+		this.makespan = makespan;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public int[] getCloudletToVm() {
+		return cloudletToVm;
+	}
+
+	/**
+	 * @return new index of each original vm, -1 for the failed ones; added vms follow the surviving ones
+	 */
+	public int[] getVmIndex() {
+		return vmIndex;
+	}
+
+	public double[] getVmMips() {
+		return vmMips;
+	}
+
+	public int getDisplaced() {
+		return displaced;
+	}
+
+	public int getPolishMoves() {
+		return polishMoves;
+	}
+
+	public long getEvaluations() {
+		return evaluations;
+	}
+
+	public double getMakespan() {
+		return makespan;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "RepairResult{displaced=" + displaced + ", polishMoves=" + polishMoves + ", makespan=" + makespan
+				+ ", elapsed=" + elapsedNanos / 1_000_000 + "ms}";
+	}
+}
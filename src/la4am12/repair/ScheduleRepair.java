@@ -0,0 +1,285 @@
+package la4am12.repair;
+
+import la4am12.datacenter.Budget;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-24 09:31:17
+ * @description : repairs an assignment after vms fail or are added, without rescheduling the unaffected cloudlets
+ * <p>
+ * Cloudlets of failed vms are placed longest first on the vm where they finish earliest, given the loads the
+ * surviving cloudlets already put on each vm. When vms are added, every vm first gives up the cloudlets that keep it
+ * busy beyond total length over total mips, and those are placed the same way. Vms of equal mips are kept in one
+ * heap by load, so a placement costs one look per distinct mips instead of one per vm. An optional polish then moves
+ * single cloudlets off the vm that finishes last for as long as that lowers its finish time.
+ * Only the makespan is optimized; cost and total time follow from where the moved cloudlets land.
+ */
+public class ScheduleRepair {
+	private final long[] cloudletLength;
+	private final double[] vmMips;
+
+	/**
+	 * @param cloudletLength length of each cloudlet (MI)
+	 * @param vmMips         mips of each vm the assignment to repair was made for
+	 */
+	public ScheduleRepair(long[] cloudletLength, double[] vmMips) {
+		this.cloudletLength = cloudletLength;
+		this.vmMips = vmMips;
+	}
+
+	/**
+	 * repairs without polishing
+	 */
+	public RepairResult repair(int[] cloudletToVm, int[] failedVms, double[] addedMips) {
+		return repair(cloudletToVm, failedVms, addedMips, Budget.evaluations(0));
+	}
+
+	/**
+	 * @param cloudletToVm assignment to repair, e.g. from {@code Scheduler.allocate()}; not modified
+	 * @param failedVms    indices of the vms that are gone
+	 * @param addedMips    mips of each new vm, appended after the surviving vms
+	 * @param polish       limits the polish, one evaluation per move scored; {@code Budget.evaluations(0)} skips it
+	 *                     and {@code Budget.unlimited()} runs it to a local optimum
+	 * @return the repaired assignment over the surviving vms, in their original order, followed by the added ones
+	 */
+	public RepairResult repair(int[] cloudletToVm, int[] failedVms, double[] addedMips, Budget polish) {
+		long start = System.nanoTime();
+		if (cloudletToVm.length != cloudletLength.length) {
+			throw new IllegalArgumentException("assignment has " + cloudletToVm.length + " cloudlets, expected " + cloudletLength.length);
+		}
+		int[] vmIndex = new int[vmMips.length];
+		for (int vm : failedVms) {
+			vmIndex[vm] = -1;
+		}
+		int vmNum = 0;
+		for (int j = 0; j < vmMips.length; j++) {
+			if (vmIndex[j] == 0) {
+				vmIndex[j] = vmNum++;
+			}
+		}
+		double[] mips = new double[vmNum + addedMips.length];
+		for (int j = 0; j < vmMips.length; j++) {
+			if (vmIndex[j] >= 0) {
+				mips[vmIndex[j]] = vmMips[j];
+			}
+		}
+		System.arraycopy(addedMips, 0, mips, vmNum, addedMips.length);
+		vmNum = mips.length;
+		if (vmNum == 0) {
+			throw new IllegalArgumentException("no vm left to repair onto");
+		}
+
+		int cloudletNum = cloudletToVm.length;
+		int[] repaired = new int[cloudletNum];
+		double[] load = new double[vmNum];
+		int displacedNum = 0;
+		for (int i = 0; i < cloudletNum; i++) {
+			int vm = vmIndex[cloudletToVm[i]];
+			repaired[i] = vm;
+			if (vm < 0) {
+				displacedNum++;
+			} else {
+				load[vm] += cloudletLength[i] / mips[vm];
+			}
+		}
+		if (addedMips.length > 0) {
+			displacedNum += shed(repaired, mips, load);
+		}
+		Integer[] displaced = new Integer[displacedNum];
+		for (int i = 0, k = 0; i < cloudletNum; i++) {
+			if (repaired[i] < 0) {
+				displaced[k++] = i;
+			}
+		}
+		// longest first, like LPT
+		Arrays.sort(displaced, (a, b) -> Long.compare(cloudletLength[b], cloudletLength[a]));
+
+		double[] groupMips = distinct(mips);
+		PriorityQueue<Integer>[] groups = groupByMips(mips, groupMips, load);
+		for (int i : displaced) {
+			int bestGroup = 0;
+			double bestFinish = Double.MAX_VALUE;
+			for (int g = 0; g < groups.length; g++) {
+				int vm = groups[g].peek();
+				double finish = load[vm] + cloudletLength[i] / groupMips[g];
+				if (finish < bestFinish) {
+					bestFinish = finish;
+					bestGroup = g;
+				}
+			}
+			int vm = groups[bestGroup].poll();
+			load[vm] = bestFinish;
+			repaired[i] = vm;
+			groups[bestGroup].offer(vm);
+		}
+
+		int moves = 0;
+		long scored = 0;
+		if (!polish.isExhausted(start, 0)) {
+			Polish p = new Polish(repaired, mips, groupMips, load);
+			while (!polish.isExhausted(start, p.scored) && p.step()) {
+				moves++;
+			}
+			scored = p.scored;
+		}
+		double makespan = 0;
+		for (double l : load) {
+			makespan = Math.max(makespan, l);
+		}
+		return new RepairResult(repaired, vmIndex, mips, displacedNum, moves, scored, makespan, System.nanoTime() - start);
+	}
+
+	/**
+	 * takes cloudlets off every vm loaded beyond the level at which all vms would finish together, so the added vms
+	 * get their share when the displaced cloudlets are placed again
+	 *
+	 * @return number of cloudlets taken off
+	 */
+	private int shed(int[] repaired, double[] mips, double[] load) {
+		double totalLength = 0;
+		for (long length : cloudletLength) {
+			totalLength += length;
+		}
+		double totalMips = 0;
+		for (double m : mips) {
+			totalMips += m;
+		}
+		double level = totalLength / totalMips;
+		int shed = 0;
+		for (int i = 0; i < repaired.length; i++) {
+			int vm = repaired[i];
+			if (vm >= 0 && load[vm] > level) {
+				load[vm] -= cloudletLength[i] / mips[vm];
+				repaired[i] = -1;
+				shed++;
+			}
+		}
+		return shed;
+	}
+
+	private static double[] distinct(double[] mips) {
+		return Arrays.stream(mips).distinct().sorted().toArray();
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static PriorityQueue<Integer>[] groupByMips(double[] mips, double[] groupMips, double[] load) {
+		PriorityQueue<Integer>[] groups = new PriorityQueue[groupMips.length];
+		for (int g = 0; g < groups.length; g++) {
+			groups[g] = new PriorityQueue<>((a, b) -> Double.compare(load[a], load[b]));
+		}
+		for (int vm = 0; vm < mips.length; vm++) {
+			groups[Arrays.binarySearch(groupMips, mips[vm])].offer(vm);
+		}
+		return groups;
+	}
+
+	/**
+	 * makespan descent over single moves, with the cloudlets of each vm kept in a list so the vm that finishes
+	 * last is searched without a pass over all cloudlets
+	 */
+	private class Polish {
+		private final int[] cloudletToVm;
+		private final double[] mips;
+		private final double[] load;
+		private final int[] groupOf;
+		private final int[] groupBest;
+		private final int[][] members;
+		private final int[] memberNum;
+		// position of each cloudlet in its vm's list
+		private final int[] slot;
+		private long scored;
+
+		Polish(int[] cloudletToVm, double[] mips, double[] groupMips, double[] load) {
+			this.cloudletToVm = cloudletToVm;
+			this.mips = mips;
+			this.load = load;
+			int vmNum = mips.length;
+			groupOf = new int[vmNum];
+			for (int vm = 0; vm < vmNum; vm++) {
+				groupOf[vm] = Arrays.binarySearch(groupMips, mips[vm]);
+			}
+			groupBest = new int[groupMips.length];
+			memberNum = new int[vmNum];
+			for (int vm : cloudletToVm) {
+				memberNum[vm]++;
+			}
+			members = new int[vmNum][];
+			for (int vm = 0; vm < vmNum; vm++) {
+				members[vm] = new int[Math.max(4, memberNum[vm])];
+				memberNum[vm] = 0;
+			}
+			slot = new int[cloudletToVm.length];
+			for (int i = 0; i < cloudletToVm.length; i++) {
+				add(i, cloudletToVm[i]);
+			}
+		}
+
+		/**
+		 * moves the cloudlet of the last vm to finish that lowers its finish time the most without another vm
+		 * finishing as late
+		 *
+		 * @return false at a local optimum
+		 */
+		boolean step() {
+			int from = 0;
+			Arrays.fill(groupBest, -1);
+			for (int vm = 0; vm < load.length; vm++) {
+				if (load[vm] > load[from]) {
+					from = vm;
+				}
+			}
+			for (int vm = 0; vm < load.length; vm++) {
+				int g = groupOf[vm];
+				if (vm != from && (groupBest[g] < 0 || load[vm] < load[groupBest[g]])) {
+					groupBest[g] = vm;
+				}
+			}
+			double bestPeak = load[from];
+			int bestCloudlet = -1;
+			int bestTo = -1;
+			for (int k = 0; k < memberNum[from]; k++) {
+				int i = members[from][k];
+				double fromLoad = load[from] - cloudletLength[i] / mips[from];
+				for (int to : groupBest) {
+					if (to < 0) {
+						continue;
+					}
+					double peak = Math.max(fromLoad, load[to] + cloudletLength[i] / mips[to]);
+					// ignore gains within rounding of the incremental loads
+					if (peak < bestPeak - 1e-9) {
+						bestPeak = peak;
+						bestCloudlet = i;
+						bestTo = to;
+					}
+				}
+				scored += groupBest.length;
+			}
+			if (bestCloudlet < 0) {
+				return false;
+			}
+			load[from] -= cloudletLength[bestCloudlet] / mips[from];
+			load[bestTo] += cloudletLength[bestCloudlet] / mips[bestTo];
+			remove(bestCloudlet, from);
+			add(bestCloudlet, bestTo);
+			cloudletToVm[bestCloudlet] = bestTo;
+			return true;
+		}
+
+		private void add(int cloudlet, int vm) {
+			if (memberNum[vm] == members[vm].length) {
+				members[vm] = Arrays.copyOf(members[vm], 2 * members[vm].length);
+			}
+			slot[cloudlet] = memberNum[vm];
+			members[vm][memberNum[vm]++] = cloudlet;
+		}
+
+		private void remove(int cloudlet, int vm) {
+			int last = members[vm][--memberNum[vm]];
+			members[vm][slot[cloudlet]] = last;
+			slot[last] = slot[cloudlet];
+		}
+	}
+}
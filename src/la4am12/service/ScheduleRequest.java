@@ -0,0 +1,101 @@
+package la4am12.service;
+
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-23 14:31:12
+ * @description : workload and run settings of one request to the {@link SchedulingService}
+ * <p>
+ * The body is a properties file, the fleet uses the keys of {@link Fleet#fromProperties}:
+ * <pre>
+ * algorithm=GA
+ * budget.ms=2000
+ * budget.evaluations=100000
+ * seed=42
+ * cloudlets=12000,4500,30000
+ * fleet.generate.classes=3
+ * fleet.generate.vms=9
+ * </pre>
+ * Only cloudlets and the fleet are required; the default is GA with a one second budget and a random seed.
+ */
+public class ScheduleRequest {
+	private static final long BUDGET_MS = 1000;
+
+	private final String algorithm;
+	private final Budget budget;
+	private final Long seed;
+	private final long[] lengths;
+	private final Fleet fleet;
+
+	public ScheduleRequest(String algorithm, Budget budget, Long seed, long[] lengths, Fleet fleet) {
+		if (lengths.length == 0) {
+			throw new IllegalArgumentException("request has no cloudlets");
+		}
+		this.algorithm = algorithm;
+		this.budget = budget;
+		this.seed = seed;
+		this.lengths = lengths;
+		this.fleet = fleet;
+	}
+
+	public static ScheduleRequest read(InputStream in) throws IOException {
+		Properties props = new Properties();
+		props.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+		return fromProperties(props);
+	}
+
+	public static ScheduleRequest fromProperties(Properties props) {
+		String cloudlets = props.getProperty("cloudlets");
+		if (cloudlets == null) {
+			throw new IllegalArgumentException("missing property: cloudlets");
+		}
+		String[] parts = cloudlets.split(",");
+		long[] lengths = new long[parts.length];
+		for (int i = 0; i < parts.length; i++) {
+			lengths[i] = Long.parseLong(parts[i].trim());
+			if (lengths[i] <= 0) {
+				throw new IllegalArgumentException("cloudlet " + i + " has length " + lengths[i]);
+			}
+		}
+		Duration timeout = Duration.ofMillis(Long.parseLong(props.getProperty("budget.ms", String.valueOf(BUDGET_MS)).trim()));
+		String evaluations = props.getProperty("budget.evaluations");
+		Budget budget = evaluations == null
+				? Budget.timeout(timeout)
+				: Budget.of(timeout, Long.parseLong(evaluations.trim()));
+		String seed = props.getProperty("seed");
+		return new ScheduleRequest(props.getProperty("algorithm", "GA").trim(), budget,
+				seed == null ? null : Long.valueOf(seed.trim()), lengths, Fleet.fromProperties(props));
+	}
+
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	public Budget getBudget() {
+		return budget;
+	}
+
+	/**
+	 * @return the seed, null to leave the optimizer's random seeding
+	 */
+	public Long getSeed() {
+		return seed;
+	}
+
+	public long[] getLengths() {
+		return lengths;
+	}
+
+	public Fleet getFleet() {
+		return fleet;
+	}
+}
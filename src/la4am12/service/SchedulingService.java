@@ -0,0 +1,273 @@
+package la4am12.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import la4am12.aco.ACOScheduler;
+import la4am12.bounds.OptimalityGap;
+import la4am12.datacenter.AllocationResult;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Scheduler;
+import la4am12.datacenter.Workload;
+import la4am12.decomposition.DecompositionScheduler;
+import la4am12.ga.GAScheduler;
+import la4am12.genome.CompactGAScheduler;
+import la4am12.hwga.HWGAScheduler;
+import la4am12.localsearch.SimulatedAnnealingScheduler;
+import la4am12.localsearch.TabuSearchScheduler;
+import la4am12.maxmin.MaxMinScheduler;
+import la4am12.minmin.MinMinScheduler;
+import la4am12.offheap.BufferPool;
+import la4am12.offheap.OffHeapGAScheduler;
+import la4am12.random.RandomScheduler;
+import la4am12.symmetry.SymmetryGAScheduler;
+import la4am12.tentgaga.TentGAScheduler;
+import la4am12.woa.WOAScheduler;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-23 14:52:40
+ * @description : long-running scheduling service on a loopback HTTP endpoint
+ * <p>
+ * A fresh JVM per experiment pays class loading, CloudSim init and JIT warm-up before an optimizer reaches full
+ * speed; the service keeps one warm JVM instead. {@code POST /schedule} takes a {@link ScheduleRequest} and answers
+ * with the assignment and its metrics, {@code GET /stats} reports the counters. Requests are accepted on virtual
+ * threads and queued onto a fixed pool of optimizer threads, so concurrent requests share the cores instead of
+ * oversubscribing them; once the queue is full further requests get 503. Off-heap GA populations are taken from
+ * a {@link BufferPool} shared by all requests.
+ */
+public class SchedulingService implements AutoCloseable {
+	public static final String READY = "Scheduling service listening on port ";
+	public static final List<String> ALGORITHMS = Arrays.asList("GA", "TentGA", "WOA", "HWGA", "ACO", "CompactGA",
+			"OffHeapGA", "SymmetryGA", "Decomposition", "SA", "Tabu", "MinMin", "MaxMin", "Random");
+	private static final long POOLED_BYTES = 256L << 20;
+
+	private final HttpServer server;
+	private final ExecutorService handlers = Executors.newVirtualThreadPerTaskExecutor();
+	private final ThreadPoolExecutor workers;
+	private final BufferPool buffers;
+	private final AtomicLong completed = new AtomicLong();
+	private final AtomicLong rejected = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+
+	/**
+	 * @param port          loopback port, 0 picks a free one
+	 * @param threads       optimizer threads
+	 * @param queueCapacity requests waiting for an optimizer thread before new ones are rejected
+	 * @param pooledBytes   direct memory kept for off-heap populations between requests
+	 */
+	public SchedulingService(int port, int threads, int queueCapacity, long pooledBytes) throws IOException {
+		this.workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity));
+		this.buffers = new BufferPool(pooledBytes);
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		server.setExecutor(handlers);
+		server.createContext("/schedule", this::schedule);
+		server.createContext("/stats", this::stats);
+		server.start();
+	}
+
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * runs every algorithm on a small instance so the first requests are served by compiled code
+	 *
+	 * @param perAlgorithm budget of each warm-up run
+	 */
+	public void warmUp(Duration perAlgorithm) {
+		Fleet fleet = Fleet.defaultFleet();
+		List<Cloudlet> cloudletList = Workload.createCloudlets(0, 300, new Random(0));
+		long[] lengths = new long[cloudletList.size()];
+		for (int i = 0; i < lengths.length; i++) {
+			lengths[i] = cloudletList.get(i).getCloudletLength();
+		}
+		for (String algorithm : ALGORITHMS) {
+			run(new ScheduleRequest(algorithm, Budget.timeout(perAlgorithm), 0L, lengths, fleet), System.nanoTime());
+		}
+	}
+
+	/**
+	 * @param pool pool for the off-heap GA buffers, null to allocate them
+	 */
+	static Scheduler create(String algorithm, List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet, BufferPool pool) {
+		switch (algorithm) {
+			case "GA":
+				return new GAScheduler(cloudletList, vmList, fleet);
+			case "TentGA":
+				return new TentGAScheduler(cloudletList, vmList, fleet);
+			case "WOA":
+				return new WOAScheduler(cloudletList, vmList, fleet);
+			case "HWGA":
+				return new HWGAScheduler(cloudletList, vmList, fleet);
+			case "ACO":
+				return new ACOScheduler(cloudletList, vmList, fleet);
+			case "CompactGA":
+				return new CompactGAScheduler(cloudletList, vmList, fleet);
+			case "OffHeapGA":
+				return new OffHeapGAScheduler(cloudletList, vmList, fleet, GAScheduler.DEFAULTS, pool);
+			case "SymmetryGA":
+				return new SymmetryGAScheduler(cloudletList, vmList, fleet);
+			case "Decomposition":
+				return new DecompositionScheduler(cloudletList, vmList, fleet);
+			case "SA":
+				return new SimulatedAnnealingScheduler(cloudletList, vmList, fleet);
+			case "Tabu":
+				return new TabuSearchScheduler(cloudletList, vmList, fleet);
+			case "MinMin":
+				return new MinMinScheduler(cloudletList, vmList, fleet);
+			case "MaxMin":
+				return new MaxMinScheduler(cloudletList, vmList, fleet);
+			case "Random":
+				return new RandomScheduler(cloudletList, vmList, fleet);
+			default:
+				throw new IllegalArgumentException("unknown algorithm: " + algorithm + ", known: " + ALGORITHMS);
+		}
+	}
+
+	private String run(ScheduleRequest request, long queuedNanos) {
+		long start = System.nanoTime();
+		List<Cloudlet> cloudletList = Workload.createCloudlets(0, request.getLengths());
+		List<Vm> vmList = Workload.createVms(0, request.getFleet());
+		Scheduler scheduler = create(request.getAlgorithm(), cloudletList, vmList, request.getFleet(), buffers);
+		try {
+			if (request.getSeed() != null) {
+				scheduler.setSeed(request.getSeed());
+			}
+			AllocationResult result = scheduler.allocate(request.getBudget());
+			int[] cloudletToVm = result.getCloudletToVm();
+			OptimalityGap gap = scheduler.estimateGap(cloudletToVm);
+			StringBuilder sb = new StringBuilder();
+			sb.append("algorithm=").append(request.getAlgorithm()).append('\n');
+			sb.append("fitness=").append(scheduler.estimateFitness(cloudletToVm)).append('\n');
+			sb.append("makespan=").append(gap.getMakespan()).append('\n');
+			sb.append("cost=").append(gap.getCost()).append('\n');
+			sb.append("totalTime=").append(gap.getTotalTime()).append('\n');
+			sb.append("makespan.gap=").append(gap.getMakespanGap()).append('\n');
+			sb.append("evaluations=").append(result.getEvaluations()).append('\n');
+			sb.append("iterations=").append(result.getIterations()).append('\n');
+			sb.append("budget.exhausted=").append(result.isBudgetExhausted()).append('\n');
+			sb.append("queue.ms=").append((start - queuedNanos) / 1_000_000).append('\n');
+			sb.append("run.ms=").append((System.nanoTime() - start) / 1_000_000).append('\n');
+			sb.append("assignment=");
+			for (int i = 0; i < cloudletToVm.length; i++) {
+				if (i > 0) {
+					sb.append(',');
+				}
+				sb.append(cloudletToVm[i]);
+			}
+			sb.append('\n');
+			return sb.toString();
+		} finally {
+			if (scheduler instanceof OffHeapGAScheduler) {
+				((OffHeapGAScheduler) scheduler).close();
+			}
+		}
+	}
+
+	private void schedule(HttpExchange exchange) throws IOException {
+		try (HttpExchange e = exchange) {
+			if (!e.getRequestMethod().equals("POST")) {
+				respond(e, 405, "use POST\n");
+				return;
+			}
+			ScheduleRequest request;
+			try {
+				request = ScheduleRequest.read(e.getRequestBody());
+			} catch (IllegalArgumentException ex) {
+				respond(e, 400, ex.getMessage() + "\n");
+				return;
+			}
+			long queued = System.nanoTime();
+			CompletableFuture<String> response;
+			try {
+				response = CompletableFuture.supplyAsync(() -> run(request, queued), workers);
+			} catch (RejectedExecutionException ex) {
+				rejected.incrementAndGet();
+				respond(e, 503, "queue full\n");
+				return;
+			}
+			try {
+				respond(e, 200, response.join());
+				completed.incrementAndGet();
+			} catch (CompletionException ex) {
+				Throwable cause = ex.getCause();
+				if (cause instanceof IllegalArgumentException) {
+					respond(e, 400, cause.getMessage() + "\n");
+				} else {
+					failed.incrementAndGet();
+					respond(e, 500, cause + "\n");
+				}
+			}
+		}
+	}
+
+	private void stats(HttpExchange exchange) throws IOException {
+		try (HttpExchange e = exchange) {
+			String body = "completed=" + completed.get() + '\n'
+					+ "rejected=" + rejected.get() + '\n'
+					+ "failed=" + failed.get() + '\n'
+					+ "running=" + workers.getActiveCount() + '\n'
+					+ "queued=" + workers.getQueue().size() + '\n'
+					+ "buffers.hits=" + buffers.getHits() + '\n'
+					+ "buffers.misses=" + buffers.getMisses() + '\n'
+					+ "buffers.retainedBytes=" + buffers.getRetainedBytes() + '\n';
+			respond(e, 200, body);
+		}
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		workers.shutdownNow();
+		handlers.shutdownNow();
+	}
+
+	/**
+	 * usage: SchedulingService [port] [threads] [warm-up ms per algorithm], port 0 picks a free one
+	 */
+	public static void main(String[] args) throws IOException {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+		int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+		long warmUpMs = args.length > 2 ? Long.parseLong(args[2]) : 0;
+		Log.setDisabled(true);
+		SchedulingService service = new SchedulingService(port, threads, 4 * threads, POOLED_BYTES);
+		if (warmUpMs > 0) {
+			service.warmUp(Duration.ofMillis(warmUpMs));
+		}
+		System.out.println(READY + service.getPort());
+		System.out.flush();
+	}
+}
@@ -0,0 +1,117 @@
+package la4am12.sizing;
+
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.VmClass;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-24 14:02:37
+ * @description : a vm count per class evaluated by {@link FleetSizing}
+ * <p>
+ * The makespan is that of an LPT schedule on the fleet, NaN when the makespan lower bound already missed the
+ * deadline and no schedule was built.
+ */
+public class FleetCandidate {
+	private final List<VmClass> classes;
+	private final int[] counts;
+	private final double cost;
+	private final double makespan;
+	private final double lowerBound;
+	private final boolean feasible;
+
+	FleetCandidate(List<VmClass> classes, int[] counts, double makespan, double lowerBound, boolean feasible) {
+		this.classes = classes;
+		this.counts = counts;
+		double cost = 0;
+		for (int k = 0; k < counts.length; k++) {
+			cost += counts[k] * classes.get(k).getPrice();
+		}
+		this.cost = cost;
+		this.makespan = makespan;
+		this.lowerBound = lowerBound;
+		this.feasible = feasible;
+	}
+
+	/**
+	 * @return number of vms of each class, in the order the classes were given
+	 */
+	public int[] getCounts() {
+		return counts.clone();
+	}
+
+	int getCount(int k) {
+		return counts[k];
+	}
+
+	/**
+	 * @return price of the whole fleet per second
+	 */
+	public double getCost() {
+		return cost;
+	}
+
+	/**
+	 * @return makespan of the LPT schedule, NaN if none was built
+	 */
+	public double getMakespan() {
+		return makespan;
+	}
+
+	public double getLowerBound() {
+		return lowerBound;
+	}
+
+	/**
+	 * @return the makespan if known, otherwise the lower bound
+	 */
+	double estimate() {
+		return Double.isNaN(makespan) ? lowerBound : makespan;
+	}
+
+	/**
+	 * @return whether the LPT schedule meets the deadline of the search
+	 */
+	public boolean isFeasible() {
+		return feasible;
+	}
+
+	/**
+	 * @return cost of renting the fleet until the makespan
+	 */
+	public double getRunCost() {
+		return cost * makespan;
+	}
+
+	public int getVmNum() {
+		int vmNum = 0;
+		for (int count : counts) {
+			vmNum += count;
+		}
+		return vmNum;
+	}
+
+	/**
+	 * @return the fleet, for {@code Workload.createVms} and the schedulers
+	 */
+	public Fleet toFleet() {
+		List<VmClass> sized = new ArrayList<>();
+		for (int k = 0; k < counts.length; k++) {
+			VmClass c = classes.get(k);
+			sized.add(new VmClass(c.getName(), c.getMips(), c.getPrice(), counts[k]));
+		}
+		return new Fleet(sized);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("FleetCandidate{");
+		for (int k = 0; k < counts.length; k++) {
+			sb.append(classes.get(k).getName()).append('=').append(counts[k]).append(", ");
+		}
+		return sb.append("cost=").append(cost).append(", makespan=").append(makespan)
+				.append(", lowerBound=").append(lowerBound).append('}').toString();
+	}
+}
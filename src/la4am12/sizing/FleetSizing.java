@@ -0,0 +1,451 @@
+package la4am12.sizing;
+
+import la4am12.datacenter.VmClass;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-24 14:21:46
+ * @description : searches vm counts per class for the cheapest fleet whose LPT schedule meets a makespan deadline
+ * <p>
+ * Three phases, each evaluating its candidate fleets in parallel:
+ * <ol>
+ * <li>per class, a binary search for the fewest vms of that class alone meeting the deadline;</li>
+ * <li>greedy augmentation from the class with the most mips per dollar, sized to the fluid bound, adding one vm
+ * at a time of the class that lowers the makespan most per dollar until the deadline is met;</li>
+ * <li>descent from the cheapest fleet so far, removing one vm and, if needed, adding the fewest vms of another class
+ * (found by binary search) that restore the deadline, while that lowers the cost.</li>
+ * </ol>
+ * A candidate is scheduled longest first on the vm where each cloudlet finishes earliest, vms of one class sharing a
+ * heap of loads, in O(n (classes + log vms)) over lengths sorted once. Fleets whose makespan lower bound misses the
+ * deadline are not scheduled during the search; afterwards the cheapest mix is scaled up and down and scheduled
+ * regardless, so the Pareto front also shows what cheaper fleets would achieve. The binary searches assume the
+ * makespan does not grow as vms are added, which LPT follows closely but not strictly.
+ */
+public class FleetSizing {
+	// multiples of the cheapest mix scheduled for the Pareto front, on both sides of the deadline
+	private static final double[] FRONT_SCALES = {0.5, 0.6, 0.7, 0.8, 0.9, 0.95, 1.05, 1.1, 1.25, 1.5, 2};
+
+	private final long[] sorted;
+	// prefix[k]: total length of the k longest cloudlets
+	private final double[] prefix;
+	private final List<VmClass> classes;
+	private final int threads;
+	private final Map<String, FleetCandidate> evaluated = new ConcurrentHashMap<>();
+	private final AtomicLong schedules = new AtomicLong();
+	private ExecutorService executor;
+
+	/**
+	 * @param cloudletLength length of each cloudlet (MI)
+	 * @param classes        vm classes to choose from, their counts are ignored
+	 */
+	public FleetSizing(long[] cloudletLength, List<VmClass> classes) {
+		this(cloudletLength, classes, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * @param threads candidate fleets evaluated at once
+	 */
+	public FleetSizing(long[] cloudletLength, List<VmClass> classes, int threads) {
+		if (cloudletLength.length == 0) {
+			throw new IllegalArgumentException("need at least one cloudlet");
+		}
+		if (classes.isEmpty()) {
+			throw new IllegalArgumentException("need at least one vm class");
+		}
+		long[] lengths = cloudletLength.clone();
+		Arrays.sort(lengths);
+		sorted = new long[lengths.length];
+		prefix = new double[lengths.length + 1];
+		for (int i = 0; i < lengths.length; i++) {
+			sorted[i] = lengths[lengths.length - 1 - i];
+			prefix[i + 1] = prefix[i] + sorted[i];
+		}
+		this.classes = Collections.unmodifiableList(new ArrayList<>(classes));
+		this.threads = Math.max(1, threads);
+	}
+
+	/**
+	 * @param deadline makespan to meet, in seconds
+	 */
+	public SizingResult search(double deadline) {
+		long start = System.nanoTime();
+		evaluated.clear();
+		schedules.set(0);
+		executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Callable<FleetCandidate>> singles = new ArrayList<>();
+			for (int k = 0; k < classes.size(); k++) {
+				int cls = k;
+				singles.add(() -> fewestOf(cls, deadline));
+			}
+			all(singles);
+			augment(deadline);
+			FleetCandidate cheapest = cheapestFeasible();
+			if (cheapest != null) {
+				cheapest = descend(cheapest, deadline);
+				scale(cheapest, deadline);
+			}
+			return new SizingResult(deadline, cheapest, paretoFront(), evaluated.size(), schedules.get(), System.nanoTime() - start);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * binary search for the fewest vms of one class meeting the deadline on their own
+	 *
+	 * @return that fleet, null if no count does
+	 */
+	private FleetCandidate fewestOf(int k, double deadline) {
+		double mips = classes.get(k).getMips();
+		if (sorted[0] / mips > deadline) {
+			return null;
+		}
+		int n = sorted.length;
+		int lo = (int) Math.max(1, Math.min(n, Math.ceil(prefix[n] / (mips * deadline))));
+		int hi = lo;
+		// grow until feasible; one vm per cloudlet always is, since the longest fits
+		while (!evaluate(single(k, hi), deadline).isFeasible()) {
+			lo = hi + 1;
+			hi = (int) Math.min(n, 2L * hi);
+		}
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (evaluate(single(k, mid), deadline).isFeasible()) {
+				hi = mid;
+			} else {
+				lo = mid + 1;
+			}
+		}
+		return evaluate(single(k, hi), deadline);
+	}
+
+	private int[] single(int k, int count) {
+		int[] counts = new int[classes.size()];
+		counts[k] = count;
+		return counts;
+	}
+
+	/**
+	 * greedy augmentation from the fluid-bound count of the class with the most mips per dollar
+	 */
+	private FleetCandidate augment(double deadline) {
+		int base = 0;
+		for (int k = 1; k < classes.size(); k++) {
+			if (mipsPerPrice(k) > mipsPerPrice(base)) {
+				base = k;
+			}
+		}
+		int n = sorted.length;
+		int[] counts = single(base, (int) Math.max(1, Math.min(n, Math.ceil(prefix[n] / (classes.get(base).getMips() * deadline)))));
+		FleetCandidate current = evaluate(counts, deadline);
+		while (!current.isFeasible() && current.getVmNum() < n) {
+			List<Callable<FleetCandidate>> steps = new ArrayList<>();
+			for (int k = 0; k < classes.size(); k++) {
+				int[] next = counts.clone();
+				next[k]++;
+				steps.add(() -> evaluate(next, deadline));
+			}
+			List<FleetCandidate> next = all(steps);
+			int best = -1;
+			double bestScore = 0;
+			for (int k = 0; k < next.size(); k++) {
+				double gain = current.estimate() - next.get(k).estimate();
+				double price = classes.get(k).getPrice();
+				double score = price == 0 ? (gain > 0 ? Double.POSITIVE_INFINITY : 0) : gain / price;
+				if (score > bestScore) {
+					bestScore = score;
+					best = k;
+				}
+			}
+			if (best < 0) {
+				// no single vm helps, e.g. an LPT plateau; grow the base class
+				best = base;
+			}
+			current = next.get(best);
+			counts = current.getCounts();
+		}
+		return current;
+	}
+
+	private double mipsPerPrice(int k) {
+		VmClass c = classes.get(k);
+		return c.getPrice() == 0 ? Double.POSITIVE_INFINITY : c.getMips() / c.getPrice();
+	}
+
+	/**
+	 * removes one vm, adding the fewest vms of another class that restore the deadline, while the cost drops
+	 */
+	private FleetCandidate descend(FleetCandidate current, double deadline) {
+		while (true) {
+			List<Callable<FleetCandidate>> moves = new ArrayList<>();
+			for (int k = 0; k < classes.size(); k++) {
+				if (current.getCount(k) == 0) {
+					continue;
+				}
+				int[] fewer = current.getCounts();
+				fewer[k]--;
+				if (Arrays.stream(fewer).sum() > 0) {
+					moves.add(() -> evaluate(fewer, deadline));
+				}
+				for (int j = 0; j < classes.size(); j++) {
+					if (j != k) {
+						int to = j;
+						int removed = k;
+						moves.add(() -> replace(fewer, removed, to, deadline));
+					}
+				}
+			}
+			FleetCandidate best = current;
+			for (FleetCandidate c : all(moves)) {
+				if (c != null && c.isFeasible() && cheaper(c, best)) {
+					best = c;
+				}
+			}
+			if (best == current) {
+				return current;
+			}
+			current = best;
+		}
+	}
+
+	/**
+	 * binary search for the fewest vms of class j that make the fleet feasible again after a vm of class k was removed,
+	 * trying no more than it takes to match the removed mips plus one
+	 *
+	 * @return that fleet, null if none within the limit is
+	 */
+	private FleetCandidate replace(int[] fewer, int k, int j, double deadline) {
+		int lo = 1;
+		int hi = (int) Math.ceil(classes.get(k).getMips() / classes.get(j).getMips()) + 1;
+		if (!evaluate(plus(fewer, j, hi), deadline).isFeasible()) {
+			return null;
+		}
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (evaluate(plus(fewer, j, mid), deadline).isFeasible()) {
+				hi = mid;
+			} else {
+				lo = mid + 1;
+			}
+		}
+		return evaluate(plus(fewer, j, hi), deadline);
+	}
+
+	/**
+	 * schedules multiples of the mix, without pruning by the lower bound
+	 */
+	private void scale(FleetCandidate mix, double deadline) {
+		List<Callable<FleetCandidate>> scaled = new ArrayList<>();
+		for (double f : FRONT_SCALES) {
+			int[] counts = mix.getCounts();
+			int vmNum = 0;
+			for (int k = 0; k < counts.length; k++) {
+				counts[k] = (int) Math.min(sorted.length, Math.round(counts[k] * f));
+				vmNum += counts[k];
+			}
+			if (vmNum > 0) {
+				scaled.add(() -> evaluate(counts, deadline, false));
+			}
+		}
+		all(scaled);
+	}
+
+	private static int[] plus(int[] counts, int k, int n) {
+		int[] next = counts.clone();
+		next[k] += n;
+		return next;
+	}
+
+	private static boolean cheaper(FleetCandidate a, FleetCandidate b) {
+		return a.getCost() < b.getCost() || a.getCost() == b.getCost() && a.getMakespan() < b.getMakespan();
+	}
+
+	private FleetCandidate cheapestFeasible() {
+		FleetCandidate best = null;
+		for (FleetCandidate c : evaluated.values()) {
+			if (c.isFeasible() && (best == null || cheaper(c, best))) {
+				best = c;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * @return scheduled fleets not beaten on both cost and makespan by another, cheapest first
+	 */
+	private List<FleetCandidate> paretoFront() {
+		List<FleetCandidate> scheduled = new ArrayList<>();
+		for (FleetCandidate c : evaluated.values()) {
+			if (!Double.isNaN(c.getMakespan())) {
+				scheduled.add(c);
+			}
+		}
+		scheduled.sort(Comparator.comparingDouble(FleetCandidate::getCost).thenComparingDouble(FleetCandidate::getMakespan));
+		List<FleetCandidate> front = new ArrayList<>();
+		double bestMakespan = Double.POSITIVE_INFINITY;
+		for (FleetCandidate c : scheduled) {
+			if (c.getMakespan() < bestMakespan) {
+				front.add(c);
+				bestMakespan = c.getMakespan();
+			}
+		}
+		return front;
+	}
+
+	FleetCandidate evaluate(int[] counts, double deadline) {
+		return evaluate(counts, deadline, true);
+	}
+
+	/**
+	 * evaluates a fleet once, later calls return the same candidate; safe to call from several threads
+	 *
+	 * @param prune skip the schedule when the lower bound misses the deadline
+	 */
+	private FleetCandidate evaluate(int[] counts, double deadline, boolean prune) {
+		String key = Arrays.toString(counts);
+		FleetCandidate known = evaluated.get(key);
+		if (known != null && (prune || !Double.isNaN(known.getMakespan()))) {
+			return known;
+		}
+		double bound = lowerBound(counts);
+		if (prune && bound > deadline) {
+			FleetCandidate candidate = new FleetCandidate(classes, counts, Double.NaN, bound, false);
+			FleetCandidate raced = evaluated.putIfAbsent(key, candidate);
+			return raced == null ? candidate : raced;
+		}
+		double makespan = lpt(counts);
+		schedules.incrementAndGet();
+		FleetCandidate candidate = new FleetCandidate(classes, counts, makespan, bound, makespan <= deadline);
+		evaluated.put(key, candidate);
+		return candidate;
+	}
+
+	/**
+	 * the bounds of {@code MakespanBounds} from the presorted lengths: total length over total mips, and the k longest
+	 * cloudlets on the k fastest vms
+	 */
+	double lowerBound(int[] counts) {
+		Integer[] byMips = new Integer[classes.size()];
+		double totalMips = 0;
+		for (int k = 0; k < byMips.length; k++) {
+			byMips[k] = k;
+			totalMips += counts[k] * (double) classes.get(k).getMips();
+		}
+		if (totalMips == 0) {
+			return Double.POSITIVE_INFINITY;
+		}
+		Arrays.sort(byMips, (a, b) -> Integer.compare(classes.get(b).getMips(), classes.get(a).getMips()));
+		double bound = prefix[sorted.length] / totalMips;
+		double mipsSum = 0;
+		int vm = 0;
+		for (int k : byMips) {
+			double mips = classes.get(k).getMips();
+			for (int c = 0; c < counts[k] && vm < sorted.length; c++) {
+				mipsSum += mips;
+				vm++;
+				bound = Math.max(bound, prefix[vm] / mipsSum);
+			}
+		}
+		return bound;
+	}
+
+	/**
+	 * @return makespan of the longest-processing-time-first schedule on the fleet
+	 */
+	double lpt(int[] counts) {
+		int classNum = 0;
+		for (int count : counts) {
+			if (count > 0) {
+				classNum++;
+			}
+		}
+		double[] mips = new double[classNum];
+		LoadHeap[] heaps = new LoadHeap[classNum];
+		for (int k = 0, g = 0; k < counts.length; k++) {
+			if (counts[k] > 0) {
+				mips[g] = classes.get(k).getMips();
+				heaps[g++] = new LoadHeap(counts[k]);
+			}
+		}
+		double makespan = 0;
+		for (long length : sorted) {
+			int best = 0;
+			double bestFinish = Double.MAX_VALUE;
+			for (int g = 0; g < classNum; g++) {
+				double finish = heaps[g].min() + length / mips[g];
+				if (finish < bestFinish) {
+					bestFinish = finish;
+					best = g;
+				}
+			}
+			heaps[best].replaceMin(bestFinish);
+			makespan = Math.max(makespan, bestFinish);
+		}
+		return makespan;
+	}
+
+	private <T> List<T> all(List<Callable<T>> tasks) {
+		List<T> results = new ArrayList<>(tasks.size());
+		try {
+			for (Future<T> f : executor.invokeAll(tasks)) {
+				results.add(f.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("interrupted while evaluating fleets", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("fleet evaluation failed", e.getCause());
+		}
+		return results;
+	}
+
+	/**
+	 * binary min-heap of the loads of identical vms, all starting idle
+	 */
+	private static class LoadHeap {
+		private final double[] load;
+
+		LoadHeap(int size) {
+			load = new double[size];
+		}
+
+		double min() {
+			return load[0];
+		}
+
+		void replaceMin(double value) {
+			int i = 0;
+			int size = load.length;
+			while (true) {
+				int child = 2 * i + 1;
+				if (child >= size) {
+					break;
+				}
+				if (child + 1 < size && load[child + 1] < load[child]) {
+					child++;
+				}
+				if (load[child] >= value) {
+					break;
+				}
+				load[i] = load[child];
+				i = child;
+			}
+			load[i] = value;
+		}
+	}
+}
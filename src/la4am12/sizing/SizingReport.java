@@ -0,0 +1,69 @@
+package la4am12.sizing;
+
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.VmClass;
+import la4am12.datacenter.Workload;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-24 15:03:19
+ * @description : prints the cheapest fleet meeting a makespan deadline and the cost/makespan Pareto front
+ * <p>
+ * The vm classes come from a fleet file (their counts are only used as the reference fleet) or the default fleet;
+ * the cloudlets are generated as in {@code Main} with seed 0.
+ */
+public class SizingReport {
+	/**
+	 * usage: SizingReport &lt;deadline s&gt; [cloudletNum] [fleet file]
+	 * <p>
+	 * e.g. {@code SizingReport 600 100000 conf/fleet-large.properties}
+	 */
+	public static void main(String[] args) throws IOException {
+		double deadline = args.length > 0 ? Double.parseDouble(args[0]) : 600;
+		int cloudletNum = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+		Fleet reference = args.length > 2 ? Fleet.load(Paths.get(args[2])) : Fleet.defaultFleet();
+
+		Log.setDisabled(true);
+		List<Cloudlet> cloudletList = Workload.createCloudlets(0, cloudletNum, new Random(0));
+		long[] lengths = new long[cloudletNum];
+		for (int i = 0; i < cloudletNum; i++) {
+			lengths[i] = cloudletList.get(i).getCloudletLength();
+		}
+		List<VmClass> classes = reference.getClasses();
+		FleetSizing sizing = new FleetSizing(lengths, classes);
+
+		int[] referenceCounts = new int[classes.size()];
+		for (int k = 0; k < classes.size(); k++) {
+			referenceCounts[k] = classes.get(k).getCount();
+		}
+		FleetCandidate current = sizing.evaluate(referenceCounts, deadline);
+		System.out.printf("reference fleet: %s%n", current);
+
+		SizingResult result = sizing.search(deadline);
+		System.out.printf("deadline=%.1fs cloudlets=%d candidates=%d schedules=%d time=%dms%n", deadline, cloudletNum,
+				result.getCandidates(), result.getSchedules(), result.getElapsedNanos() / 1_000_000);
+		FleetCandidate cheapest = result.getCheapest();
+		if (cheapest == null) {
+			System.out.println("no fleet meets the deadline: the longest cloudlet takes longer on the fastest class");
+		} else {
+			System.out.printf("cheapest: %s%n", cheapest);
+			System.out.printf("          %d vms, %.4f $/s, %.2f $ until the makespan%n", cheapest.getVmNum(), cheapest.getCost(),
+					cheapest.getRunCost());
+		}
+		System.out.println("pareto front (cost $/s, makespan s, vms per class):");
+		for (FleetCandidate c : result.getParetoFront()) {
+			StringBuilder counts = new StringBuilder();
+			for (int k = 0; k < classes.size(); k++) {
+				counts.append(' ').append(classes.get(k).getName()).append('=').append(c.getCounts()[k]);
+			}
+			System.out.printf("  %10.4f %12.1f %s%s%n", c.getCost(), c.getMakespan(), c.isFeasible() ? "*" : " ", counts);
+		}
+	}
+}
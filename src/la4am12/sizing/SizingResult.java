@@ -0,0 +1,68 @@
+package la4am12.sizing;
+
+import java.util.List;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-24 14:10:58
+ * @description : outcome of a {@link FleetSizing} search
+ */
+public class SizingResult {
+	private final double deadline;
+	private final FleetCandidate cheapest;
+	private final List<FleetCandidate> paretoFront;
+	private final int candidates;
+	private final long schedules;
+	private final long elapsedNanos;
+
+	/**
+	 * @param deadline     makespan the fleets had to meet
+	 * @param cheapest     cheapest fleet found that meets it, null if none does
+	 * @param paretoFront  evaluated fleets no other one beats on both cost and makespan, cheapest first
+	 * @param candidates   fleets evaluated
+	 * @param schedules    LPT schedules built, the rest were ruled out by the lower bound
+	 * @param elapsedNanos wall time of the search
+	 */
+	public SizingResult(double deadline, FleetCandidate cheapest, List<FleetCandidate> paretoFront, int candidates, long schedules,
+						long elapsedNanos) {
+		this.deadline = deadline;
+		this.cheapest = cheapest;
+		this.paretoFront = paretoFront;
+		this.candidates = candidates;
+		this.schedules = schedules;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public double getDeadline() {
+		return deadline;
+	}
+
+	/**
+	 * @return cheapest fleet meeting the deadline, null if none was found
+	 */
+	public FleetCandidate getCheapest() {
+		return cheapest;
+	}
+
+	public List<FleetCandidate> getParetoFront() {
+		return paretoFront;
+	}
+
+	public int getCandidates() {
+		return candidates;
+	}
+
+	public long getSchedules() {
+		return schedules;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "SizingResult{deadline=" + deadline + ", cheapest=" + cheapest + ", front=" + paretoFront.size()
+				+ ", candidates=" + candidates + ", schedules=" + schedules + ", elapsed=" + elapsedNanos / 1_000_000 + "ms}";
+	}
+}
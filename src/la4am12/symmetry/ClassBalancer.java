@@ -0,0 +1,141 @@
+package la4am12.symmetry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-21 13:40:02
+ * @description : groups identical vms (same mips and price) into classes and spreads the cloudlets given to a class
+ * over its vms, longest first onto the least loaded vm (LPT)
+ * <p>
+ * Any two assignments that differ only by permuting identical vms expand to the same class assignment, so an
+ * optimizer working on classes searches each equivalence class once. Safe for concurrent use.
+ */
+public class ClassBalancer {
+	private final int vmNum;
+	private final int cloudletNum;
+	// 第 k 类虚拟机为 classVms[classStart[k] .. classStart[k + 1])
+	private final int[] classStart;
+	private final int[] classVms;
+	private final int[] classOfVm;
+	// 云任务按长度从长到短的顺序
+	private final int[] longestFirst;
+	private final long[] cloudletLength;
+
+	public ClassBalancer(long[] cloudletLength, double[] vmMips, double[] vmPrice) {
+		this.cloudletLength = cloudletLength;
+		this.cloudletNum = cloudletLength.length;
+		this.vmNum = vmMips.length;
+		classOfVm = new int[vmNum];
+		List<Integer> representatives = new ArrayList<>();
+		for (int vm = 0; vm < vmNum; vm++) {
+			int k = 0;
+			while (k < representatives.size()
+					&& (vmMips[representatives.get(k)] != vmMips[vm] || vmPrice[representatives.get(k)] != vmPrice[vm])) {
+				k++;
+			}
+			if (k == representatives.size()) {
+				representatives.add(vm);
+			}
+			classOfVm[vm] = k;
+		}
+		int classNum = representatives.size();
+		classStart = new int[classNum + 1];
+		for (int k : classOfVm) {
+			classStart[k + 1]++;
+		}
+		for (int k = 0; k < classNum; k++) {
+			classStart[k + 1] += classStart[k];
+		}
+		classVms = new int[vmNum];
+		int[] filled = Arrays.copyOf(classStart, classNum);
+		for (int vm = 0; vm < vmNum; vm++) {
+			classVms[filled[classOfVm[vm]]++] = vm;
+		}
+		long[] keys = new long[cloudletNum];
+		for (int i = 0; i < cloudletNum; i++) {
+			keys[i] = cloudletLength[i] << 32 | i;
+		}
+		Arrays.sort(keys);
+		longestFirst = new int[cloudletNum];
+		for (int p = 0; p < cloudletNum; p++) {
+			longestFirst[p] = (int) keys[cloudletNum - 1 - p];
+		}
+	}
+
+	/**
+	 * @return number of vm classes, the range of a class gene
+	 */
+	public int getClassNum() {
+		return classStart.length - 1;
+	}
+
+	public int getClassSize(int k) {
+		return classStart[k + 1] - classStart[k];
+	}
+
+	public int getClassOf(int vm) {
+		return classOfVm[vm];
+	}
+
+	/**
+	 * @return the class assignment of a vm assignment, its canonical form under permutations of identical vms
+	 */
+	public int[] toClasses(int[] cloudletToVm) {
+		int[] cloudletToClass = new int[cloudletNum];
+		for (int i = 0; i < cloudletNum; i++) {
+			cloudletToClass[i] = classOfVm[cloudletToVm[i]];
+		}
+		return cloudletToClass;
+	}
+
+	/**
+	 * balances each class's cloudlets over its vms
+	 *
+	 * @param cloudletToClass class of each cloudlet
+	 * @return vm of each cloudlet
+	 */
+	public int[] expand(int[] cloudletToClass) {
+		int[] cloudletToVm = new int[cloudletNum];
+		// identical vms, so comparing lengths is comparing execution times
+		long[] load = new long[vmNum];
+		// 每类一个以负载为键的最小堆，初始负载都为 0，任意顺序都是合法的堆
+		int[] heap = classVms.clone();
+		for (int i : longestFirst) {
+			int k = cloudletToClass[i];
+			int from = classStart[k];
+			int vm = heap[from];
+			cloudletToVm[i] = vm;
+			load[vm] += cloudletLength[i];
+			siftDown(heap, from, classStart[k + 1] - from, load);
+		}
+		return cloudletToVm;
+	}
+
+	private static void siftDown(int[] heap, int from, int size, long[] load) {
+		int pos = 0;
+		int vm = heap[from];
+		while (true) {
+			int child = 2 * pos + 1;
+			if (child >= size) {
+				break;
+			}
+			if (child + 1 < size && less(heap[from + child + 1], heap[from + child], load)) {
+				child++;
+			}
+			if (!less(heap[from + child], vm, load)) {
+				break;
+			}
+			heap[from + pos] = heap[from + child];
+			pos = child;
+		}
+		heap[from + pos] = vm;
+	}
+
+	// 负载相同时编号小的优先，展开结果与堆的历史无关
+	private static boolean less(int a, int b, long[] load) {
+		return load[a] < load[b] || load[a] == load[b] && a < b;
+	}
+}
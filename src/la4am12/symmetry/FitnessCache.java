@@ -0,0 +1,95 @@
+package la4am12.symmetry;
+
+import la4am12.datacenter.OptFunction;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-21 14:02:19
+ * @description : bounded LRU cache of fitness by canonical (class) assignment
+ * <p>
+ * Without elitism or duplicate removal the GA re-creates many individuals it has already seen, especially once
+ * the population converges; a hit skips both the expansion and the evaluation. Not thread safe.
+ */
+public class FitnessCache implements OptFunction {
+	private final OptFunction fitness;
+	private final Map<Key, Double> cache;
+	private long hits;
+	private long misses;
+
+	/**
+	 * @param fitness  fitness of a canonical assignment
+	 * @param capacity entries kept, least recently used are dropped first
+	 */
+	public FitnessCache(OptFunction fitness, int capacity) {
+		this.fitness = fitness;
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Double> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	@Override
+	public double calc(int[] params) {
+		Key key = new Key(params);
+		Double cached = cache.get(key);
+		if (cached != null) {
+			hits++;
+			return cached;
+		}
+		misses++;
+		double value = fitness.calc(params);
+		// the caller may reuse its array, keep a copy
+		cache.put(new Key(params.clone(), key.hash), value);
+		return value;
+	}
+
+	/**
+	 * @return calls answered from the cache
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return calls that evaluated the fitness
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	public void clear() {
+		cache.clear();
+		hits = 0;
+		misses = 0;
+	}
+
+	private static final class Key {
+		private final int[] genes;
+		private final int hash;
+
+		Key(int[] genes) {
+			this(genes, Arrays.hashCode(genes));
+		}
+
+		Key(int[] genes, int hash) {
+			this.genes = genes;
+			this.hash = hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Key && hash == ((Key) o).hash && Arrays.equals(genes, ((Key) o).genes);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
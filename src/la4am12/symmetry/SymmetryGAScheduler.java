@@ -0,0 +1,130 @@
+package la4am12.symmetry;
+
+import la4am12.chaos.ChaoticMap;
+import la4am12.datacenter.AllocationResult;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Hyperparameters;
+import la4am12.datacenter.Scheduler;
+import la4am12.datacenter.SolutionExchange;
+import la4am12.ga.GAScheduler;
+import la4am12.ga.GeneticAlgorithm;
+import la4am12.telemetry.ProgressListener;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+
+import java.util.List;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-21 14:25:47
+ * @description : GA over vm classes instead of vms, each class's cloudlets are balanced over its vms by {@link ClassBalancer}
+ * <p>
+ * With the default fleet a gene takes 3 values instead of 9, and the fitness of an individual is looked up in a
+ * {@link FitnessCache} by its class assignment before it is expanded and evaluated.
+ */
+public class SymmetryGAScheduler extends Scheduler {
+	// 缓存容量为种群大小的倍数
+	private static final int CACHE_GENERATIONS = 4;
+
+	private final ClassBalancer balancer;
+	private final FitnessCache cache;
+	private final GeneticAlgorithm ga;
+
+	public SymmetryGAScheduler(List<Cloudlet> cloudletList, List<Vm> vmList) {
+		this(cloudletList, vmList, Fleet.of(vmList));
+	}
+
+	public SymmetryGAScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet) {
+		this(cloudletList, vmList, fleet, GAScheduler.DEFAULTS);
+	}
+
+	public SymmetryGAScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet, Hyperparameters params) {
+		super(cloudletList, vmList, fleet);
+		this.balancer = new ClassBalancer(cloudletLength, vmMips, vmPrice);
+		this.cache = new FitnessCache((classes) -> estimateFitness(balancer.expand(classes)),
+				CACHE_GENERATIONS * params.getPopulationSize());
+		this.ga = new GeneticAlgorithm(cache, params.getPopulationSize(), params.getCrossoverRate(), params.getMutationRate(),
+				balancer.getClassNum(), cloudletNum, Math.max(1, (int) (cloudletNum * params.getTournamentRatio())), params.getMaxGenerations());
+		Log.printLine("Using SymmetryGA scheduler with " + balancer.getClassNum() + " vm classes");
+	}
+
+	@Override
+	public int[] allocate() {
+		cache.clear();
+		return balancer.expand(ga.run());
+	}
+
+	@Override
+	public AllocationResult allocate(Budget budget) {
+		long start = System.nanoTime();
+		cache.clear();
+		int[] cloudletToVm = balancer.expand(ga.run(budget));
+		return new AllocationResult(cloudletToVm, cache.getMisses(), System.nanoTime() - start,
+				ga.getIterations(), ga.isBudgetExhausted());
+	}
+
+	@Override
+	public void setProgressListener(ProgressListener listener) {
+		ga.setProgressListener(listener);
+	}
+
+	/**
+	 * @return fitness evaluations of the last allocation, cache hits not included
+	 */
+	@Override
+	public long getEvaluations() {
+		return cache.getMisses();
+	}
+
+	/**
+	 * @return individuals of the last allocation whose fitness came from the cache
+	 */
+	public long getCacheHits() {
+		return cache.getHits();
+	}
+
+	public int getClassNum() {
+		return balancer.getClassNum();
+	}
+
+	/**
+	 * the GA works on class assignments, other schedulers on vm assignments; translate both ways
+	 */
+	@Override
+	public void setSolutionExchange(SolutionExchange exchange) {
+		ga.setSolutionExchange(exchange == null ? null : new SolutionExchange() {
+			@Override
+			public void offer(int[] cloudletToClass, double fitness) {
+				exchange.offer(balancer.expand(cloudletToClass), fitness);
+			}
+
+			@Override
+			public int[] poll() {
+				int[] cloudletToVm = exchange.poll();
+				return cloudletToVm == null ? null : balancer.toClasses(cloudletToVm);
+			}
+		});
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		ga.setSeed(seed);
+	}
+
+	@Override
+	public void setChaoticMap(ChaoticMap map) {
+		ga.setChaoticMap(map);
+	}
+
+	@Override
+	public void setAdaptive(boolean adaptive) {
+		ga.setAdaptive(adaptive);
+	}
+
+	@Override
+	public void setRestartThreshold(double threshold) {
+		ga.setRestartThreshold(threshold);
+	}
+}
@@ -0,0 +1,70 @@
+package la4am12.telemetry;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 13:05:44
+ * @description : progress of an optimizer after one iteration
+ */
+public class IterationEvent {
+	private final String algorithm;
+	private final int iteration;
+	private final double bestFitness;
+	private final double meanFitness;
+	private final long evaluations;
+	private final long elapsedNanos;
+	private final long allocatedBytes;
+
+	/**
+	 * @param algorithm      optimizer name, e.g. "GA"
+	 * @param iteration      iteration index, 0 is the initial population
+	 * @param bestFitness    best fitness found so far
+	 * @param meanFitness    mean fitness of the current population
+	 * @param evaluations    fitness evaluations since the run started
+	 * @param elapsedNanos   wall time since the run started
+	 * @param allocatedBytes bytes allocated by the optimizer thread during this iteration, -1 if the JVM cannot tell
+	 */
+	public IterationEvent(String algorithm, int iteration, double bestFitness, double meanFitness,
+						  long evaluations, long elapsedNanos, long allocatedBytes) {
+		this.algorithm = algorithm;
+		this.iteration = iteration;
+		this.bestFitness = bestFitness;
+		this.meanFitness = meanFitness;
+		this.evaluations = evaluations;
+		this.elapsedNanos = elapsedNanos;
+		this.allocatedBytes = allocatedBytes;
+	}
+
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	public int getIteration() {
+		return iteration;
+	}
+
+	public double getBestFitness() {
+		return bestFitness;
+	}
+
+	public double getMeanFitness() {
+		return meanFitness;
+	}
+
+	public long getEvaluations() {
+		return evaluations;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	public long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+
+	@Override
+	public String toString() {
+		return algorithm + " iter " + iteration + ": best=" + bestFitness + " mean=" + meanFitness
+				+ " evals=" + evaluations + " elapsed=" + elapsedNanos / 1_000_000 + "ms alloc=" + allocatedBytes + "B";
+	}
+}
@@ -0,0 +1,15 @@
+package la4am12.telemetry;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 13:08:02
+ * @description : receives an event after every optimizer iteration
+ */
+@FunctionalInterface
+public interface ProgressListener {
+	/**
+	 * called on the optimizer thread, implementations must return quickly and must not block,
+	 * use {@link ProgressPublisher} to hand events to slow consumers
+	 */
+	void onIteration(IterationEvent event);
+}
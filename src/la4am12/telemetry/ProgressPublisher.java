@@ -0,0 +1,57 @@
+package la4am12.telemetry;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 13:11:27
+ * @description : publishes optimizer progress to Flow subscribers asynchronously
+ * <p>
+ * Events are offered, never submitted: if a subscriber's buffer is full the event is dropped for that
+ * subscriber instead of blocking the optimizer loop. {@link #getDropped()} tells how many were lost.
+ */
+public class ProgressPublisher implements Flow.Publisher<IterationEvent>, ProgressListener, AutoCloseable {
+	private final SubmissionPublisher<IterationEvent> publisher;
+	private final AtomicLong dropped = new AtomicLong();
+
+	public ProgressPublisher() {
+		this(ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+	}
+
+	/**
+	 * @param executor   executor the subscribers are called on
+	 * @param bufferSize per-subscriber buffer capacity
+	 */
+	public ProgressPublisher(Executor executor, int bufferSize) {
+		this.publisher = new SubmissionPublisher<>(executor, bufferSize);
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super IterationEvent> subscriber) {
+		publisher.subscribe(subscriber);
+	}
+
+	@Override
+	public void onIteration(IterationEvent event) {
+		publisher.offer(event, (subscriber, e) -> {
+			dropped.incrementAndGet();
+			return false;
+		});
+	}
+
+	public long getDropped() {
+		return dropped.get();
+	}
+
+	/**
+	 * completes all subscribers once the buffered events are delivered
+	 */
+	@Override
+	public void close() {
+		publisher.close();
+	}
+}
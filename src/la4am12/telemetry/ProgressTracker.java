@@ -0,0 +1,210 @@
+package la4am12.telemetry;
+
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.OptFunction;
+import la4am12.telemetry.jfr.EvaluationBatchEvent;
+import la4am12.telemetry.jfr.OptimizerIterationEvent;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 13:16:50
+ * @description : per-run bookkeeping of an optimizer: evaluation count, elapsed time, allocation, listener
+ * and the JFR iteration / evaluation batch events (which are not committed unless a recording enables them)
+ */
+public class ProgressTracker {
+	private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+	private final String algorithm;
+	private final int cloudletNum;
+	private final int vmNum;
+	private ProgressListener listener;
+	private long evaluations;
+	private long startNanos;
+	private long lastAllocated;
+	private Budget budget = Budget.unlimited();
+	private boolean exhausted;
+	private int iterations;
+	private OptimizerIterationEvent iterationEvent;
+	private EvaluationBatchEvent batchEvent;
+	private long batchStartEvaluations;
+
+	/**
+	 * @param algorithm   optimizer name reported in events
+	 * @param cloudletNum genes per individual
+	 * @param vmNum       number of vms a gene can take
+	 */
+	public ProgressTracker(String algorithm, int cloudletNum, int vmNum) {
+		this.algorithm = algorithm;
+		this.cloudletNum = cloudletNum;
+		this.vmNum = vmNum;
+	}
+
+	public void setListener(ProgressListener listener) {
+		this.listener = listener;
+	}
+
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	/**
+	 * wraps an optimization function so every call is counted
+	 */
+	public OptFunction counting(OptFunction optFunction) {
+		return params -> {
+			evaluations++;
+			return optFunction.calc(params);
+		};
+	}
+
+	/**
+	 * counts evaluations done outside a {@link #counting} wrapper, e.g. in parallel batches
+	 */
+	public void addEvaluations(long n) {
+		evaluations += n;
+	}
+
+	public long getEvaluations() {
+		return evaluations;
+	}
+
+	public long getElapsedNanos() {
+		return System.nanoTime() - startNanos;
+	}
+
+	/**
+	 * marks the start of an unbudgeted run, must be called on the optimizer thread
+	 */
+	public void start() {
+		start(Budget.unlimited());
+	}
+
+	/**
+	 * marks the start of a run limited by the budget, must be called on the optimizer thread
+	 */
+	public void start(Budget budget) {
+		this.budget = budget;
+		exhausted = false;
+		iterations = 0;
+		evaluations = 0;
+		startNanos = System.nanoTime();
+		if (listener != null) {
+			lastAllocated = allocatedBytes();
+		}
+		iterationEvent = new OptimizerIterationEvent();
+		iterationEvent.begin();
+	}
+
+	/**
+	 * marks the start of a run resumed from a checkpoint; the evaluation count carries on, the time budget starts afresh
+	 */
+	public void resume(Budget budget, long evaluations, int iterations) {
+		start(budget);
+		this.evaluations = evaluations;
+		this.iterations = iterations;
+	}
+
+	/**
+	 * reports the end of an iteration to JFR and to the listener, if any
+	 */
+	public void iterationDone(int iteration, double bestFitness, double meanFitness) {
+		iterations = iteration;
+		commitIteration(iteration, bestFitness);
+		if (listener == null) {
+			return;
+		}
+		long allocated = allocatedBytes();
+		long delta = allocated < 0 ? -1 : allocated - lastAllocated;
+		lastAllocated = allocated;
+		listener.onIteration(new IterationEvent(algorithm, iteration, bestFitness, meanFitness,
+				evaluations, getElapsedNanos(), delta));
+	}
+
+	/**
+	 * checked by the optimizer before each iteration, once true it stays true until the next start
+	 *
+	 * @return whether the budget of the current run is used up
+	 */
+	public boolean isExhausted() {
+		if (!exhausted && !budget.isUnlimited()) {
+			exhausted = budget.isExhausted(startNanos, evaluations);
+		}
+		return exhausted;
+	}
+
+	/**
+	 * reports whether the run stopped on its budget, for the result built after the loop
+	 *
+	 * @return the value {@link #isExhausted()} last returned, without checking the budget again, so a run that ended
+	 * at its iteration limit is not reported as exhausted because the timeout elapsed afterwards
+	 */
+	public boolean wasExhausted() {
+		return exhausted;
+	}
+
+	/**
+	 * @return last iteration reported by {@link #iterationDone}
+	 */
+	public int getIterations() {
+		return iterations;
+	}
+
+	private void commitIteration(int iteration, double bestFitness) {
+		if (iterationEvent == null) {
+			// iterations driven without start(), e.g. by a benchmark
+			iterationEvent = new OptimizerIterationEvent();
+			iterationEvent.begin();
+			return;
+		}
+		iterationEvent.end();
+		if (iterationEvent.shouldCommit()) {
+			iterationEvent.algorithm = algorithm;
+			iterationEvent.cloudletNum = cloudletNum;
+			iterationEvent.vmNum = vmNum;
+			iterationEvent.iteration = iteration;
+			iterationEvent.evaluations = evaluations;
+			iterationEvent.bestFitness = bestFitness;
+			iterationEvent.commit();
+		}
+		iterationEvent = new OptimizerIterationEvent();
+		iterationEvent.begin();
+	}
+
+	/**
+	 * marks the start of a batch of fitness evaluations, batches must not nest
+	 */
+	public void beginBatch() {
+		batchEvent = new EvaluationBatchEvent();
+		batchEvent.begin();
+		batchStartEvaluations = evaluations;
+	}
+
+	/**
+	 * marks the end of the batch started by {@link #beginBatch()}
+	 */
+	public void endBatch() {
+		batchEvent.end();
+		if (batchEvent.shouldCommit()) {
+			batchEvent.algorithm = algorithm;
+			batchEvent.cloudletNum = cloudletNum;
+			batchEvent.vmNum = vmNum;
+			batchEvent.batchEvaluations = evaluations - batchStartEvaluations;
+			batchEvent.evaluations = evaluations;
+			batchEvent.commit();
+		}
+		batchEvent = null;
+	}
+
+	private static long allocatedBytes() {
+		if (THREADS instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+			if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+				return threads.getCurrentThreadAllocatedBytes();
+			}
+		}
+		return -1;
+	}
+}
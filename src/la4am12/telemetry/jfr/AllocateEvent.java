@@ -0,0 +1,31 @@
+package la4am12.telemetry.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 14:02:19
+ * @description : JFR event spanning one Scheduler.allocate() call
+ */
+@Name("la4am12.Allocate")
+@Label("Allocate")
+@Category("Cloudlet Scheduler")
+@Description("Mapping all cloudlets to vms with one scheduler")
+public class AllocateEvent extends Event {
+	@Label("Algorithm")
+	public String algorithm;
+
+	@Label("Cloudlets")
+	public int cloudletNum;
+
+	@Label("VMs")
+	public int vmNum;
+
+	@Label("Evaluations")
+	@Description("Fitness evaluations spent by the allocation")
+	public long evaluations;
+}
@@ -0,0 +1,35 @@
+package la4am12.telemetry.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 14:08:13
+ * @description : JFR event spanning the fitness evaluation of a batch of individuals
+ */
+@Name("la4am12.EvaluationBatch")
+@Label("Evaluation Batch")
+@Category("Cloudlet Scheduler")
+@Description("Fitness evaluation of a population or part of it")
+public class EvaluationBatchEvent extends Event {
+	@Label("Algorithm")
+	public String algorithm;
+
+	@Label("Cloudlets")
+	public int cloudletNum;
+
+	@Label("VMs")
+	public int vmNum;
+
+	@Label("Batch Evaluations")
+	@Description("Fitness evaluations in this batch")
+	public long batchEvaluations;
+
+	@Label("Evaluations")
+	@Description("Fitness evaluations since the run started")
+	public long evaluations;
+}
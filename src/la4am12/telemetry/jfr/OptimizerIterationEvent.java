@@ -0,0 +1,37 @@
+package la4am12.telemetry.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 14:05:46
+ * @description : JFR event spanning one iteration (generation) of an optimizer
+ */
+@Name("la4am12.OptimizerIteration")
+@Label("Optimizer Iteration")
+@Category("Cloudlet Scheduler")
+@Description("One iteration of a metaheuristic, iteration 0 is the initial population")
+public class OptimizerIterationEvent extends Event {
+	@Label("Algorithm")
+	public String algorithm;
+
+	@Label("Cloudlets")
+	public int cloudletNum;
+
+	@Label("VMs")
+	public int vmNum;
+
+	@Label("Iteration")
+	public int iteration;
+
+	@Label("Evaluations")
+	@Description("Fitness evaluations since the run started")
+	public long evaluations;
+
+	@Label("Best Fitness")
+	public double bestFitness;
+}
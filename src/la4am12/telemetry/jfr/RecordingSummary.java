@@ -0,0 +1,90 @@
+package la4am12.telemetry.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-19 14:31:55
+ * @description : prints where a recorded scheduling run spent its time, per event type and algorithm
+ */
+public class RecordingSummary {
+	private static final String PREFIX = "la4am12.";
+
+	/**
+	 * totals of one event type for one algorithm
+	 */
+	public static class Row {
+		private long count;
+		private long totalNanos;
+		private long maxNanos;
+		private long evaluations;
+
+		public long getCount() {
+			return count;
+		}
+
+		public long getTotalNanos() {
+			return totalNanos;
+		}
+
+		public long getMaxNanos() {
+			return maxNanos;
+		}
+
+		/**
+		 * @return largest cumulative evaluation count seen, or the batch sum for evaluation batches
+		 */
+		public long getEvaluations() {
+			return evaluations;
+		}
+	}
+
+	/**
+	 * reads the scheduling events of a recording
+	 *
+	 * @param recording .jfr file
+	 * @return rows keyed by "event name / algorithm"
+	 * @throws IOException if the file cannot be parsed
+	 */
+	public static Map<String, Row> summarize(Path recording) throws IOException {
+		Map<String, Row> rows = new TreeMap<>();
+		for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+			String name = event.getEventType().getName();
+			if (!name.startsWith(PREFIX)) {
+				continue;
+			}
+			Row row = rows.computeIfAbsent(name.substring(PREFIX.length()) + " / " + event.getString("algorithm"), k -> new Row());
+			long nanos = event.getDuration().toNanos();
+			row.count++;
+			row.totalNanos += nanos;
+			row.maxNanos = Math.max(row.maxNanos, nanos);
+			if (event.hasField("batchEvaluations")) {
+				row.evaluations += event.getLong("batchEvaluations");
+			} else {
+				row.evaluations = Math.max(row.evaluations, event.getLong("evaluations"));
+			}
+		}
+		return rows;
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			System.err.println("usage: RecordingSummary <recording.jfr>");
+			System.exit(1);
+		}
+		Map<String, Row> rows = summarize(Paths.get(args[0]));
+		System.out.printf("%-40s %10s %12s %12s %12s%n", "event / algorithm", "count", "total ms", "max ms", "evaluations");
+		for (Map.Entry<String, Row> e : rows.entrySet()) {
+			Row row = e.getValue();
+			System.out.printf("%-40s %10d %12.1f %12.2f %12d%n", e.getKey(), row.count,
+					row.totalNanos / 1e6, row.maxNanos / 1e6, row.evaluations);
+		}
+	}
+}
@@ -6,12 +6,20 @@ package la4am12.tentgaga;
  * @description : genetic algorithm
  */
 
+import la4am12.chaos.ChaosSequence;
+import la4am12.chaos.ChaoticMap;
+import la4am12.checkpoint.CheckpointRandom;
+import la4am12.checkpoint.CheckpointWriter;
+import la4am12.checkpoint.Snapshot;
+import la4am12.datacenter.BatchEvaluator;
+import la4am12.datacenter.Budget;
 import la4am12.datacenter.OptFunction;
+import la4am12.datacenter.SolutionExchange;
+import la4am12.telemetry.ProgressListener;
+import la4am12.telemetry.ProgressTracker;
 
 import java.util.*;
 
-import static la4am12.datacenter.chaosMap.*;
-
 public class TentGeneticAlgorithm {
     /**
      * optFunction: 优化函数，用于评估染色体的适应度。
@@ -33,12 +41,26 @@ public class TentGeneticAlgorithm {
     private double crossoverRate;
     private double mutationRate;
     private int tournamentSize;
-    private static final Random random = new Random();
+    // 每个实例独立的随机数生成器，其状态随检查点保存
+    private final CheckpointRandom random = new CheckpointRandom();
     private List<Chromosome> Chromosomes;
     Chromosome bestChromosome = null;
+    // 本次运行以来的最佳染色体（没有精英保留，当前代的最佳可能变差）
+    private Chromosome bestSoFar = null;
+    // 与其他算法交换最佳解，为 null 时不交换
+    private SolutionExchange exchange;
+    private double meanFitness;
+    private final ProgressTracker tracker;
+    // 检查点写入器，为 null 时不保存检查点
+    private CheckpointWriter checkpoint;
+    // 整代评估适应度（如交给远程工作进程），为 null 时逐个调用 optFunction
+    private BatchEvaluator batchEvaluator;
+    // 初始化种群用的混沌序列，默认为 Circle 映射
+    private ChaosSequence chaos = new ChaosSequence(ChaoticMap.CIRCLE, random);
 
     public TentGeneticAlgorithm(OptFunction optFunction, int population, double crossoverRate, double mutationRate, int boundary, int genesN, int tournamentSize, int maxGenerations) {
-        this.optFunction = optFunction;
+        this.tracker = new ProgressTracker("TentGA", genesN, boundary);
+        this.optFunction = tracker.counting(optFunction);
         this.population = population;
         this.crossoverRate = crossoverRate;
         this.mutationRate = mutationRate;
@@ -53,18 +75,18 @@ public class TentGeneticAlgorithm {
         if (Chromosomes == null) {
             // 创建一个ArrayList来存储染色体
             Chromosomes = new ArrayList<>();
+            double[] sequence = new double[genesN];
             // 遍历种群大小，创建每个个体
             for (int i = 0; i < population; i++) {
                 // 创建一个基因数组，长度为genesN
                 int[] genes = new int[genesN];
-                // 生成初始混沌值
-                double x = random.nextDouble();
+                // 每个个体从新的随机初始混沌值开始，一次生成整个个体的混沌值
+                chaos.reseed();
+                chaos.fill(sequence);
                 // 遍历基因数组，为每个基因赋予混沌值
                 for (int j = 0; j < genesN; j++) {
-                    // 使用Tent混沌映射生成下一个混沌值
-                    x = circleMap(x);
                     // 将混沌值转换为基因值，范围为0到boundary-1
-                    genes[j] = (int)(random.nextInt(boundary) * x);
+                    genes[j] = (int)(random.nextInt(boundary) * sequence[j]);
                 }
                 // 将基因数组作为参数创建一个新的染色体对象，并添加到Chromosomes列表中
                 Chromosomes.add(new Chromosome(genes));
@@ -73,11 +95,33 @@ public class TentGeneticAlgorithm {
     }
 
     public void evaluatePopulation() {
-        for (Chromosome chromosome : Chromosomes) {
-            double fitness = optFunction.calc(chromosome.getGenes());
-            chromosome.setFitness(fitness);
+        tracker.beginBatch();
+        double sum = 0;
+        if (batchEvaluator != null) {
+            int[][] genes = new int[Chromosomes.size()][];
+            for (int i = 0; i < genes.length; i++) {
+                genes[i] = Chromosomes.get(i).getGenes();
+            }
+            double[] fitness = new double[genes.length];
+            batchEvaluator.evaluate(genes, fitness);
+            tracker.addEvaluations(genes.length);
+            for (int i = 0; i < genes.length; i++) {
+                Chromosomes.get(i).setFitness(fitness[i]);
+                sum += fitness[i];
+            }
+        } else {
+            for (Chromosome chromosome : Chromosomes) {
+                double fitness = optFunction.calc(chromosome.getGenes());
+                chromosome.setFitness(fitness);
+                sum += fitness;
+            }
         }
+        meanFitness = sum / Chromosomes.size();
+        tracker.endBatch();
         bestChromosome = Collections.min(Chromosomes);
+        if (bestSoFar == null || bestChromosome.getFitness() < bestSoFar.getFitness()) {
+            bestSoFar = bestChromosome;
+        }
         // System.out.println(bestChromosome);
     }
 
@@ -131,13 +175,142 @@ public class TentGeneticAlgorithm {
 
     // 执行遗传算法
     public int[] run() {
+        return run(Budget.unlimited());
+    }
+
+    // 在预算内执行遗传算法，预算耗尽时返回目前为止的最佳解
+    public int[] run(Budget budget) {
+        tracker.start(budget);
+        // 每次运行都从新的种群开始，重复调用不会从上一次的种群继续
+        Chromosomes = null;
+        bestChromosome = null;
+        bestSoFar = null;
         initializePopulation();
         evaluatePopulation();
-        for (int i = 0; i < maxGenerations; i++) {
+        exchangeSolutions();
+        tracker.iterationDone(0, bestSoFar.getFitness(), meanFitness);
+        return evolve(0);
+    }
+
+    // 从检查点恢复种群、最佳染色体和随机数状态，继续执行剩余的代数
+    public int[] resume(Snapshot snapshot, Budget budget) {
+        snapshot.checkCompatible(tracker.getAlgorithm(), population, genesN);
+        tracker.resume(budget, snapshot.getEvaluations(), snapshot.getIteration());
+        random.setState(snapshot.getRngState());
+        double[][] genes = snapshot.getPopulation();
+        double[] fitness = snapshot.getFitness();
+        Chromosomes = new ArrayList<>();
+        for (int i = 0; i < genes.length; i++) {
+            Chromosome chromosome = new Chromosome(toGenes(genes[i]));
+            chromosome.setFitness(fitness[i]);
+            Chromosomes.add(chromosome);
+        }
+        bestChromosome = Collections.min(Chromosomes);
+        bestSoFar = new Chromosome(toGenes(snapshot.getIncumbent()));
+        bestSoFar.setFitness(snapshot.getIncumbentFitness());
+        meanFitness = snapshot.getMeanFitness();
+        return evolve(snapshot.getIteration());
+    }
+
+    // 从第 from 代之后继续进化，直到最大代数或预算耗尽
+    private int[] evolve(int from) {
+        for (int i = from; i < maxGenerations && !tracker.isExhausted(); i++) {
             evolvePopulation();
             evaluatePopulation();
+            exchangeSolutions();
+            tracker.iterationDone(i + 1, bestSoFar.getFitness(), meanFitness);
+            if (checkpoint != null && checkpoint.isDue(i + 1)) {
+                checkpoint.submit(snapshot(i + 1));
+            }
+        }
+        return bestSoFar.getGenes();
+    }
+
+    // 复制当前状态，编码和写盘在写入器的线程中完成
+    private Snapshot snapshot(int generation) {
+        double[][] genes = new double[Chromosomes.size()][];
+        double[] fitness = new double[Chromosomes.size()];
+        for (int i = 0; i < genes.length; i++) {
+            genes[i] = toPosition(Chromosomes.get(i).getGenes());
+            fitness[i] = Chromosomes.get(i).getFitness();
+        }
+        return new Snapshot(tracker.getAlgorithm(), generation, tracker.getEvaluations(), random.getState(), genes, fitness,
+                toPosition(bestSoFar.getGenes()), bestSoFar.getFitness(), meanFitness, new double[0]);
+    }
+
+    private static int[] toGenes(double[] position) {
+        return Arrays.stream(position).mapToInt((x) -> (int) x).toArray();
+    }
+
+    private static double[] toPosition(int[] genes) {
+        return Arrays.stream(genes).asDoubleStream().toArray();
+    }
+
+    // 提交本代最佳解，并用其他算法找到的更优解替换最差的染色体
+    private void exchangeSolutions() {
+        if (exchange == null) {
+            return;
+        }
+        exchange.offer(bestSoFar.getGenes(), bestSoFar.getFitness());
+        int[] migrant = exchange.poll();
+        if (migrant == null) {
+            return;
         }
-        return bestChromosome.getGenes();
+        Chromosome worst = Collections.max(Chromosomes);
+        if (worst == bestSoFar) {
+            return;
+        }
+        worst.setGenes(migrant);
+        worst.setFitness(optFunction.calc(migrant));
+        if (worst.getFitness() < bestSoFar.getFitness()) {
+            bestSoFar = worst;
+            bestChromosome = worst;
+        }
+    }
+
+    // 设置与其他算法交换最佳解的通道
+    public void setSolutionExchange(SolutionExchange exchange) {
+        this.exchange = exchange;
+    }
+
+    // 设置检查点写入器，每隔若干代在后台保存一次状态
+    public void setCheckpointWriter(CheckpointWriter checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    // 设置整代评估器，它必须与 optFunction 给出相同的适应度
+    public void setBatchEvaluator(BatchEvaluator batchEvaluator) {
+        this.batchEvaluator = batchEvaluator;
+    }
+
+    // 设置初始化种群用的混沌映射，默认为 Circle 映射，需在 run 之前调用
+    public void setChaoticMap(ChaoticMap map) {
+        chaos = new ChaosSequence(map, random);
+    }
+
+    // 设置随机数种子，需在 run 之前调用
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    // 设置每代结束后的进度监听器
+    public void setProgressListener(ProgressListener listener) {
+        tracker.setListener(listener);
+    }
+
+    // 本次运行的适应度评估次数
+    public long getEvaluations() {
+        return tracker.getEvaluations();
+    }
+
+    // 本次运行完成的代数
+    public int getIterations() {
+        return tracker.getIterations();
+    }
+
+    // 本次运行是否因预算耗尽而提前结束
+    public boolean isBudgetExhausted() {
+        return tracker.wasExhausted();
     }
 
     // 染色体类
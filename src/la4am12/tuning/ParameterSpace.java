@@ -0,0 +1,60 @@
+package la4am12.tuning;
+
+import la4am12.datacenter.Hyperparameters;
+
+import java.util.Random;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 11:52:36
+ * @description : ranges the tuner samples hyperparameters from, mutation rate is sampled log-uniformly
+ */
+public class ParameterSpace {
+	private final int minPopulation, maxPopulation;
+	private final int minGenerations, maxGenerations;
+	private final double minCrossover, maxCrossover;
+	private final double minMutation, maxMutation;
+	private final double minTournament, maxTournament;
+	private final double minPhaseOut, maxPhaseOut;
+
+	public ParameterSpace(int minPopulation, int maxPopulation,
+						  int minGenerations, int maxGenerations,
+						  double minCrossover, double maxCrossover,
+						  double minMutation, double maxMutation,
+						  double minTournament, double maxTournament,
+						  double minPhaseOut, double maxPhaseOut) {
+		this.minPopulation = minPopulation;
+		this.maxPopulation = maxPopulation;
+		this.minGenerations = minGenerations;
+		this.maxGenerations = maxGenerations;
+		this.minCrossover = minCrossover;
+		this.maxCrossover = maxCrossover;
+		this.minMutation = minMutation;
+		this.maxMutation = maxMutation;
+		this.minTournament = minTournament;
+		this.maxTournament = maxTournament;
+		this.minPhaseOut = minPhaseOut;
+		this.maxPhaseOut = maxPhaseOut;
+	}
+
+	/**
+	 * ranges around the hand-tuned settings of the schedulers
+	 */
+	public static ParameterSpace defaultSpace() {
+		return new ParameterSpace(20, 200, 50, 1000, 0.3, 0.9, 1e-4, 5e-2, 0.01, 0.3, 0.05, 0.5);
+	}
+
+	public Hyperparameters sample(Random random) {
+		return new Hyperparameters(
+				minPopulation + random.nextInt(maxPopulation - minPopulation + 1),
+				minGenerations + random.nextInt(maxGenerations - minGenerations + 1),
+				uniform(random, minCrossover, maxCrossover),
+				Math.exp(uniform(random, Math.log(minMutation), Math.log(maxMutation))),
+				uniform(random, minTournament, maxTournament),
+				uniform(random, minPhaseOut, maxPhaseOut));
+	}
+
+	private static double uniform(Random random, double min, double max) {
+		return min + (max - min) * random.nextDouble();
+	}
+}
@@ -0,0 +1,19 @@
+package la4am12.tuning;
+
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Hyperparameters;
+import la4am12.datacenter.Scheduler;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Vm;
+
+import java.util.List;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 11:48:10
+ * @description : creates a scheduler with given hyperparameters, e.g. GAScheduler::new
+ */
+@FunctionalInterface
+public interface TunableSchedulerFactory {
+	Scheduler create(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet, Hyperparameters params);
+}
@@ -0,0 +1,239 @@
+package la4am12.tuning;
+
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Hyperparameters;
+import la4am12.datacenter.Scheduler;
+import la4am12.datacenter.Workload;
+import la4am12.ga.GAScheduler;
+import la4am12.hwga.HWGAScheduler;
+import la4am12.tentgaga.TentGAScheduler;
+import la4am12.woa.WOAScheduler;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 12:06:15
+ * @description : races hyperparameter configurations with successive halving
+ * <p>
+ * Every run gets the same wall-clock budget. In round r each surviving configuration is evaluated on the first
+ * initialInstances * 2^r instances of the size class (earlier results are reused), then the worse half by mean
+ * score is eliminated, until one configuration is left or all instances are used. The default configuration
+ * always takes part and, if eliminated early, is afterwards run on the rest of the winner's instances, so both
+ * scores are means over the same instances and the result shows what tuning gained. Runs of a round execute in
+ * parallel.
+ */
+public class Tuner {
+	private final TunableSchedulerFactory factory;
+	private final Hyperparameters defaults;
+	private final ParameterSpace space;
+	private final Duration runBudget;
+	private final int parallelism;
+	private ToDoubleBiFunction<Scheduler, int[]> score = Scheduler::estimateFitness;
+	private int candidateNum = 16;
+	private int initialInstances = 1;
+	private int maxInstances = 8;
+	private int vmClasses = 3;
+	private long seed = 0;
+
+	/**
+	 * @param factory     scheduler being tuned
+	 * @param defaults    its hand-tuned configuration
+	 * @param space       where candidate configurations are sampled
+	 * @param runBudget   wall time of each scheduler run
+	 * @param parallelism concurrent runs, at most the number of cores for fair timing
+	 */
+	public Tuner(TunableSchedulerFactory factory, Hyperparameters defaults, ParameterSpace space, Duration runBudget, int parallelism) {
+		this.factory = factory;
+		this.defaults = defaults;
+		this.space = space;
+		this.runBudget = runBudget;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * @param score score of an assignment, smaller is better; estimateFitness by default
+	 */
+	public Tuner setScore(ToDoubleBiFunction<Scheduler, int[]> score) {
+		this.score = score;
+		return this;
+	}
+
+	/**
+	 * @param candidateNum configurations in the first round, including the defaults
+	 */
+	public Tuner setCandidateNum(int candidateNum) {
+		this.candidateNum = candidateNum;
+		return this;
+	}
+
+	public Tuner setInstances(int initialInstances, int maxInstances) {
+		this.initialInstances = initialInstances;
+		this.maxInstances = maxInstances;
+		return this;
+	}
+
+	public Tuner setSeed(long seed) {
+		this.seed = seed;
+		return this;
+	}
+
+	/**
+	 * races the configurations on one size class
+	 */
+	public TuningResult tune(int cloudletNum, int vmNum) throws InterruptedException {
+		Random random = new Random(seed);
+		List<Hyperparameters> candidates = new ArrayList<>();
+		candidates.add(defaults);
+		while (candidates.size() < candidateNum) {
+			candidates.add(space.sample(random));
+		}
+
+		Fleet fleet = Fleet.generate(Math.min(vmClasses, vmNum), vmNum);
+		List<Vm> vmList = Workload.createVms(0, fleet);
+		List<List<Cloudlet>> instances = new ArrayList<>();
+		for (int k = 0; k < maxInstances; k++) {
+			instances.add(Workload.createCloudlets(0, cloudletNum, new Random(seed * 31 + k)));
+		}
+
+		double[][] scores = new double[candidates.size()][maxInstances];
+		for (double[] row : scores) {
+			Arrays.fill(row, Double.NaN);
+		}
+		List<Integer> alive = new ArrayList<>();
+		for (int c = 0; c < candidates.size(); c++) {
+			alive.add(c);
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+		int runs = 0;
+		int used = Math.min(initialInstances, maxInstances);
+		try {
+			while (true) {
+				runs += fill(executor, alive, used, candidates, instances, vmList, fleet, scores);
+
+				final int n = used;
+				alive.sort((a, b) -> Double.compare(mean(scores[a], n), mean(scores[b], n)));
+				if (alive.size() == 1 || used == maxInstances) {
+					break;
+				}
+				alive = new ArrayList<>(alive.subList(0, (alive.size() + 1) / 2));
+				used = Math.min(used * 2, maxInstances);
+			}
+			// the default may have been eliminated before the last round; score it on the winner's instances too
+			runs += fill(executor, List.of(0), used, candidates, instances, vmList, fleet, scores);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("tuning run failed", e.getCause());
+		} finally {
+			executor.shutdown();
+		}
+
+		int winner = alive.get(0);
+		return new TuningResult(cloudletNum, vmNum, candidates.get(winner), mean(scores[winner], used),
+				mean(scores[0], used), used, runs);
+	}
+
+	/**
+	 * runs each of the given configurations on those of the first n instances it has no score for, in parallel
+	 *
+	 * @return number of runs
+	 */
+	private int fill(ExecutorService executor, List<Integer> configurations, int n, List<Hyperparameters> candidates,
+					 List<List<Cloudlet>> instances, List<Vm> vmList, Fleet fleet, double[][] scores)
+			throws InterruptedException, ExecutionException {
+		List<Future<?>> pending = new ArrayList<>();
+		for (int c : configurations) {
+			for (int k = 0; k < n; k++) {
+				if (!Double.isNaN(scores[c][k])) {
+					continue;
+				}
+				final int candidate = c;
+				final int instance = k;
+				pending.add(executor.submit(() -> {
+					scores[candidate][instance] = run(candidates.get(candidate), instances.get(instance), vmList, fleet);
+				}));
+			}
+		}
+		for (Future<?> f : pending) {
+			f.get();
+		}
+		return pending.size();
+	}
+
+	private double run(Hyperparameters params, List<Cloudlet> cloudlets, List<Vm> vmList, Fleet fleet) {
+		Scheduler scheduler = factory.create(new ArrayList<>(cloudlets), new ArrayList<>(vmList), fleet, params);
+		int[] cloudletToVm = scheduler.allocate(Budget.timeout(runBudget)).getCloudletToVm();
+		return score.applyAsDouble(scheduler, cloudletToVm);
+	}
+
+	/**
+	 * mean of the scores measured among the first n instances
+	 */
+	private static double mean(double[] scores, int n) {
+		double sum = 0;
+		int count = 0;
+		for (int k = 0; k < n; k++) {
+			if (!Double.isNaN(scores[k])) {
+				sum += scores[k];
+				count++;
+			}
+		}
+		return count == 0 ? Double.NaN : sum / count;
+	}
+
+	/**
+	 * usage: Tuner &lt;GA|TentGA|WOA|HWGA&gt; &lt;run budget ms&gt; [cloudletNum x vmNum ...]
+	 * <p>
+	 * e.g. {@code Tuner GA 500 300x9 3000x9 30000x90} prints the best configuration per size class
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		if (args.length < 2) {
+			System.err.println("usage: Tuner <GA|TentGA|WOA|HWGA> <run budget ms> [cloudletNum x vmNum ...]");
+			System.exit(1);
+		}
+		TunableSchedulerFactory factory;
+		Hyperparameters defaults;
+		switch (args[0]) {
+			case "GA":
+				factory = GAScheduler::new;
+				defaults = GAScheduler.DEFAULTS;
+				break;
+			case "TentGA":
+				factory = TentGAScheduler::new;
+				defaults = TentGAScheduler.DEFAULTS;
+				break;
+			case "WOA":
+				factory = WOAScheduler::new;
+				defaults = WOAScheduler.DEFAULTS;
+				break;
+			case "HWGA":
+				factory = HWGAScheduler::new;
+				defaults = HWGAScheduler.DEFAULTS;
+				break;
+			default:
+				throw new IllegalArgumentException("unknown algorithm: " + args[0]);
+		}
+		Duration budget = Duration.ofMillis(Long.parseLong(args[1]));
+		String[] sizes = args.length > 2 ? Arrays.copyOfRange(args, 2, args.length) : new String[]{"300x9", "3000x9", "30000x90"};
+
+		Log.setDisabled(true);
+		Tuner tuner = new Tuner(factory, defaults, ParameterSpace.defaultSpace(), budget, Runtime.getRuntime().availableProcessors());
+		for (String size : sizes) {
+			String[] parts = size.split("x");
+			System.out.println(args[0] + " " + tuner.tune(Integer.parseInt(parts[0]), Integer.parseInt(parts[1])));
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package la4am12.tuning;
+
+import la4am12.datacenter.Hyperparameters;
+
+/**
+ * @author : LA4AM12
+ * @create : 2026-10-20 11:58:27
+ * @description : winner of a race on one size class
+ */
+public class TuningResult {
+	private final int cloudletNum;
+	private final int vmNum;
+	private final Hyperparameters best;
+	private final double bestScore;
+	private final double defaultScore;
+	private final int instances;
+	private final int runs;
+
+	/**
+	 * @param best         winning configuration
+	 * @param bestScore    its mean score on the instances it was raced on
+	 * @param defaultScore mean score of the default configuration on the same instances as the winner
+	 * @param instances    instances the winner was evaluated on
+	 * @param runs         scheduler runs spent on the race, including those scoring the default on the remaining instances
+	 */
+	public TuningResult(int cloudletNum, int vmNum, Hyperparameters best, double bestScore, double defaultScore, int instances, int runs) {
+		this.cloudletNum = cloudletNum;
+		this.vmNum = vmNum;
+		this.best = best;
+		this.bestScore = bestScore;
+		this.defaultScore = defaultScore;
+		this.instances = instances;
+		this.runs = runs;
+	}
+
+	public int getCloudletNum() {
+		return cloudletNum;
+	}
+
+	public int getVmNum() {
+		return vmNum;
+	}
+
+	public Hyperparameters getBest() {
+		return best;
+	}
+
+	public double getBestScore() {
+		return bestScore;
+	}
+
+	public double getDefaultScore() {
+		return defaultScore;
+	}
+
+	public int getInstances() {
+		return instances;
+	}
+
+	public int getRuns() {
+		return runs;
+	}
+
+	@Override
+	public String toString() {
+		return cloudletNum + "x" + vmNum + ": " + best + " score=" + bestScore + " (default " + defaultScore
+				+ ", " + instances + " instances, " + runs + " runs)";
+	}
+}
@@ -1,7 +1,16 @@
 package la4am12.woa;
 
 
+import la4am12.chaos.ChaoticMap;
+import la4am12.checkpoint.CheckpointWriter;
+import la4am12.checkpoint.Snapshot;
+import la4am12.datacenter.AllocationResult;
+import la4am12.datacenter.Budget;
+import la4am12.datacenter.Fleet;
+import la4am12.datacenter.Hyperparameters;
 import la4am12.datacenter.Scheduler;
+import la4am12.datacenter.SolutionExchange;
+import la4am12.telemetry.ProgressListener;
 import org.cloudbus.cloudsim.Cloudlet;
 import org.cloudbus.cloudsim.Log;
 import org.cloudbus.cloudsim.Vm;
@@ -20,9 +29,20 @@ public class WOAScheduler extends Scheduler {
 
 	private static final int MAX_ITER = 500;
 
+	// WOA has no genetic operators, only population size and iterations apply
+	public static final Hyperparameters DEFAULTS = new Hyperparameters(POPULATION, MAX_ITER, 0, 0, 0, 0);
+
 	public WOAScheduler(List<Cloudlet> cloudletList, List<Vm> vmList) {
-		super(cloudletList, vmList);
-		this.woa = new WhaleOptimizationAlgorithm(this::estimateFitness, POPULATION, 0, vmNum-1, cloudletNum, MAX_ITER, true);
+		this(cloudletList, vmList, Fleet.of(vmList));
+	}
+
+	public WOAScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet) {
+		this(cloudletList, vmList, fleet, DEFAULTS);
+	}
+
+	public WOAScheduler(List<Cloudlet> cloudletList, List<Vm> vmList, Fleet fleet, Hyperparameters params) {
+		super(cloudletList, vmList, fleet);
+		this.woa = new WhaleOptimizationAlgorithm(this::estimateFitness, params.getPopulationSize(), 0, vmNum-1, cloudletNum, params.getMaxGenerations(), true);
 		Log.printLine("Using WOGA scheduler");
 	}
 
@@ -30,4 +50,55 @@ public class WOAScheduler extends Scheduler {
 	public int[] allocate() {
 		return woa.execute();
 	}
+
+	@Override
+	public AllocationResult allocate(Budget budget) {
+		long start = System.nanoTime();
+		int[] cloudletToVm = woa.execute(budget);
+		return new AllocationResult(cloudletToVm, woa.getEvaluations(), System.nanoTime() - start,
+				woa.getIterations(), woa.isBudgetExhausted());
+	}
+
+	@Override
+	public void setProgressListener(ProgressListener listener) {
+		woa.setProgressListener(listener);
+	}
+
+	@Override
+	public long getEvaluations() {
+		return woa.getEvaluations();
+	}
+
+	@Override
+	public void setSolutionExchange(SolutionExchange exchange) {
+		woa.setSolutionExchange(exchange);
+	}
+
+	@Override
+	public void setCheckpointWriter(CheckpointWriter writer) {
+		woa.setCheckpointWriter(writer);
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		woa.setSeed(seed);
+	}
+
+	@Override
+	public void setChaoticMap(ChaoticMap map) {
+		woa.setChaoticMap(map);
+	}
+
+	@Override
+	public void setAdaptive(boolean adaptive) {
+		woa.setAdaptive(adaptive);
+	}
+
+	@Override
+	public AllocationResult resume(Snapshot snapshot, Budget budget) {
+		long start = System.nanoTime();
+		int[] cloudletToVm = woa.resume(snapshot, budget);
+		return new AllocationResult(cloudletToVm, woa.getEvaluations(), System.nanoTime() - start,
+				woa.getIterations(), woa.isBudgetExhausted());
+	}
 }
@@ -1,9 +1,18 @@
 package la4am12.woa;
 
+import la4am12.adaptive.SuccessRule;
+import la4am12.chaos.ChaosSequence;
+import la4am12.chaos.ChaoticMap;
+import la4am12.checkpoint.CheckpointRandom;
+import la4am12.checkpoint.CheckpointWriter;
+import la4am12.checkpoint.Snapshot;
+import la4am12.datacenter.Budget;
 import la4am12.datacenter.OptFunction;
+import la4am12.datacenter.SolutionExchange;
+import la4am12.telemetry.ProgressListener;
+import la4am12.telemetry.ProgressTracker;
 
 import java.util.Arrays;
-import java.util.Random;
 
 /**
  * @author : LA4AM12
@@ -20,9 +29,24 @@ public class WhaleOptimizationAlgorithm {
     private double[] convergenceCurve;
     private double[] optimalPos;
     private double optimalScore;
+    private double meanScore;
+    private final ProgressTracker tracker;
+    private SolutionExchange exchange;
+    // 每个实例独立的随机数生成器，其状态随检查点保存
+    private final CheckpointRandom random = new CheckpointRandom();
+    private CheckpointWriter checkpoint;
+    // 初始化种群用的混沌序列，为 null 时用 random 均匀生成
+    private ChaosSequence chaos;
+    // 自适应控制参数 a，为 null 时 a 随迭代次数线性减小
+    private SuccessRule aControl;
+    // 自适应模式下每个搜索代理上一次的适应度，用于判断位置更新是否成功
+    private double[] previousFitness;
+    // 当前位置的适应度是否已计算（位置更新或恢复后需重新计算）
+    private boolean evaluated;
 
     public WhaleOptimizationAlgorithm(OptFunction optFunction, int population, int lb, int ub, int dim, int maxIter, boolean minimize) {
-        this.optFunction = optFunction;
+        this.tracker = new ProgressTracker("WOA", dim, ub - lb + 1);
+        this.optFunction = tracker.counting(optFunction);
         this.population = population;
         this.lb = lb;
         this.ub = ub;
@@ -64,21 +88,27 @@ public class WhaleOptimizationAlgorithm {
      * 初始化种群位置
      * 该方法用于在搜索空间内随机初始化种群的位置
      * 每个个体的位置是一个dim维的向量，整个种群由population个个体组成
-     * 位置的每个维度都在[lb, ub]范围内，以确保初始位置的多样性
+     * 位置的每个维度都在[lb, ub]范围内，以确保初始位置的多样性，设置了混沌映射时由混沌序列生成
      */
     private void initPopulation() {
-        // 创建一个随机数生成器
-        Random rand = new Random();
-
         // 初始化种群位置数组，行数为种群大小，列数为问题维度
         this.positions = new double[population][dim];
+        evaluated = false;
 
         // 遍历种群中的每个个体
         for (int i = 0; i < population; i++) {
+            if (chaos != null) {
+                // 一次生成整个个体的混沌值，再映射到[lb, ub]
+                chaos.fill(positions[i]);
+                for (int j = 0; j < dim; j++) {
+                    positions[i][j] = lb + (ub - lb) * positions[i][j];
+                }
+                continue;
+            }
             // 遍历每个维度
             for (int j = 0; j < dim; j++) {
                 // 在[lb, ub]范围内随机生成每个维度的位置值
-                positions[i][j] = lb + (ub - lb) * rand.nextDouble();
+                positions[i][j] = lb + (ub - lb) * random.nextDouble();
             }
         }
     }
@@ -89,6 +119,8 @@ public class WhaleOptimizationAlgorithm {
      * 根据目标函数计算搜索代理的适应度值，并在找到更好的解时更新最优解。
      */
     private void calcFitness() {
+        tracker.beginBatch();
+        double sum = 0;
         // 遍历种群中的每个搜索代理
         for (int i = 0; i < population; i++) {
             // 将超出搜索空间边界的搜索代理位置调整回边界内
@@ -97,6 +129,14 @@ public class WhaleOptimizationAlgorithm {
             // 计算每个搜索代理的目标函数值
             int[] params = Arrays.stream(positions[i]).mapToInt((x) -> (int) x).toArray();
             double fitness = optFunction.calc(params);
+            sum += fitness;
+            if (aControl != null) {
+                // 第一次评估和领导者（不参与位置更新）不计入成功率
+                if (i > 0 && !Double.isNaN(previousFitness[i])) {
+                    aControl.record(minimize ? fitness < previousFitness[i] : fitness > previousFitness[i]);
+                }
+                previousFitness[i] = fitness;
+            }
 
             // 更新最优解
             if (minimize && fitness < optimalScore || !minimize && fitness > optimalScore) {
@@ -104,6 +144,9 @@ public class WhaleOptimizationAlgorithm {
                 System.arraycopy(positions[i], 0, optimalPos, 0, dim);
             }
         }
+        meanScore = sum / population;
+        tracker.endBatch();
+        evaluated = true;
     }
 
 
@@ -116,11 +159,10 @@ public class WhaleOptimizationAlgorithm {
      * @param a2 控制参数，与参数 a 一起影响算法行为
      */
     private void updatePosition(double a, double a2) {
-        Random rand = new Random();
         // 遍历种群中的每个个体，除了最优解个体
         for (int i = 1; i < population; i++) {
-            double r1 = rand.nextDouble();
-            double r2 = rand.nextDouble();
+            double r1 = random.nextDouble();
+            double r2 = random.nextDouble();
             // 计算系数 A，用于模拟灰狼的社会行为
             double A = 2.0 * a * r1 - a;                            // Eq. (2.3) in the paper
             // 计算系数 C，与系数 A 一起用于更新个体位置
@@ -128,9 +170,9 @@ public class WhaleOptimizationAlgorithm {
             // b 参数用于控制螺旋更新的位置
             double b = 1.0;                                         // parameters in Eq. (2.5)
             // l 参数与 b 参数一起用于模拟灰狼的螺旋搜索行为
-            double l = (a2 - 1.0) * rand.nextDouble() + 1.0;        // parameters in Eq. (2.5)
+            double l = (a2 - 1.0) * random.nextDouble() + 1.0;        // parameters in Eq. (2.5)
             // p 用于决定使用哪种位置更新方式
-            double p = rand.nextDouble();                           // p in Eq. (2.6)
+            double p = random.nextDouble();                           // p in Eq. (2.6)
 
             // 遍历每个维度，更新个体的位置
             for (int j = 0; j < dim; j++) {
@@ -142,7 +184,7 @@ public class WhaleOptimizationAlgorithm {
                         positions[i][j] = optimalPos[j] - A * D_Leader;      // Eq. (2.2)
                     } else {
                         // 随机选择一个个体作为参考
-                        int randWhaleIdx = rand.nextInt(population);
+                        int randWhaleIdx = random.nextInt(population);
                         double[] randomPos = positions[randWhaleIdx];
                         // 计算随机选择的个体与当前个体的距离
                         double D_X_rand = Math.abs(C * randomPos[j] - positions[i][j]); // Eq. (2.7)
@@ -160,6 +202,55 @@ public class WhaleOptimizationAlgorithm {
         }
     }
 
+    /**
+     * 执行一次迭代：计算适应度、记录收敛曲线并更新位置。
+     *
+     * @param iter 当前迭代次数，决定参数 a 和 a2 的取值
+     */
+    public void iterate(int iter) {
+        // 计算并更新当前种群的适应度值，初始种群在 execute 中已经计算过。
+        if (!evaluated) {
+            calcFitness();
+        }
+        // 记录当前迭代的最优适应度值，用于绘制收敛曲线。
+        convergenceCurve[iter] = optimalScore;
+        exchangeSolutions();
+        tracker.iterationDone(iter, optimalScore, meanScore);
+
+        // a 按照公式 (2.3) 从 2 线性减少到 0
+        double a = 2.0 - (double) iter * (2.0 / maxIter);
+
+        // a2 按照公式 (3.12) 从 -1 线性减少到 -2
+        double a2 = -1.0 + (double) iter * (-1.0 / maxIter);
+
+        if (aControl != null) {
+            // 自适应模式下 a 按 1/5 成功法则调整，a2 与 a 保持线性调度中的对应关系
+            a = aControl.update();
+            a2 = -2.0 + a / 2.0;
+        }
+
+        // 根据当前的 a 和 a2 值更新每个解的位置。
+        updatePosition(a, a2);
+        evaluated = false;
+    }
+
+    /**
+     * 提交当前最优解，并把其他算法找到的更优解放入一个随机的非领导者个体，下次计算适应度时生效。
+     */
+    private void exchangeSolutions() {
+        if (exchange == null) {
+            return;
+        }
+        exchange.offer(Arrays.stream(optimalPos).mapToInt((x) -> (int) x).toArray(), optimalScore);
+        int[] migrant = exchange.poll();
+        if (migrant != null && population > 1) {
+            int agent = 1 + random.nextInt(population - 1);
+            for (int j = 0; j < dim; j++) {
+                positions[agent][j] = migrant[j];
+            }
+        }
+    }
+
     /**
      * 执行优化算法的主要循环。
      * <p>
@@ -168,29 +259,149 @@ public class WhaleOptimizationAlgorithm {
      * @return 返回完成优化过程后的最优解位置整数数组。
      */
     public int[] execute() {
-        // 迭代执行优化过程，直到达到最大迭代次数。
-        for (int iter = 0; iter < maxIter; iter++) {
-            // 计算并更新当前种群的适应度值。
-            calcFitness();
-            // 记录当前迭代的最优适应度值，用于绘制收敛曲线。
-            convergenceCurve[iter] = optimalScore;
+        return execute(Budget.unlimited());
+    }
 
-            // a 按照公式 (2.3) 从 2 线性减少到 0
-            double a = 2.0 - (double) iter * (2.0 / maxIter);
+    /**
+     * 在预算内执行优化算法，预算耗尽时提前结束，返回目前为止的最优解。
+     *
+     * @param budget 时间和适应度评估次数的预算，每次迭代前检查
+     * @return 返回最优解位置整数数组。
+     */
+    public int[] execute(Budget budget) {
+        tracker.start(budget);
+        // 每次运行都从新的种群、最优解和自适应状态开始，重复调用不会返回上一次运行的最优解
+        optimalScore = minimize ? Double.MAX_VALUE : -Double.MAX_VALUE;
+        Arrays.fill(optimalPos, 0);
+        Arrays.fill(convergenceCurve, 0);
+        if (aControl != null) {
+            setAdaptive(true);
+        }
+        initPopulation();
+        // 在第一次检查预算之前评估初始种群，预算一开始就耗尽时返回的也是评估过的解
+        calcFitness();
+        return optimize(0);
+    }
 
-            // a2 按照公式 (3.12) 从 -1 线性减少到 -2
-            double a2 = -1.0 + (double) iter * (-1.0 / maxIter);
+    /**
+     * 从检查点恢复位置、最优解、收敛曲线和随机数状态，继续执行剩余的迭代。
+     *
+     * @param snapshot 同一问题上保存的检查点
+     * @param budget   恢复后的预算
+     * @return 返回最优解位置整数数组。
+     */
+    public int[] resume(Snapshot snapshot, Budget budget) {
+        snapshot.checkCompatible(tracker.getAlgorithm(), population, dim);
+        tracker.resume(budget, snapshot.getEvaluations(), snapshot.getIteration());
+        random.setState(snapshot.getRngState());
+        double[][] saved = snapshot.getPopulation();
+        for (int i = 0; i < population; i++) {
+            System.arraycopy(saved[i], 0, positions[i], 0, dim);
+        }
+        System.arraycopy(snapshot.getIncumbent(), 0, optimalPos, 0, dim);
+        optimalScore = snapshot.getIncumbentFitness();
+        meanScore = snapshot.getMeanFitness();
+        double[] curve = snapshot.getCurve();
+        System.arraycopy(curve, 0, convergenceCurve, 0, Math.min(curve.length, maxIter));
+        evaluated = false;
+        return optimize(snapshot.getIteration());
+    }
 
-            // 根据当前的 a 和 a2 值更新每个解的位置。
-            updatePosition(a, a2);
+    /**
+     * 从第 from 次迭代开始执行，每完成检查点间隔的迭代次数保存一次状态。
+     */
+    private int[] optimize(int from) {
+        // 迭代执行优化过程，直到达到最大迭代次数或预算耗尽。
+        for (int iter = from; iter < maxIter && !tracker.isExhausted(); iter++) {
+            iterate(iter);
+            if (checkpoint != null && checkpoint.isDue(iter + 1)) {
+                checkpoint.submit(snapshot(iter + 1));
+            }
+        }
+        // 在循环结束后重新计算适应度，确保最终解的适应度值是最新的；预算已耗尽时不再评估。
+        if (!tracker.isExhausted()) {
+            calcFitness();
+            tracker.iterationDone(maxIter, optimalScore, meanScore);
         }
-        // 在循环结束后重新计算适应度，确保最终解的适应度值是最新的。
-        calcFitness();
         // 将最优解位置转换为整数数组并返回。
         return Arrays.stream(optimalPos).map(Math::round).mapToInt((x) -> (int) x).toArray();
     }
 
 
+    /**
+     * 复制当前状态，不含适应度值（恢复后的下一次迭代会重新计算），编码和写盘在写入器的线程中完成。
+     */
+    private Snapshot snapshot(int iteration) {
+        double[][] saved = new double[population][];
+        for (int i = 0; i < population; i++) {
+            saved[i] = positions[i].clone();
+        }
+        return new Snapshot(tracker.getAlgorithm(), iteration, tracker.getEvaluations(), random.getState(), saved, new double[0],
+                optimalPos.clone(), optimalScore, meanScore, Arrays.copyOf(convergenceCurve, iteration));
+    }
+
+    /**
+     * 设置检查点写入器，每隔若干次迭代在后台保存一次状态
+     */
+    public void setCheckpointWriter(CheckpointWriter checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * 设置初始化种群用的混沌映射（null 表示均匀随机）并重新初始化种群，需在 execute 之前调用
+     */
+    public void setChaoticMap(ChaoticMap map) {
+        chaos = map == null ? null : new ChaosSequence(map, random);
+        initPopulation();
+    }
+
+    /**
+     * 开启或关闭控制参数 a 的自适应调整，需在 execute 之前调用
+     * 开启后 a 从 2 出发，按 1/5 成功法则在 [0.02, 2] 内调整：位置更新后变好的搜索代理超过五分之一时增大 a
+     * 以扩大搜索范围，否则减小 a 以收缩到领导者附近，不再依赖预算内未必能跑满的 maxIter。自适应状态不随检查点保存
+     */
+    public void setAdaptive(boolean adaptive) {
+        aControl = adaptive ? new SuccessRule(2.0, 0.02, 2.0) : null;
+        previousFitness = adaptive ? new double[population] : null;
+        if (adaptive) {
+            Arrays.fill(previousFitness, Double.NaN);
+        }
+    }
+
+    /**
+     * 设置随机数种子并用它重新初始化种群，需在 execute 之前调用
+     */
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+        initPopulation();
+    }
+
+    /**
+     * 设置与其他算法交换最优解的通道
+     */
+    public void setSolutionExchange(SolutionExchange exchange) {
+        this.exchange = exchange;
+    }
+
+    /**
+     * 设置每次迭代结束后的进度监听器
+     */
+    public void setProgressListener(ProgressListener listener) {
+        tracker.setListener(listener);
+    }
+
+    public long getEvaluations() {
+        return tracker.getEvaluations();
+    }
+
+    public int getIterations() {
+        return tracker.getIterations();
+    }
+
+    public boolean isBudgetExhausted() {
+        return tracker.wasExhausted();
+    }
+
     public double[] getConvergenceCurve() {
         return convergenceCurve;
     }